@@ -36,6 +36,10 @@ dependencies {
 
     compileOnly("com.google.errorprone:error_prone_annotations:2.16")
     compileOnly("org.jetbrains:annotations:23.0.0")
+
+    testImplementation("org.junit.jupiter:junit-jupiter:5.9.1")
+    testImplementation("com.squareup.okhttp3:mockwebserver:4.10.0")
+    testCompileOnly("org.jetbrains:annotations:23.0.0")
 }
 
 group = "dev.blocky.library"
@@ -49,6 +53,11 @@ java {
     withJavadocJar()
 }
 
+tasks.test {
+    useJUnitPlatform()
+    jvmArgs("--add-modules", "jdk.incubator.concurrent")
+}
+
 val jar by tasks.getting(Jar::class) {
     manifest {
         attributes["Automatic-Module-Name"] = "tixte4j"
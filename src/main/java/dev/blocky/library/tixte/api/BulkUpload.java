@@ -0,0 +1,294 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.RequestPriority;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Uploads many files in parallel with a bounded count of concurrent uploads.
+ *
+ * <p>Every upload gets enqueued on the {@link okhttp3.Dispatcher} of the shared client, so the uploads run through the
+ * same interceptors (including the rate-limit handling) as every other request.
+ * <br>As soon as an upload completes, the next pending file gets enqueued, so there are never more than
+ * {@link #getConcurrency()} uploads of this bulk upload in flight.
+ * <br>Every upload gets sent with {@link RequestPriority#BACKGROUND}, so interactive requests don't have to wait for them.
+ *
+ * <p>The results can be consumed in completion order by iterating over this object, or all at once with
+ * {@link #getResults()}. Every file gets exactly one {@link BulkUploadResult}, also if its upload failed or got
+ * cancelled by {@link #close()}.
+ *
+ * @author BlockyDotJar
+ * @version v1.2.0
+ * @since v1.2.0
+ */
+public final class BulkUpload implements Iterator<BulkUploadResult>, AutoCloseable
+{
+    private final BlockingQueue<BulkUploadResult> completed = new LinkedBlockingQueue<>();
+    private final Set<CompletableFuture<UploadResult>> running = ConcurrentHashMap.newKeySet();
+    private final CompletableFuture<List<BulkUploadResult>> results = new CompletableFuture<>();
+    private final AtomicInteger refills = new AtomicInteger();
+    private final List<BulkUploadResult> resultList;
+    private final Iterator<UploadSource> pending;
+    private final String domain;
+    private final boolean privateFiles;
+    private final int concurrency, totalCount;
+    private boolean cancelled;
+    private int returned;
+
+    BulkUpload(@NotNull List<UploadSource> sources, @Nullable String domain, boolean privateFiles, int concurrency)
+    {
+        this.resultList = new ArrayList<>(sources.size());
+        this.pending = List.copyOf(sources).iterator();
+        this.domain = domain;
+        this.privateFiles = privateFiles;
+        this.concurrency = concurrency;
+        this.totalCount = sources.size();
+
+        if (totalCount == 0)
+        {
+            results.complete(List.of());
+            return;
+        }
+
+        for (int i = 0; i < Math.min(concurrency, totalCount); i++)
+        {
+            refill();
+        }
+    }
+
+    /**
+     * Gets the maximal count of uploads, which are in flight at the same time.
+     *
+     * @return The maximal count of concurrent uploads.
+     */
+    public int getConcurrency()
+    {
+        return concurrency;
+    }
+
+    /**
+     * Gets the count of files, which are part of this bulk upload.
+     *
+     * @return The count of files.
+     */
+    public int getTotalCount()
+    {
+        return totalCount;
+    }
+
+    /**
+     * Gets the count of files, which already got a {@link BulkUploadResult}.
+     *
+     * @return The count of completed files.
+     */
+    public int getCompletedCount()
+    {
+        synchronized (resultList)
+        {
+            return resultList.size();
+        }
+    }
+
+    /**
+     * Gets a {@link CompletableFuture}, which completes as soon as every file got a {@link BulkUploadResult}.
+     * <br>The results are in completion order and this future never completes exceptionally.
+     *
+     * @return A {@link CompletableFuture}, which completes with every {@link BulkUploadResult}.
+     */
+    @NotNull
+    public CompletableFuture<List<BulkUploadResult>> getResults()
+    {
+        return results;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return returned < totalCount;
+    }
+
+    /**
+     * Waits for the next completed upload.
+     *
+     * @throws NoSuchElementException If every result was already returned.
+     * @throws CancellationException If the current thread was interrupted while waiting.
+     *
+     * @return The next {@link BulkUploadResult} in completion order.
+     */
+    @NotNull
+    @Override
+    public BulkUploadResult next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        try
+        {
+            final BulkUploadResult result = completed.take();
+
+            returned++;
+            return result;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the next upload.");
+        }
+    }
+
+    /**
+     * Creates a lazy, sequential {@link Stream} of every {@link BulkUploadResult} in completion order.
+     * <br>Closing the stream cancels every upload, which didn't complete yet.
+     *
+     * @return A lazy {@link Stream} of every {@link BulkUploadResult}.
+     */
+    @NotNull
+    public Stream<BulkUploadResult> stream()
+    {
+        final Spliterator<BulkUploadResult> spliterator = Spliterators.spliterator(this, totalCount - returned, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Cancels every upload, which didn't complete yet.
+     * <br>Files, which were not uploaded yet, get a {@link BulkUploadResult} with a {@link CancellationException}.
+     */
+    @Override
+    public void close()
+    {
+        final List<UploadSource> skipped = new ArrayList<>();
+
+        synchronized (this)
+        {
+            if (cancelled)
+            {
+                return;
+            }
+
+            cancelled = true;
+            pending.forEachRemaining(skipped::add);
+        }
+
+        for (final UploadSource source : skipped)
+        {
+            complete(new BulkUploadResult(source.getFileName(), null, new CancellationException("The bulk upload was cancelled."), Duration.ZERO));
+        }
+
+        for (final CompletableFuture<UploadResult> upload : running)
+        {
+            upload.cancel(true);
+        }
+    }
+
+    private void refill()
+    {
+        // Uploads, which complete immediately (e.g. because they failed before being sent), request the next upload
+        // while it still gets started. These requests are counted and started by this loop instead of recursively.
+        if (refills.getAndIncrement() != 0)
+        {
+            return;
+        }
+
+        do
+        {
+            startNext();
+        }
+        while (refills.decrementAndGet() != 0);
+    }
+
+    private void startNext()
+    {
+        final UploadSource source;
+
+        synchronized (this)
+        {
+            if (cancelled || !pending.hasNext())
+            {
+                return;
+            }
+            source = pending.next();
+        }
+
+        final long start = System.nanoTime();
+        CompletableFuture<UploadResult> upload;
+
+        try (final PriorityScope scope = PriorityScope.open(RequestPriority.BACKGROUND))
+        {
+            upload = MyFiles.uploadAsync(source, domain, privateFiles);
+        }
+        catch (RuntimeException e)
+        {
+            upload = CompletableFuture.failedFuture(e);
+        }
+
+        final CompletableFuture<UploadResult> call = upload;
+
+        running.add(call);
+
+        call.whenComplete((result, throwable) ->
+        {
+            running.remove(call);
+
+            final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            complete(toResult(source.getFileName(), result, throwable, duration));
+
+            refill();
+        });
+    }
+
+    @NotNull
+    private static BulkUploadResult toResult(@NotNull String fileName, @Nullable UploadResult result, @Nullable Throwable throwable, @NotNull Duration duration)
+    {
+        if (throwable != null)
+        {
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            return new BulkUploadResult(fileName, null, cause, duration);
+        }
+        return new BulkUploadResult(fileName, result, null, duration);
+    }
+
+    private void complete(@NotNull BulkUploadResult result)
+    {
+        final boolean done;
+
+        synchronized (resultList)
+        {
+            resultList.add(result);
+            done = resultList.size() == totalCount;
+        }
+
+        completed.add(result);
+
+        if (done)
+        {
+            synchronized (resultList)
+            {
+                results.complete(List.copyOf(resultList));
+            }
+        }
+    }
+}
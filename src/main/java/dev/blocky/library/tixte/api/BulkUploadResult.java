@@ -0,0 +1,72 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Represents the immutable result of a single file of a {@link BulkUpload}.
+ * <br>Exactly one of {@code result} and {@code error} is non-null.
+ *
+ * @param fileName The name of the file including the extension.
+ * @param result The {@link UploadResult} or null, if the upload failed.
+ * @param error The reason, why the upload failed or null, if the upload succeeded.
+ * @param duration The time between enqueueing the upload and receiving the response.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record BulkUploadResult(@NotNull String fileName, @Nullable UploadResult result, @Nullable Throwable error,
+                               @NotNull Duration duration)
+{
+    /**
+     * Checks if the upload succeeded or not.
+     *
+     * @return <b>true</b> - If the upload succeeded.
+     *         <br><b>false</b> - If the upload failed or got cancelled.
+     */
+    public boolean isSuccess()
+    {
+        return result != null;
+    }
+
+    /**
+     * Gets the {@link UploadResult} of this file.
+     *
+     * @return The {@link UploadResult} or an empty {@link Optional}, if the upload failed.
+     */
+    @NotNull
+    public Optional<UploadResult> getResult()
+    {
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Gets the reason, why the upload failed.
+     *
+     * @return The reason, why the upload failed or an empty {@link Optional}, if the upload succeeded.
+     */
+    @NotNull
+    public Optional<Throwable> getError()
+    {
+        return Optional.ofNullable(error);
+    }
+}
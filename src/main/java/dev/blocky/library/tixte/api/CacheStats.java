@@ -0,0 +1,74 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import okhttp3.Cache;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Represents an immutable snapshot of the statistics of the HTTP disk cache.
+ *
+ * @param requestCount The count of requests, which were looked up in the cache.
+ * @param hitCount The count of requests, which were answered by the cache, including conditional requests, which were
+ *                 confirmed by the network.
+ * @param networkCount The count of requests, which were sent to the network.
+ * @param size The count of bytes, which are currently stored in the cache.
+ * @param maxSize The maximal count of bytes, which can be stored in the cache, before the least recently used
+ *                responses get evicted.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record CacheStats(long requestCount, long hitCount, long networkCount, long size, long maxSize)
+{
+    /**
+     * Gets the count of requests, which were not answered by the cache.
+     *
+     * @return The count of cache misses.
+     */
+    public long getMissCount()
+    {
+        return requestCount - hitCount;
+    }
+
+    /**
+     * Gets the fraction of requests, which were answered by the cache.
+     *
+     * @return The hit rate between 0 and 1 or {@code 0}, if no request was looked up yet.
+     */
+    public double getHitRate()
+    {
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Takes a snapshot of the statistics of a {@link Cache}.
+     *
+     * @param cache The {@link Cache} of the client.
+     *
+     * @throws IOException If the size of the cache could not be read.
+     *
+     * @return The <b>new</b> {@link CacheStats}.
+     */
+    @NotNull
+    static CacheStats of(@NotNull Cache cache) throws IOException
+    {
+        return new CacheStats(cache.requestCount(), cache.hitCount(), cache.networkCount(), cache.size(), cache.maxSize());
+    }
+}
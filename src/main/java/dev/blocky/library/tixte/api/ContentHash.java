@@ -0,0 +1,160 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.IntStream;
+
+/**
+ * Computes the content hash of an {@link UploadSource}, which is used as key of the {@link UploadIndex}.
+ *
+ * <p>Content, which is not greater than a single chunk, gets hashed with SHA-256 directly.
+ * <br>Bigger content gets split into chunks of 4MB, which get hashed in parallel. The hash of the content is the
+ * SHA-256 hash over the length of the content and the hashes of every chunk.
+ * <br>Chunks of files get memory-mapped, so they are neither copied into the heap nor read through an intermediate buffer.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+final class ContentHash
+{
+    static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private ContentHash()
+    {
+    }
+
+    /**
+     * Hashes the remaining content of a {@link ByteBuffer} without changing its position.
+     *
+     * @param buffer The buffer to hash.
+     *
+     * @return The content hash as hex string.
+     */
+    @NotNull
+    static String of(@NotNull ByteBuffer buffer)
+    {
+        final ByteBuffer content = buffer.slice();
+        final int length = content.remaining();
+
+        if (length <= CHUNK_SIZE)
+        {
+            return HexFormat.of().formatHex(digest(content));
+        }
+
+        final int chunks = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        final byte[][] digests = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(i -> digest(content.slice(i * CHUNK_SIZE, Math.min(CHUNK_SIZE, length - i * CHUNK_SIZE))))
+                .toArray(byte[][]::new);
+
+        return combine(length, digests);
+    }
+
+    /**
+     * Hashes a region of a {@link FileChannel}.
+     * <br>Every chunk of the region gets memory-mapped on its own, so also regions, which are greater than 2GB, can be hashed.
+     *
+     * @param channel The channel to hash.
+     * @param position The position of the first byte of the region.
+     * @param count The count of bytes of the region.
+     *
+     * @throws IOException If the region could not be mapped.
+     *
+     * @return The content hash as hex string.
+     */
+    @NotNull
+    static String of(@NotNull FileChannel channel, long position, long count) throws IOException
+    {
+        if (count <= CHUNK_SIZE)
+        {
+            return HexFormat.of().formatHex(digest(channel.map(FileChannel.MapMode.READ_ONLY, position, count)));
+        }
+
+        final int chunks = Math.toIntExact((count + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+        try
+        {
+            final byte[][] digests = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(i ->
+                    {
+                        final long offset = (long) i * CHUNK_SIZE;
+
+                        try
+                        {
+                            return digest(channel.map(FileChannel.MapMode.READ_ONLY, position + offset, Math.min(CHUNK_SIZE, count - offset)));
+                        }
+                        catch (IOException e)
+                        {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .toArray(byte[][]::new);
+
+            return combine(count, digests);
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    @NotNull
+    private static String combine(long length, @NotNull byte[][] digests)
+    {
+        final MessageDigest digest = newDigest();
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(length).flip());
+
+        for (final byte[] chunk : digests)
+        {
+            digest.update(chunk);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @NotNull
+    private static byte[] digest(@NotNull ByteBuffer buffer)
+    {
+        final MessageDigest digest = newDigest();
+        digest.update(buffer);
+        return digest.digest();
+    }
+
+    @NotNull
+    private static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // Every Java platform has to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
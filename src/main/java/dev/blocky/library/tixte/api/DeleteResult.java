@@ -0,0 +1,61 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.requests.json.DataPath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the immutable result of a single, successful delete request.
+ *
+ * @param target The ID of the deleted file or the name of the deleted domain.
+ * @param message The message of the response or null, if Tixte didn't return one.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record DeleteResult(@NotNull String target, @Nullable String message)
+{
+    /**
+     * Decodes the response of a {@link MyFiles#deleteFile(String)} request.
+     *
+     * @param fileId The ID of the deleted file.
+     * @param json The {@link DataObject} of the response.
+     *
+     * @return The decoded {@link DeleteResult}.
+     */
+    @NotNull
+    static DeleteResult fromFileData(@NotNull String fileId, @NotNull DataObject json)
+    {
+        return new DeleteResult(fileId, DataPath.getString(json, "data.message?", null));
+    }
+
+    /**
+     * Decodes the response of a {@link Domains#deleteDomain(String)} request.
+     *
+     * @param json The {@link DataObject} of the response.
+     *
+     * @return The decoded {@link DeleteResult}.
+     */
+    @NotNull
+    static DeleteResult fromDomainData(@NotNull DataObject json)
+    {
+        return new DeleteResult(DataPath.getString(json, "data.domain"), DataPath.getString(json, "data.message?", null));
+    }
+}
@@ -15,7 +15,9 @@
  */
 package dev.blocky.library.tixte.api;
 
-import dev.blocky.library.tixte.internal.requests.json.DataArray;
+import dev.blocky.library.tixte.annotations.DeprecatedSince;
+import dev.blocky.library.tixte.annotations.ForRemoval;
+import dev.blocky.library.tixte.annotations.ReplaceWith;
 import dev.blocky.library.tixte.internal.requests.json.DataObject;
 import dev.blocky.library.tixte.internal.requests.json.DataPath;
 import dev.blocky.library.tixte.internal.utils.Checks;
@@ -25,17 +27,37 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the 'Domains' tab of the Tixte dashboard and everything else what Tixte offers you with domains.
  *
  * @author BlockyDotJar
- * @version v1.4.1
+ * @version v1.7.0
  * @since v1.0.0-alpha.1
  */
 public record  Domains() implements RawResponseData
 {
-    private static String lastDeletedDomain;
+    private static volatile DeleteResult lastDeletedDomain;
+
+    /**
+     * Gets last deleted domain.
+     * <br>Note that you should only use this method after the delete method has been called.
+     *
+     * @deprecated Concurrent deletions overwrite each other's domain, use {@link DeleteResult#target()} of the
+     * {@link DeleteResult}, which gets returned by {@link #deleteDomain(String)}, instead.
+     *
+     * @return The last deleted domain.
+     */
+    @NotNull
+    @Deprecated
+    @DeprecatedSince(version = "v1.2.0")
+    @ForRemoval(deadline = "v1.3.0")
+    @ReplaceWith("DeleteResult#target()")
+    public Optional<String> getLastDeletedDomain()
+    {
+        return Optional.ofNullable(lastDeletedDomain).map(DeleteResult::target);
+    }
 
     /**
      * Gets the count of domains that you can use.
@@ -49,10 +71,22 @@ public record  Domains() implements RawResponseData
      */
     public int getUsableDomainCount() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUsableDomainsRaw().resultNow());
+        final DataObject json = RawResponseData.getUsableDomainsJson().resultNow();
         return DataPath.getInt(json, "data.count");
     }
 
+    /**
+     * Asynchronous variant of {@link #getUsableDomainCount()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the count of domains that you can use.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getUsableDomainCountAsync()
+    {
+        return RawResponseData.getUsableDomainsJsonAsync()
+                .thenApply(json -> DataPath.getInt(json, "data.count"));
+    }
+
     /**
      * Gets a {@link List} of every usable domain.
      *
@@ -66,16 +100,20 @@ public record  Domains() implements RawResponseData
     @NotNull
     public List<String> getUsableDomainNames() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUsableDomainsRaw().resultNow());
-        final DataArray domains = DataPath.getDataArray(json, "data.domains");
-
-        final List<String> list = new ArrayList<>();
+        final DataObject json = RawResponseData.getUsableDomainsJson().resultNow();
+        return DataPath.getStringList(json, "data.domains[*]?.domain");
+    }
 
-        for (int i = 0; i < domains.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.domains[" + i + "]?.domain"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getUsableDomainNames()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of every usable domain.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getUsableDomainNamesAsync()
+    {
+        return RawResponseData.getUsableDomainsJsonAsync()
+                .thenApply(json -> DataPath.getStringList(json, "data.domains[*]?.domain"));
     }
 
     /**
@@ -91,16 +129,20 @@ public record  Domains() implements RawResponseData
     @NotNull
     public List<Boolean> areActive() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUsableDomainsRaw().resultNow());
-        final DataArray domains = DataPath.getDataArray(json, "data.domains");
-
-        final List<Boolean> list = new ArrayList<>();
+        final DataObject json = RawResponseData.getUsableDomainsJson().resultNow();
+        return toList(DataPath.getBooleanArray(json, "data.domains[*]?.active"));
+    }
 
-        for (int i = 0; i < domains.toList().size(); i++)
-        {
-            list.add(DataPath.getBoolean(json, "data.domains[" + i + "]?.active"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #areActive()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of {@code booleans} that represents if the domain is active at the moment.
+     */
+    @NotNull
+    public CompletableFuture<List<Boolean>> areActiveAsync()
+    {
+        return RawResponseData.getUsableDomainsJsonAsync()
+                .thenApply(json -> toList(DataPath.getBooleanArray(json, "data.domains[*]?.active")));
     }
 
     /**
@@ -116,16 +158,18 @@ public record  Domains() implements RawResponseData
     @NotNull
     public List<Boolean> areInActive() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUsableDomainsRaw().resultNow());
-        final DataArray domains = DataPath.getDataArray(json, "data.domains");
-
-        final List<Boolean> list = new ArrayList<>();
+        return areActive().stream().map(isActive -> !isActive).toList();
+    }
 
-        for (int i = 0; i < domains.toList().size(); i++)
-        {
-            list.add(!DataPath.getBoolean(json, "data.domains[" + i + "]?.active"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #areInActive()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of {@code booleans} that represents if the domain is inactive at the moment.
+     */
+    @NotNull
+    public CompletableFuture<List<Boolean>> areInActiveAsync()
+    {
+        return areActiveAsync().thenApply(active -> active.stream().map(isActive -> !isActive).toList());
     }
 
     /**
@@ -140,10 +184,22 @@ public record  Domains() implements RawResponseData
      */
     public int getDomainCount() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserDomainsRaw().resultNow());
+        final DataObject json = RawResponseData.getUserDomainsJson().resultNow();
         return DataPath.getInt(json, "data.total");
     }
 
+    /**
+     * Asynchronous variant of {@link #getDomainCount()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the count of how many domains you own.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getDomainCountAsync()
+    {
+        return RawResponseData.getUserDomainsJsonAsync()
+                .thenApply(json -> DataPath.getInt(json, "data.total"));
+    }
+
     /**
      * Gets a {@link List} of every owner by id of the domain.
      *
@@ -157,16 +213,20 @@ public record  Domains() implements RawResponseData
     @NotNull
     public List<String> getOwnerIds() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserDomainsRaw().resultNow());
-        final DataArray domains = DataPath.getDataArray(json, "data.domains");
-
-        final List<String> list = new ArrayList<>();
+        final DataObject json = RawResponseData.getUserDomainsJson().resultNow();
+        return DataPath.getStringList(json, "data.domains[*]?.owner");
+    }
 
-        for (int i = 0; i < domains.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.domains[" + i + "]?.owner"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getOwnerIds()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of every owner by id of the domain.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getOwnerIdsAsync()
+    {
+        return RawResponseData.getUserDomainsJsonAsync()
+                .thenApply(json -> DataPath.getStringList(json, "data.domains[*]?.owner"));
     }
 
     /**
@@ -182,16 +242,20 @@ public record  Domains() implements RawResponseData
     @NotNull
     public List<String> getDomainNames() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserDomainsRaw().resultNow());
-        final DataArray domains = DataPath.getDataArray(json, "data.domains");
-
-        final List<String> list = new ArrayList<>();
+        final DataObject json = RawResponseData.getUserDomainsJson().resultNow();
+        return DataPath.getStringList(json, "data.domains[*]?.name");
+    }
 
-        for (int i = 0; i < domains.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.domains[" + i + "]?.name"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getDomainNames()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of domain names.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getDomainNamesAsync()
+    {
+        return RawResponseData.getUserDomainsJsonAsync()
+                .thenApply(json -> DataPath.getStringList(json, "data.domains[*]?.name"));
     }
 
     /**
@@ -207,16 +271,20 @@ public record  Domains() implements RawResponseData
     @NotNull
     public List<Integer> getUploadCounts() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserDomainsRaw().resultNow());
-        final DataArray domains = DataPath.getDataArray(json, "data.domains");
-
-        final List<Integer> list = new ArrayList<>();
+        final DataObject json = RawResponseData.getUserDomainsJson().resultNow();
+        return toList(DataPath.getIntArray(json, "data.domains[*]?.uploads"));
+    }
 
-        for (int i = 0; i < domains.toList().size(); i++)
-        {
-            list.add(DataPath.getInt(json, "data.domains[" + i + "]?.uploads"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getUploadCounts()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of upload-counts of the domain.
+     */
+    @NotNull
+    public CompletableFuture<List<Integer>> getUploadCountsAsync()
+    {
+        return RawResponseData.getUserDomainsJsonAsync()
+                .thenApply(json -> toList(DataPath.getIntArray(json, "data.domains[*]?.uploads")));
     }
 
     /**
@@ -232,20 +300,20 @@ public record  Domains() implements RawResponseData
     @NotNull
     public String generateDomain() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.generateDomainRaw().resultNow());
+        final DataObject json = RawResponseData.generateDomainJson().resultNow();
         return DataPath.getString(json, "data.name");
     }
 
     /**
-     * Gets last deleted domain.
-     * <br>Note that you should only use this method after the delete method has been called.
+     * Asynchronous variant of {@link #generateDomain()}.
      *
-     * @return The last deleted domain.
+     * @return A {@link CompletableFuture}, which completes with the random domain.
      */
     @NotNull
-    public Optional<String> getLastDeletedDomain()
+    public CompletableFuture<String> generateDomainAsync()
     {
-        return Optional.ofNullable(lastDeletedDomain);
+        return RawResponseData.generateDomainJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.name"));
     }
 
     /**
@@ -271,6 +339,19 @@ public record  Domains() implements RawResponseData
         return this;
     }
 
+    /**
+     * Asynchronous variant of {@link #addSubdomain(String)}.
+     *
+     * @param domainName The domain name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current instance of the {@link Domains} class.
+     */
+    @NotNull
+    public CompletableFuture<Domains> addSubdomainAsync(@NotNull String domainName)
+    {
+        return RawResponseData.addSubdomainRawAsync(domainName).thenApply(body -> this);
+    }
+
     /**
      * Adds a custom domain to our other domains.
      * <br>Note that you only can have 3 domains at once, if you don't have a Tixte turbo/turbo-charged subscription.
@@ -294,6 +375,19 @@ public record  Domains() implements RawResponseData
         return this;
     }
 
+    /**
+     * Asynchronous variant of {@link #addCustomDomain(String)}.
+     *
+     * @param domainName The domain name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current instance of the {@link Domains} class.
+     */
+    @NotNull
+    public CompletableFuture<Domains> addCustomDomainAsync(@NotNull String domainName)
+    {
+        return RawResponseData.addCustomDomainRawAsync(domainName).thenApply(body -> this);
+    }
+
     /**
      * Deletes a domain of your domain collection.
      * <br>Note that the domain must not be empty.
@@ -307,14 +401,49 @@ public record  Domains() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of the {@link Domains} class.
+     * @return The {@link DeleteResult} of the deleted domain.
      */
     @NotNull
-    public Domains deleteDomain(@NotNull String domainName) throws InterruptedException, IOException
+    public DeleteResult deleteDomain(@NotNull String domainName) throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.deleteDomainRaw(domainName).resultNow());
+        final DataObject json = RawResponseData.deleteDomainJson(domainName).resultNow();
+        return lastDeletedDomain = DeleteResult.fromDomainData(json);
+    }
 
-        lastDeletedDomain = DataPath.getString(json, "data.domain");
-        return this;
+    /**
+     * Asynchronous variant of {@link #deleteDomain(String)}.
+     *
+     * @param domainName The domain name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the {@link DeleteResult} of the deleted domain.
+     */
+    @NotNull
+    public CompletableFuture<DeleteResult> deleteDomainAsync(@NotNull String domainName)
+    {
+        return RawResponseData.deleteDomainJsonAsync(domainName).thenApply(json -> lastDeletedDomain = DeleteResult.fromDomainData(json));
+    }
+
+    @NotNull
+    private static List<Boolean> toList(boolean[] column)
+    {
+        final List<Boolean> list = new ArrayList<>(column.length);
+
+        for (final boolean value : column)
+        {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @NotNull
+    private static List<Integer> toList(int[] column)
+    {
+        final List<Integer> list = new ArrayList<>(column.length);
+
+        for (final int value : column)
+        {
+            list.add(value);
+        }
+        return list;
     }
 }
@@ -28,13 +28,14 @@ import org.slf4j.Logger;
 import java.awt.*;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
 /**
  * Builder system used to build {@link Embed embeds}.
  *
  * @author BlockyDotJar
- * @version v1.5.1
+ * @version v1.6.0
  * @since v1.0.0-beta.1
  */
 public class EmbedEditor implements RawResponseData
@@ -461,6 +462,19 @@ public class EmbedEditor implements RawResponseData
         return this;
     }
 
+    /**
+     * Asynchronous variant of {@link #setOnlyImagedEnabled(boolean)}.
+     *
+     * @param onlyImagedEnabled If the embed should only have images.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current instance of the {@link EmbedEditor}.
+     */
+    @NotNull
+    public CompletableFuture<EmbedEditor> setOnlyImagedEnabledAsync(boolean onlyImagedEnabled)
+    {
+        return RawResponseData.setOnlyImageEnabledRawAsync(onlyImagedEnabled).thenApply(body -> this);
+    }
+
     /**
      * Checks if there is only the image of the {@link Embed} enabled.
      *
@@ -474,10 +488,22 @@ public class EmbedEditor implements RawResponseData
      */
     public boolean onlyImageEnabled() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getBoolean(json, "data.only_image");
     }
 
+    /**
+     * Asynchronous variant of {@link #onlyImageEnabled()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with whether only the image of the {@link Embed} is enabled or not.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> onlyImageEnabledAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getBoolean(json, "data.only_image"));
+    }
+
     /**
      * The title of the {@link Embed}.
      * <br>Typically, this will be the html title of the webpage that is being embedded.
@@ -494,10 +520,22 @@ public class EmbedEditor implements RawResponseData
     @NotNull
     public String getEmbedTitle() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.embed.title");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmbedTitle()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the title of the embedded resource.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmbedTitleAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.embed.title"));
+    }
+
     /**
      * The description of the embedded resource.
      * <br>This is provided only if Discord could find a description for the embedded resource using the provided url.
@@ -515,10 +553,22 @@ public class EmbedEditor implements RawResponseData
     @NotNull
     public String getEmbedDescription() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.embed.description");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmbedDescription()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the description of the embedded resource.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmbedDescriptionAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.embed.description"));
+    }
+
     /**
      * The name on the creator of the embedded content.
      * <br>This is typically used to represent the account on the providing site.
@@ -535,10 +585,22 @@ public class EmbedEditor implements RawResponseData
     @NotNull
     public String getEmbedAuthorName() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.embed.author_name");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmbedAuthorName()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the name on the creator of the embedded content.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmbedAuthorNameAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.embed.author_name"));
+    }
+
     /**
      * The url to a website from the creator of the embedded content.
      * <br>This is typically used to represent the account on the providing site.
@@ -555,10 +617,22 @@ public class EmbedEditor implements RawResponseData
     @NotNull
     public String getEmbedAuthorUrl() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.embed.author_url");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmbedAuthorUrl()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the url to a website from the creator of the embedded content.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmbedAuthorUrlAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.embed.author_url"));
+    }
+
     /**
      * The name on the provider of the embedded content.
      * <br>This is typically used to represent the account on the providing site.
@@ -575,10 +649,22 @@ public class EmbedEditor implements RawResponseData
     @NotNull
     public String getEmbedProviderName() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.embed.provider_name");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmbedProviderName()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the name on the provider of the embedded content.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmbedProviderNameAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.embed.provider_name"));
+    }
+
     /**
      * The url to a website of the embedded content.
      * <br>This is typically used to represent the account on the providing site.
@@ -595,10 +681,22 @@ public class EmbedEditor implements RawResponseData
     @NotNull
     public String getEmbedProviderUrl() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.embed.author_url");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmbedProviderUrl()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the url to a website of the embedded content.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmbedProviderUrlAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.embed.author_url"));
+    }
+
     /**
      * The color of the stripe on the side of the {@link Embed}.
      * <br>If the color equals null, this will return {@code #ffffff} (no color).
@@ -615,10 +713,22 @@ public class EmbedEditor implements RawResponseData
     @NotNull
     public String getEmbedThemeColor() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.embed.theme_color");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmbedThemeColor()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the color of the stripe on the side of the {@link Embed}.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmbedThemeColorAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.embed.theme_color"));
+    }
+
     @Override
     public boolean equals(@Nullable Object o)
     {
@@ -15,10 +15,12 @@
  */
 package dev.blocky.library.tixte.api;
 
-import dev.blocky.library.tixte.internal.requests.json.DataArray;
+import com.google.errorprone.annotations.MustBeClosed;
+import dev.blocky.library.tixte.annotations.DeprecatedSince;
+import dev.blocky.library.tixte.annotations.ForRemoval;
+import dev.blocky.library.tixte.annotations.ReplaceWith;
 import dev.blocky.library.tixte.internal.requests.json.DataObject;
 import dev.blocky.library.tixte.internal.requests.json.DataPath;
-import dev.blocky.library.tixte.internal.requests.json.DataType;
 import dev.blocky.library.tixte.internal.utils.Checks;
 import org.jetbrains.annotations.ApiStatus.Experimental;
 import org.jetbrains.annotations.NotNull;
@@ -27,17 +29,23 @@ import org.jetbrains.annotations.Nullable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static dev.blocky.library.tixte.api.TixteClientBuilder.uploadIndex;
 
 /**
  * Represents the 'My Files' tab of the Tixte dashboard and everything else what Tixte offers you with files.
  *
  * @author BlockyDotJar
- * @version v1.5.3
+ * @version v1.9.0
  * @since v1.0.0-alpha.1
  */
 public record MyFiles() implements RawResponseData
@@ -45,7 +53,68 @@ public record MyFiles() implements RawResponseData
     private static final Pattern DOMAIN_PATTERN = Pattern.compile("^(?!.*https?://)([a-zA-Z\\d_-])+.([a-zA-Z-])+.([a-zA-Z])+$", Pattern.CASE_INSENSITIVE);
     private static final SearchBar searchBar = new SearchBar();
     private static final Folders folders = new Folders();
-    private static String url, directURL, deletionURL;
+
+    private static volatile UploadResult lastUpload;
+
+    /**
+     * Gets the url of the current uploaded file.
+     *
+     * <p>Note that you should only use this method after the file upload method has been called.
+     *
+     * @deprecated Concurrent uploads overwrite each other's url, use {@link UploadResult#url()} of the
+     * {@link UploadResult}, which gets returned by the upload method, instead.
+     *
+     * @return The url of the current uploaded file.
+     */
+    @NotNull
+    @Deprecated
+    @DeprecatedSince(version = "v1.2.0")
+    @ForRemoval(deadline = "v1.3.0")
+    @ReplaceWith("UploadResult#url()")
+    public Optional<String> getURL()
+    {
+        return Optional.ofNullable(lastUpload).map(UploadResult::url);
+    }
+
+    /**
+     * Gets the direct-url of the current uploaded file.
+     *
+     * <p>Note that you should only use this method after the file upload method has been called.
+     *
+     * @deprecated Concurrent uploads overwrite each other's direct-url, use {@link UploadResult#directURL()} of the
+     * {@link UploadResult}, which gets returned by the upload method, instead.
+     *
+     * @return The direct-url of the current uploaded file.
+     */
+    @NotNull
+    @Deprecated
+    @DeprecatedSince(version = "v1.2.0")
+    @ForRemoval(deadline = "v1.3.0")
+    @ReplaceWith("UploadResult#directURL()")
+    public Optional<String> getDirectURL()
+    {
+        return Optional.ofNullable(lastUpload).map(UploadResult::directURL);
+    }
+
+    /**
+     * Gets the deletion-url of the current uploaded file.
+     *
+     * <p>Note that you should only use this method after the file upload method has been called.
+     *
+     * @deprecated Concurrent uploads overwrite each other's deletion-url, use {@link UploadResult#deletionURL()} of
+     * the {@link UploadResult}, which gets returned by the upload method, instead.
+     *
+     * @return The deletion-url of the current uploaded file.
+     */
+    @NotNull
+    @Deprecated
+    @DeprecatedSince(version = "v1.2.0")
+    @ForRemoval(deadline = "v1.3.0")
+    @ReplaceWith("UploadResult#deletionURL()")
+    public Optional<String> getDeletionURL()
+    {
+        return Optional.ofNullable(lastUpload).map(UploadResult::deletionURL);
+    }
 
     /**
      * Gets the current used file size in bytes.
@@ -59,8 +128,20 @@ public record MyFiles() implements RawResponseData
      */
     public long getUsedSize() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getSizeRaw().resultNow());
-        return DataPath.getInt(json, "data.used");
+        final DataObject json = RawResponseData.getSizeJson().resultNow();
+        return DataPath.getLong(json, "data.used");
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUsedSize()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current used file size in bytes.
+     */
+    @NotNull
+    public CompletableFuture<Long> getUsedSizeAsync()
+    {
+        return RawResponseData.getSizeJsonAsync()
+                .thenApply(json -> DataPath.getLong(json, "data.used"));
     }
 
     /**
@@ -79,8 +160,20 @@ public record MyFiles() implements RawResponseData
      */
     public long getLimit() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getSizeRaw().resultNow());
-        return DataPath.getInt(json, "data.limit");
+        final DataObject json = RawResponseData.getSizeJson().resultNow();
+        return DataPath.getLong(json, "data.limit");
+    }
+
+    /**
+     * Asynchronous variant of {@link #getLimit()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current limit of storage in bytes.
+     */
+    @NotNull
+    public CompletableFuture<Long> getLimitAsync()
+    {
+        return RawResponseData.getSizeJsonAsync()
+                .thenApply(json -> DataPath.getLong(json, "data.limit"));
     }
 
 
@@ -102,6 +195,19 @@ public record MyFiles() implements RawResponseData
         return getLimit() - getUsedSize();
     }
 
+    /**
+     * Asynchronous variant of {@link #getRemainingSize()}.
+     * <br>Unlike the blocking variant, this only needs a single request.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current remaining storage size in bytes.
+     */
+    @NotNull
+    public CompletableFuture<Long> getRemainingSizeAsync()
+    {
+        return RawResponseData.getSizeJsonAsync()
+                .thenApply(json -> DataPath.getLong(json, "data.limit") - DataPath.getLong(json, "data.used"));
+    }
+
     /**
      * Gets your current premium tier as an integer.
      *
@@ -121,10 +227,22 @@ public record MyFiles() implements RawResponseData
      */
     public int getPremiumTier() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getSizeRaw().resultNow());
+        final DataObject json = RawResponseData.getSizeJson().resultNow();
         return DataPath.getInt(json, "data.premium_tier");
     }
 
+    /**
+     * Asynchronous variant of {@link #getPremiumTier()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with your current premium tier as an integer.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getPremiumTierAsync()
+    {
+        return RawResponseData.getSizeJsonAsync()
+                .thenApply(json -> DataPath.getInt(json, "data.premium_tier"));
+    }
+
     /**
      * Gets your current upload count.
      *
@@ -137,10 +255,22 @@ public record MyFiles() implements RawResponseData
      */
     public int getTotalUploadCount() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
+        final DataObject json = RawResponseData.getUploadsJson().resultNow();
         return DataPath.getInt(json, "data.total");
     }
 
+    /**
+     * Asynchronous variant of {@link #getTotalUploadCount()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with your current upload count.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getTotalUploadCountAsync()
+    {
+        return RawResponseData.getUploadsJsonAsync()
+                .thenApply(json -> DataPath.getInt(json, "data.total"));
+    }
+
     /**
      * Gets your current upload count on a specific page.
      *
@@ -153,10 +283,128 @@ public record MyFiles() implements RawResponseData
      */
     public int getResults() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
+        final DataObject json = RawResponseData.getUploadsJson().resultNow();
         return DataPath.getInt(json, "data.results");
     }
 
+    /**
+     * Asynchronous variant of {@link #getResults()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with your current upload count on a specific page.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getResultsAsync()
+    {
+        return RawResponseData.getUploadsJsonAsync()
+                .thenApply(json -> DataPath.getInt(json, "data.results"));
+    }
+
+    /**
+     * Fetches every upload <b>once</b> and decodes it into an immutable {@link UploadsSnapshot}.
+     * <br>Every column (names, sizes, extensions, ...) can be derived from this snapshot without sending a new request,
+     * so if you need more than one column, you should use this method instead of the single getters.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see UploadsSnapshot#refresh()
+     *
+     * @return An immutable {@link UploadsSnapshot} of every upload.
+     */
+    @NotNull
+    public UploadsSnapshot getUploadsSnapshot() throws InterruptedException, IOException
+    {
+        final DataObject json = RawResponseData.getUploadsJson().resultNow();
+        return UploadsSnapshot.fromData(json);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUploadsSnapshot()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with an immutable {@link UploadsSnapshot} of every upload.
+     */
+    @NotNull
+    public CompletableFuture<UploadsSnapshot> getUploadsSnapshotAsync()
+    {
+        return RawResponseData.getUploadsJsonAsync()
+                .thenApply(UploadsSnapshot::fromData);
+    }
+
+    /**
+     * Fetches every upload <b>once</b> and computes a columnar, primitive-backed {@link UploadColumns} view of it.
+     * <br>This is cheaper than {@link #getUploadsSnapshot()}, because no dates or expiration times get decoded and
+     * sizes, types and permission levels are stored in primitive arrays.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return A columnar {@link UploadColumns} view of every upload.
+     */
+    @NotNull
+    public UploadColumns getUploadColumns() throws InterruptedException, IOException
+    {
+        final DataObject json = RawResponseData.getUploadsJson().resultNow();
+        return UploadColumns.fromData(json);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUploadColumns()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a columnar {@link UploadColumns} view of every upload.
+     */
+    @NotNull
+    public CompletableFuture<UploadColumns> getUploadColumnsAsync()
+    {
+        return RawResponseData.getUploadsJsonAsync()
+                .thenApply(UploadColumns::fromData);
+    }
+
+    /**
+     * Streams every upload straight from the response body.
+     * <br>Unlike {@link #getUploadsSnapshot()}, the response doesn't get materialized into a tree of maps and lists,
+     * but every {@link Upload} gets decoded lazily while the stream is consumed, so the memory usage stays constant no
+     * matter how many uploads your account has.
+     *
+     * <p><b>The returned stream must be closed</b>, which also releases the connection.
+     * <br>This is best done with a try-with-resources statement.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     *
+     * @return A lazy {@link Stream} of every {@link Upload}.
+     */
+    @NotNull
+    @MustBeClosed
+    public Stream<Upload> streamUploads() throws IOException
+    {
+        final UploadsDecoder decoder = new UploadsDecoder(RawResponseData.getUploadsRawSource().inputStream());
+        return decoder.stream();
+    }
+
+    /**
+     * Creates a page-aware iterator over every upload.
+     * <br>The request for the first page gets enqueued immediately and every following page gets requested in the
+     * background, while you are processing the current one.
+     *
+     * <p>You should close the returned {@link UploadPages}, if you stop iterating before the last page, so the
+     * pending request gets cancelled.
+     *
+     * @param pageSize The amount of uploads per page.
+     *
+     * @return A page-aware {@link UploadPages} iterator.
+     */
+    @NotNull
+    public UploadPages getUploadPages(int pageSize)
+    {
+        Checks.positive(pageSize, "pageSize");
+        return new UploadPages(pageSize);
+    }
+
     /**
      * Gets a {@link List} of permission level, which the file contains.
      *
@@ -170,16 +418,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<Integer> getPermissionLevels() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<Integer> list = new ArrayList<>();
+        return getUploadsSnapshot().getPermissionLevels();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getInt(json, "data.uploads[" + i + "]?.permission_level"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getPermissionLevels()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of permission level, which the file contains.
+     */
+    @NotNull
+    public CompletableFuture<List<Integer>> getPermissionLevelsAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getPermissionLevels);
     }
 
     /**
@@ -198,16 +448,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<String> getExtensions() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<String> list = new ArrayList<>();
+        return getUploadsSnapshot().getExtensions();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.uploads[" + i + "]?.extension"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getExtensions()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of extensions from the files.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getExtensionsAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getExtensions);
     }
 
     /**
@@ -223,16 +475,20 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<Integer> getSizes() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<Integer> list = new ArrayList<>();
+        return toIntList(getUploadsSnapshot().getSizes());
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getInt(json, "data.uploads[" + i + "]?.size"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getSizes()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of sizes from the files in bytes.
+     */
+    @NotNull
+    public CompletableFuture<List<Integer>> getSizesAsync()
+    {
+        return getUploadsSnapshotAsync()
+                .thenApply(UploadsSnapshot::getSizes)
+                .thenApply(MyFiles::toIntList);
     }
 
     /**
@@ -252,16 +508,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<OffsetDateTime> getUploadDates() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<OffsetDateTime> list = new ArrayList<>();
+        return getUploadsSnapshot().getUploadDates();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getOffsetDateTime(json, "data.uploads[" + i + "]?.uploaded_at"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getUploadDates()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of upload dates from the files as a {@link OffsetDateTime} in ISO8601 format.
+     */
+    @NotNull
+    public CompletableFuture<List<OffsetDateTime>> getUploadDatesAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getUploadDates);
     }
 
     /**
@@ -277,16 +535,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<String> getDomains() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<String> list = new ArrayList<>();
+        return getUploadsSnapshot().getDomains();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.uploads[" + i + "]?.domain"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getDomains()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of domains, on which the files got uploaded.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getDomainsAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getDomains);
     }
 
     /**
@@ -302,16 +562,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<String> getNames() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<String> list = new ArrayList<>();
+        return getUploadsSnapshot().getNames();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.uploads[" + i + "]?.name"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getNames()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of names from the files.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getNamesAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getNames);
     }
 
     /**
@@ -332,16 +594,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<String> getMimeTypes() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<String> list = new ArrayList<>();
+        return getUploadsSnapshot().getMimeTypes();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.uploads[" + i + "]?.mimetype"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getMimeTypes()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of mime-types from the files.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getMimeTypesAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getMimeTypes);
     }
 
     /**
@@ -363,23 +627,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<Object> getExpirationTimes() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<Object> list = new ArrayList<>();
+        return getUploadsSnapshot().getExpirationTimes();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            if (uploads.isType(i, DataType.STRING))
-            {
-                list.add(DataPath.getOffsetDateTime(json, "data.uploads[" + i + "]?.expiration?"));
-            }
-            else
-            {
-                list.add(DataPath.getInt(json, "data.uploads[" + i + "]?.expiration?"));
-            }
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getExpirationTimes()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of expiration times from the files.
+     */
+    @NotNull
+    public CompletableFuture<List<Object>> getExpirationTimesAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getExpirationTimes);
     }
 
     /**
@@ -395,16 +654,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<String> getAssetIds() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<String> list = new ArrayList<>();
+        return getUploadsSnapshot().getAssetIds();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getString(json, "data.uploads[" + i + "]?.asset_id"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getAssetIds()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of IDs from the files.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getAssetIdsAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getAssetIds);
     }
 
     /**
@@ -423,16 +684,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<Integer> getTypes() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<Integer> list = new ArrayList<>();
+        return getUploadsSnapshot().getTypes();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(DataPath.getInt(json, "data.uploads[" + i + "]?.type"));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getTypes()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of types from the files. (public/private)
+     */
+    @NotNull
+    public CompletableFuture<List<Integer>> getTypesAsync()
+    {
+        return getUploadsSnapshotAsync().thenApply(UploadsSnapshot::getTypes);
     }
 
     /**
@@ -451,16 +714,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<Boolean> arePublic() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<Boolean> list = new ArrayList<>();
+        return getUploadColumns().arePublic();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(getTypes().get(i) == 1);
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #arePublic()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of {@code booleans}, which represents if the file is public.
+     */
+    @NotNull
+    public CompletableFuture<List<Boolean>> arePublicAsync()
+    {
+        return getUploadColumnsAsync().thenApply(UploadColumns::arePublic);
     }
 
     /**
@@ -479,16 +744,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<Boolean> arePrivate() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<Boolean> list = new ArrayList<>();
+        return getUploadColumns().arePrivate();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(getTypes().get(i) == 2);
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #arePrivate()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a {@link List} of {@code booleans}, which represents if the file is private.
+     */
+    @NotNull
+    public CompletableFuture<List<Boolean>> arePrivateAsync()
+    {
+        return getUploadColumnsAsync().thenApply(UploadColumns::arePrivate);
     }
 
     /**
@@ -511,16 +778,18 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public List<String> getFileNames() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUploadsRaw().resultNow());
-        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
-
-        final List<String> list = new ArrayList<>();
+        return getUploadColumns().getFileNames();
+    }
 
-        for (int i = 0; i < uploads.toList().size(); i++)
-        {
-            list.add(getNames().get(i) + "." + getExtensions().get(i));
-        }
-        return list;
+    /**
+     * Asynchronous variant of {@link #getFileNames()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the complete names of the files.
+     */
+    @NotNull
+    public CompletableFuture<List<String>> getFileNamesAsync()
+    {
+        return getUploadColumnsAsync().thenApply(UploadColumns::getFileNames);
     }
 
     /**
@@ -536,47 +805,20 @@ public record MyFiles() implements RawResponseData
     @NotNull
     public String getUploadRegion() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getString(json, "data.upload_region");
     }
 
     /**
-     * Gets the url of the current uploaded file.
-     *
-     * <p>Note that you should only use this method after the file upload method has been called.
-     *
-     * @return The url of the current uploaded file.
-     */
-    @NotNull
-    public Optional<String> getURL()
-    {
-        return Optional.ofNullable(url);
-    }
-
-    /**
-     * Gets the direct-url of the current uploaded file.
+     * Asynchronous variant of {@link #getUploadRegion()}.
      *
-     * <p>Note that you should only use this method after the file upload method has been called.
-     *
-     * @return The direct-url of the current uploaded file.
+     * @return A {@link CompletableFuture}, which completes with the current upload-region, which you are using.
      */
     @NotNull
-    public Optional<String> getDirectURL()
+    public CompletableFuture<String> getUploadRegionAsync()
     {
-        return Optional.ofNullable(directURL);
-    }
-
-    /**
-     * Gets the deletion-url of the current uploaded file.
-     *
-     * <p>Note that you should only use this method after the file upload method has been called.
-     *
-     * @return The deletion-url of the current uploaded file.
-     */
-    @NotNull
-    public Optional<String> getDeletionURL()
-    {
-        return Optional.ofNullable(deletionURL);
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.upload_region"));
     }
 
     /**
@@ -604,17 +846,12 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadFile(@NotNull File file) throws InterruptedException, IOException
+    public UploadResult uploadFile(@NotNull File file) throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadFileRaw(file).resultNow());
-
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+        return upload(UploadSource.ofExisting(file), null, false);
     }
 
     /**
@@ -642,17 +879,12 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadPrivateFile(@NotNull File file) throws InterruptedException, IOException
+    public UploadResult uploadPrivateFile(@NotNull File file) throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadPrivateFileRaw(file).resultNow());
-
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+        return upload(UploadSource.ofExisting(file), null, true);
     }
 
     /**
@@ -680,19 +912,14 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadFile(@NotNull File file, @NotNull String domain) throws InterruptedException, IOException
+    public UploadResult uploadFile(@NotNull File file, @NotNull String domain) throws InterruptedException, IOException
     {
         domainCheck(domain);
 
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadFileRaw(file, domain).resultNow());
-
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+        return upload(UploadSource.ofExisting(file), domain, false);
     }
 
     /**
@@ -720,19 +947,14 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadPrivateFile(@NotNull File file, @NotNull String domain) throws InterruptedException, IOException
+    public UploadResult uploadPrivateFile(@NotNull File file, @NotNull String domain) throws InterruptedException, IOException
     {
         domainCheck(domain);
 
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadPrivateFileRaw(file, domain).resultNow());
-
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+        return upload(UploadSource.ofExisting(file), domain, true);
     }
 
     /**
@@ -760,17 +982,13 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadFile(@NotNull String filePath) throws InterruptedException, IOException
+    public UploadResult uploadFile(@NotNull String filePath) throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadFileRaw(filePath).resultNow());
-
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+        Checks.notEmpty(filePath, "filePath");
+        return upload(UploadSource.ofExisting(new File(filePath)), null, false);
     }
 
     /**
@@ -798,17 +1016,13 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadPrivateFile(@NotNull String filePath) throws InterruptedException, IOException
+    public UploadResult uploadPrivateFile(@NotNull String filePath) throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadPrivateFileRaw(filePath).resultNow());
-
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+        Checks.notEmpty(filePath, "filePath");
+        return upload(UploadSource.ofExisting(new File(filePath)), null, true);
     }
 
     /**
@@ -836,19 +1050,15 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadFile(@NotNull String filePath, @NotNull String domain) throws InterruptedException, IOException
+    public UploadResult uploadFile(@NotNull String filePath, @NotNull String domain) throws InterruptedException, IOException
     {
         domainCheck(domain);
 
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadFileRaw(filePath, domain).resultNow());
-
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+        Checks.notEmpty(filePath, "filePath");
+        return upload(UploadSource.ofExisting(new File(filePath)), domain, false);
     }
 
     /**
@@ -876,26 +1086,167 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link UploadResult} of the uploaded file.
      */
     @NotNull
-    public MyFiles uploadPrivateFile(@NotNull String filePath, @NotNull String domain) throws InterruptedException, IOException
+    public UploadResult uploadPrivateFile(@NotNull String filePath, @NotNull String domain) throws InterruptedException, IOException
     {
         domainCheck(domain);
 
-        final DataObject json = DataObject.fromJson(RawResponseData.uploadPrivateFileRaw(filePath, domain).resultNow());
+        Checks.notEmpty(filePath, "filePath");
+        return upload(UploadSource.ofExisting(new File(filePath)), domain, true);
+    }
 
-        url = DataPath.getString(json, "data.url");
-        directURL = DataPath.getString(json, "data.direct_url");
-        deletionURL = DataPath.getString(json, "data.deletion_url");
-        return this;
+    /**
+     * Upload the content of an {@link UploadSource} to Tixte.
+     * <br>Unlike the {@link File} based methods, this also accepts {@link java.nio.file.Path paths},
+     * {@link java.nio.channels.FileChannel} slices, {@link java.nio.ByteBuffer buffers} (including memory-mapped regions)
+     * and {@code byte[]} ranges, without copying them into an intermediate array.
+     *
+     * <p>Note that this file cannot be greater than 200MB, without a turbo/turbo-charged subscription.
+     * <br>With a turbo subscription you can upload files as big as 4GB and with a turbo-charged subscription you
+     * can upload files up to 10GB.
+     *
+     * @param source The content of the file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use {@link TixteClient#getDefaultDomain() the default domain}.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The {@link UploadResult} of the uploaded file.
+     */
+    @NotNull
+    public UploadResult uploadFile(@NotNull UploadSource source, @Nullable String domain, boolean privateFile) throws InterruptedException, IOException
+    {
+        domainCheck(domain);
+
+        return upload(source, domain, privateFile);
+    }
+
+    /**
+     * Asynchronous variant of {@link #uploadFile(UploadSource, String, boolean)}.
+     *
+     * @param source The content of the file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use {@link TixteClient#getDefaultDomain() the default domain}.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @return A {@link CompletableFuture}, which completes with the {@link UploadResult} of the uploaded file.
+     */
+    @NotNull
+    public CompletableFuture<UploadResult> uploadFileAsync(@NotNull UploadSource source, @Nullable String domain, boolean privateFile)
+    {
+        domainCheck(domain);
+
+        return remember(uploadAsync(source, domain, privateFile));
+    }
+
+    /**
+     * Uploads many files in parallel.
+     * <br>At most {@code concurrency} uploads are in flight at the same time, as soon as one completes, the next file
+     * gets enqueued. Every upload runs through the shared client, so rate-limits are handled for every file.
+     *
+     * <p>Every file gets its own {@link BulkUploadResult}, which contains the {@link UploadResult} or the reason, why
+     * the upload failed.
+     *
+     * @param sources The contents of the files to be uploaded.
+     * @param domain The domain to upload the files to or {@code null} to use {@link TixteClient#getDefaultDomain() the default domain}.
+     * @param privateFiles Whether the files should be uploaded as private files or not.
+     * @param concurrency The maximal count of concurrent uploads.
+     *
+     * @return A <b>new</b> {@link BulkUpload}, which provides the results as soon as the uploads complete.
+     */
+    @NotNull
+    public BulkUpload uploadFiles(@NotNull Collection<UploadSource> sources, @Nullable String domain, boolean privateFiles, int concurrency)
+    {
+        Checks.notNull(sources, "sources");
+        Checks.positive(concurrency, "concurrency");
+
+        domainCheck(domain);
+
+        return new BulkUpload(List.copyOf(sources), domain, privateFiles, concurrency);
+    }
+
+    /**
+     * Uploads every regular file of a directory tree in parallel.
+     * <br>The directory gets walked recursively before the first upload gets enqueued.
+     *
+     * @param directory The root of the directory tree.
+     * @param domain The domain to upload the files to or {@code null} to use {@link TixteClient#getDefaultDomain() the default domain}.
+     * @param privateFiles Whether the files should be uploaded as private files or not.
+     * @param concurrency The maximal count of concurrent uploads.
+     *
+     * @throws IOException If the directory tree could not be walked.
+     *
+     * @see #uploadFiles(Collection, String, boolean, int)
+     *
+     * @return A <b>new</b> {@link BulkUpload}, which provides the results as soon as the uploads complete.
+     */
+    @NotNull
+    public BulkUpload uploadDirectory(@NotNull Path directory, @Nullable String domain, boolean privateFiles, int concurrency) throws IOException
+    {
+        Checks.notNull(directory, "directory");
+        Checks.check(Files.isDirectory(directory), "%s is not a directory.", directory);
+
+        try (final Stream<Path> files = Files.walk(directory))
+        {
+            final List<UploadSource> sources = files.filter(Files::isRegularFile)
+                    .map(UploadSource::of)
+                    .toList();
+
+            return uploadFiles(sources, domain, privateFiles, concurrency);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #uploadFile(File, String)} and {@link #uploadPrivateFile(File, String)}.
+     * <br>If the file does not exist, the returned {@link CompletableFuture} completes exceptionally with a {@link FileNotFoundException}.
+     *
+     * @param file The file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use {@link TixteClient#getDefaultDomain() the default domain}.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @return A {@link CompletableFuture}, which completes with the {@link UploadResult} of the uploaded file.
+     */
+    @NotNull
+    public CompletableFuture<UploadResult> uploadFileAsync(@NotNull File file, @Nullable String domain, boolean privateFile)
+    {
+        domainCheck(domain);
+
+        try
+        {
+            return remember(uploadAsync(UploadSource.ofExisting(file), domain, privateFile));
+        }
+        catch (FileNotFoundException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #uploadFile(String, String)} and {@link #uploadPrivateFile(String, String)}.
+     * <br>If the file does not exist, the returned {@link CompletableFuture} completes exceptionally with a {@link FileNotFoundException}.
+     *
+     * @param filePath The string to initialize the file, which should be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use {@link TixteClient#getDefaultDomain() the default domain}.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @return A {@link CompletableFuture}, which completes with the {@link UploadResult} of the uploaded file.
+     */
+    @NotNull
+    public CompletableFuture<UploadResult> uploadFileAsync(@NotNull String filePath, @Nullable String domain, boolean privateFile)
+    {
+        Checks.notEmpty(filePath, "filePath");
+        return uploadFileAsync(new File(filePath), domain, privateFile);
     }
 
     /**
      * Delete any kind of file from your Tixte dashboard.
      *
-     * <p>You can get the file's ID by calling {@link #getAssetIds()} or you can directly get
-     * {@link #getDeletionURL() the deletion url}.
+     * <p>You can get the file's ID by calling {@link #getAssetIds()} or you can directly use
+     * {@link UploadResult#deletionURL() the deletion url} of the upload.
      * <br> <br>This method will throw an exception if the file was not found/doesn't exist.
      * <br>Also note that this could throw an exception if the file takes too long to delete or if the of the fileId
      * is invalid.
@@ -908,13 +1259,39 @@ public record MyFiles() implements RawResponseData
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @return The current instance of this class.
+     * @return The {@link DeleteResult} of the deleted file.
      */
     @NotNull
-    public MyFiles deleteFile(@NotNull String fileId) throws InterruptedException, IOException
+    public DeleteResult deleteFile(@NotNull String fileId) throws InterruptedException, IOException
     {
-        RawResponseData.deleteFileRaw(fileId);
-        return this;
+        final DataObject json = RawResponseData.deleteFileJson(fileId).resultNow();
+
+        if (uploadIndex != null)
+        {
+            uploadIndex.invalidate(fileId);
+        }
+        return DeleteResult.fromFileData(fileId, json);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteFile(String)}.
+     *
+     * @param fileId The ID of the file as a string.
+     *
+     * @return A {@link CompletableFuture}, which completes with the {@link DeleteResult} of the deleted file.
+     */
+    @NotNull
+    public CompletableFuture<DeleteResult> deleteFileAsync(@NotNull String fileId)
+    {
+        return RawResponseData.deleteFileJsonAsync(fileId)
+                .thenApply(json ->
+                {
+                    if (uploadIndex != null)
+                    {
+                        uploadIndex.invalidate(fileId);
+                    }
+                    return DeleteResult.fromFileData(fileId, json);
+                });
     }
 
     /**
@@ -938,9 +1315,35 @@ public record MyFiles() implements RawResponseData
     public MyFiles purgeFiles(@NotNull String password) throws InterruptedException, IOException
     {
         RawResponseData.purgeFilesRaw(password);
+
+        if (uploadIndex != null)
+        {
+            uploadIndex.clear();
+        }
         return this;
     }
 
+    /**
+     * Asynchronous variant of {@link #purgeFiles(String)}.
+     *
+     * @param password The password of your Tixte account.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current instance of this class.
+     */
+    @NotNull
+    public CompletableFuture<MyFiles> purgeFilesAsync(@NotNull String password)
+    {
+        return RawResponseData.purgeFilesRawAsync(password)
+                .thenApply(body ->
+                {
+                    if (uploadIndex != null)
+                    {
+                        uploadIndex.clear();
+                    }
+                    return this;
+                });
+    }
+
     /**
      * Gets every folder of the 'My Files' tab.
      * <br>Getting this at the moment is pretty useless because the actual record doesn't have something in it.
@@ -967,6 +1370,71 @@ public record MyFiles() implements RawResponseData
         return searchBar;
     }
 
+    @NotNull
+    private static List<Integer> toIntList(@NotNull List<Long> sizes)
+    {
+        return sizes.stream()
+                .map(Long::intValue)
+                .toList();
+    }
+
+    @NotNull
+    private static UploadResult upload(@NotNull UploadSource source, @Nullable String domain, boolean privateFile) throws InterruptedException, IOException
+    {
+        final UploadResult result;
+
+        if (uploadIndex != null)
+        {
+            result = uploadIndex.upload(source, domain, privateFile);
+        }
+        else
+        {
+            final DataObject json = RawResponseData.uploadFileJson(source, domain, privateFile).resultNow();
+            result = UploadResult.fromData(json);
+        }
+
+        lastUpload = result;
+        return result;
+    }
+
+    @NotNull
+    private static CompletableFuture<UploadResult> remember(@NotNull CompletableFuture<UploadResult> upload)
+    {
+        // The deprecated getters must already see the upload, when the returned future completes.
+        final CompletableFuture<UploadResult> result = upload.thenApply(value -> lastUpload = value);
+
+        result.whenComplete((value, throwable) ->
+        {
+            if (result.isCancelled())
+            {
+                upload.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @NotNull
+    static CompletableFuture<UploadResult> uploadAsync(@NotNull UploadSource source, @Nullable String domain, boolean privateFile)
+    {
+        if (uploadIndex != null)
+        {
+            return uploadIndex.uploadAsync(source, domain, privateFile);
+        }
+
+        final CompletableFuture<DataObject> request = RawResponseData.uploadFileJsonAsync(source, domain, privateFile);
+        final CompletableFuture<UploadResult> result = request.thenApply(UploadResult::fromData);
+
+        // Cancelling a dependent stage doesn't reach the request, so the cancellation has to be forwarded.
+        result.whenComplete((value, throwable) ->
+        {
+            if (result.isCancelled())
+            {
+                request.cancel(true);
+            }
+        });
+        return result;
+    }
+
     private void domainCheck(@Nullable String domain)
     {
         if (domain != null)
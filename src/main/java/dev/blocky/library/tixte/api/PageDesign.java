@@ -23,12 +23,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the 'Page Design' tab of the Tixte dashboard.
  *
  * @author BlockyDotJar
- * @version v1.4.0
+ * @version v1.5.0
  * @since v1.0.0-alpha.1
  */
 public record PageDesign() implements RawResponseData
@@ -48,10 +49,22 @@ public record PageDesign() implements RawResponseData
     @NotNull
     public String getCustomCSS() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getString(json, "data.custom_css");
     }
 
+    /**
+     * Asynchronous variant of {@link #getCustomCSS()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the custom CSS code.
+     */
+    @NotNull
+    public CompletableFuture<String> getCustomCSSAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.custom_css"));
+    }
+
     /**
      * Sets the custom CSS code from the 'Page Design' tab of the Tixte dashboard.
      * <br>Note that this method will throw an {@link TixteWantsYourMoneyException}
@@ -73,6 +86,19 @@ public record PageDesign() implements RawResponseData
         return this;
     }
 
+    /**
+     * Asynchronous variant of {@link #setCustomCSS(String)}.
+     *
+     * @param customCSS The custom CSS code for your page design.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current instance of the {@link PageDesign}.
+     */
+    @NotNull
+    public CompletableFuture<PageDesign> setCustomCSSAsync(@Nullable String customCSS)
+    {
+        return RawResponseData.setCustomCSSRawAsync(customCSS == null ? "" : customCSS).thenApply(body -> this);
+    }
+
     /**
      * Sets the visibility of the branding on the left top corner of the page.
      * <br>This requires a Tixte turbo/turbo-charged subscription or else there will be thrown a {@link TixteWantsYourMoneyException}.
@@ -99,6 +125,30 @@ public record PageDesign() implements RawResponseData
         return this;
     }
 
+    /**
+     * Asynchronous variant of {@link #setHideBranding(boolean)}.
+     * <br>If you don't own a Tixte turbo/turbo-charged subscription, the returned {@link CompletableFuture} completes
+     * exceptionally with a {@link TixteWantsYourMoneyException}.
+     *
+     * @param hideBranding If the page should have the Tixte branding.
+     *
+     * @return A {@link CompletableFuture}, which completes with the current instance of the {@link PageDesign}.
+     */
+    @NotNull
+    public CompletableFuture<PageDesign> setHideBrandingAsync(boolean hideBranding)
+    {
+        return self.hasTixteSubscriptionAsync()
+                .thenCompose(hasSubscription ->
+                {
+                    if (!hasSubscription)
+                    {
+                        throw new TixteWantsYourMoneyException("Payment required: This feature requires a turbo subscription");
+                    }
+                    return RawResponseData.setHideBrandingRawAsync(hideBranding);
+                })
+                .thenApply(body -> this);
+    }
+
     /**
      * Checks if the branding of the {@link Embed} is hidden.
      *
@@ -112,7 +162,19 @@ public record PageDesign() implements RawResponseData
      */
     public boolean hidesBranding() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         return DataPath.getBoolean(json, "data.hide_branding");
     }
+
+    /**
+     * Asynchronous variant of {@link #hidesBranding()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with whether the branding is hidden or not.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> hidesBrandingAsync()
+    {
+        return RawResponseData.getConfigJsonAsync()
+                .thenApply(json -> DataPath.getBoolean(json, "data.hide_branding"));
+    }
 }
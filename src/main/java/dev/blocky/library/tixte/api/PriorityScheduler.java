@@ -0,0 +1,400 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.RequestPriority;
+import dev.blocky.library.tixte.internal.interceptor.ConcurrencyLimitInterceptor;
+import dev.blocky.library.tixte.internal.interceptor.RateLimitInterceptor;
+import okhttp3.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules asynchronous calls by their {@link RequestPriority} in front of the {@link Dispatcher}.
+ * <br>The {@link Dispatcher} itself only knows one FIFO queue, so a burst of background calls would delay every
+ * interactive call, which got enqueued afterwards. This is why calls only get handed to the {@link Dispatcher} as soon
+ * as they can run, and until then wait in one queue per priority:
+ * <ul>
+ *     <li>Interactive calls get started as long as the capacity is not used up.</li>
+ *     <li>Background calls only get started, if no interactive call is waiting for a free slot and the capacity
+ *     without the reserved share of {@link #reservedCapacity(int)} is not used up.</li>
+ * </ul>
+ *
+ * <p>Before a call gets started, it takes a token of its rate-limit bucket via {@link RateLimitInterceptor#reserve(Request)}.
+ * If its bucket has no tokens left, the call stays queued until the bucket resets, while calls of other buckets
+ * can overtake it. So a rate-limited call neither holds a thread of the {@link Dispatcher} nor a connection.
+ *
+ * <p>The capacity is the capacity of the {@link Dispatcher} or, if the adaptive limit is enabled, the current
+ * {@link ConcurrencyLimitInterceptor#getLimit() limit}, if it is lower. So calls, which exceed the limit, wait here
+ * instead of holding a thread of the {@link Dispatcher} and a connection.
+ * <br>Blocking calls wait in the same queues via {@link #acquire(Request)}, so they can't bypass the limit.
+ *
+ * <p>Every execution lane (metadata and uploads) has its own {@link OkHttpClient} and therefore its own scheduler.
+ *
+ * @author BlockyDotJar
+ * @version v1.1.0
+ * @since v1.2.0
+ */
+final class PriorityScheduler
+{
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Tixte4J-Scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Deque<Entry> interactive = new ArrayDeque<>();
+    private final Deque<Entry> background = new ArrayDeque<>();
+    private final OkHttpClient client;
+    private final ConcurrencyLimitInterceptor limiter;
+    private final RateLimitInterceptor rateLimiter;
+    private int running;
+    private long drainAtNanos;
+    private boolean drainScheduled;
+
+    PriorityScheduler(@NotNull OkHttpClient client, @Nullable ConcurrencyLimitInterceptor limiter, @Nullable RateLimitInterceptor rateLimiter)
+    {
+        this.client = client;
+        this.limiter = limiter;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Gets the {@link OkHttpClient}, which creates and executes the calls of this scheduler.
+     *
+     * @return The {@link OkHttpClient} of this scheduler.
+     */
+    @NotNull
+    OkHttpClient getClient()
+    {
+        return client;
+    }
+
+    /**
+     * Creates a call for the request and enqueues it with the {@link RequestPriority}, which is tagged on the request.
+     *
+     * @param request The request to enqueue.
+     * @param callback The {@link Callback}, which gets notified as soon as the call completes.
+     *
+     * @return The enqueued call, which can be used to cancel the request.
+     */
+    @NotNull
+    Call enqueue(@NotNull Request request, @NotNull Callback callback)
+    {
+        final Entry entry = new Entry(client.newCall(request), callback);
+
+        add(entry);
+        drain();
+        return entry.call;
+    }
+
+    /**
+     * Creates a call for the request and blocks until it can run.
+     * <br>The call must be executed by the caller and the slot has to be given back via {@link #release()} as soon
+     * as the body was read.
+     *
+     * @param request The request to execute.
+     *
+     * @throws IOException If the call got canceled while waiting.
+     * @throws InterruptedIOException If the current thread was interrupted while waiting.
+     *
+     * @return The call, which can be executed now.
+     */
+    @NotNull
+    Call acquire(@NotNull Request request) throws IOException
+    {
+        final Entry entry = new Entry(client.newCall(request), null);
+
+        add(entry);
+        drain();
+
+        synchronized (this)
+        {
+            try
+            {
+                while (!entry.started && !entry.call.isCanceled())
+                {
+                    wait();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                if (remove(entry))
+                {
+                    throw new InterruptedIOException("Interrupted while waiting for a free slot.");
+                }
+            }
+
+            if (!entry.started)
+            {
+                remove(entry);
+                throw new IOException("Canceled");
+            }
+        }
+        return entry.call;
+    }
+
+    /**
+     * Gives back the slot of a call, which got {@link #acquire(Request) acquired} before.
+     */
+    void release()
+    {
+        synchronized (this)
+        {
+            running--;
+        }
+        drain();
+    }
+
+    /**
+     * Cancels every call, which is still waiting in the queues.
+     * <br>Calls, which got already handed to the {@link Dispatcher}, have to be cancelled by it.
+     */
+    void cancelAll()
+    {
+        final List<Entry> cancelled = new ArrayList<>();
+
+        synchronized (this)
+        {
+            cancelled.addAll(interactive);
+            cancelled.addAll(background);
+
+            interactive.clear();
+            background.clear();
+        }
+
+        for (final Entry entry : cancelled)
+        {
+            entry.call.cancel();
+
+            if (entry.callback != null)
+            {
+                entry.callback.onFailure(entry.call, new IOException("Canceled"));
+            }
+        }
+
+        synchronized (this)
+        {
+            // Wakes up the blocking calls, so they see, that they got canceled.
+            notifyAll();
+        }
+    }
+
+    /**
+     * Gets the count of calls with the specified {@link RequestPriority}, which are waiting in the queue.
+     *
+     * @param priority The {@link RequestPriority} of the queue.
+     *
+     * @return The count of waiting calls.
+     */
+    synchronized int queuedCount(@NotNull RequestPriority priority)
+    {
+        return priority == RequestPriority.BACKGROUND ? background.size() : interactive.size();
+    }
+
+    /**
+     * Gets the share of the capacity, which is reserved for interactive calls.
+     *
+     * @param capacity The count of calls, which can run at the same time.
+     *
+     * @return The count of calls, which only interactive calls can use.
+     */
+    static int reservedCapacity(int capacity)
+    {
+        return capacity > 1 ? Math.max(1, capacity / 10) : 0;
+    }
+
+    private synchronized void add(@NotNull Entry entry)
+    {
+        if (entry.call.request().tag(RequestPriority.class) == RequestPriority.BACKGROUND)
+        {
+            background.addLast(entry);
+        }
+        else
+        {
+            interactive.addLast(entry);
+        }
+    }
+
+    private synchronized boolean remove(@NotNull Entry entry)
+    {
+        if (entry.started)
+        {
+            return false;
+        }
+        return interactive.remove(entry) || background.remove(entry);
+    }
+
+    private int capacity()
+    {
+        final Dispatcher dispatcher = client.dispatcher();
+        final int capacity = Math.min(dispatcher.getMaxRequests(), dispatcher.getMaxRequestsPerHost());
+
+        return Math.max(1, limiter == null ? capacity : Math.min(capacity, limiter.getLimit()));
+    }
+
+    private void drain()
+    {
+        final int capacity = capacity();
+        final List<Entry> ready = new ArrayList<>();
+
+        synchronized (this)
+        {
+            final long interactiveDelayNanos = poll(interactive, capacity, ready);
+
+            // Interactive calls, which are still queued, if there is capacity left, only wait for their bucket, so
+            // they don't hold back background calls of other buckets.
+            final long delayNanos = Math.min(interactiveDelayNanos, poll(background, capacity - reservedCapacity(capacity), ready));
+
+            if (delayNanos != Long.MAX_VALUE)
+            {
+                scheduleDrain(delayNanos);
+            }
+        }
+
+        // The calls get started outside the lock, because the dispatcher may run a callback on the current thread.
+        for (final Entry entry : ready)
+        {
+            entry.start();
+        }
+    }
+
+    private long poll(@NotNull Deque<Entry> queue, int capacity, @NotNull List<Entry> ready)
+    {
+        long delayNanos = Long.MAX_VALUE;
+
+        for (final Iterator<Entry> iterator = queue.iterator(); iterator.hasNext() && running < capacity; )
+        {
+            final Entry entry = iterator.next();
+
+            // Canceled calls don't need a token, they fail as soon as they get started.
+            final long entryDelayNanos = rateLimiter == null || entry.call.isCanceled() ? 0 : rateLimiter.reserve(entry.call.request());
+
+            if (entryDelayNanos > 0)
+            {
+                delayNanos = Math.min(delayNanos, entryDelayNanos);
+                continue;
+            }
+
+            iterator.remove();
+            ready.add(entry);
+            running++;
+        }
+        return delayNanos;
+    }
+
+    private void scheduleDrain(long delayNanos)
+    {
+        final long atNanos = System.nanoTime() + delayNanos;
+
+        // An earlier drain also drains the calls, which wait for a later reset.
+        if (drainScheduled && drainAtNanos - atNanos <= 0)
+        {
+            return;
+        }
+
+        drainScheduled = true;
+        drainAtNanos = atNanos;
+
+        timer.schedule(() ->
+        {
+            synchronized (this)
+            {
+                if (drainAtNanos == atNanos)
+                {
+                    drainScheduled = false;
+                }
+            }
+            drain();
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class Entry
+    {
+        private final Call call;
+
+        // Null for blocking calls, which get executed by the waiting thread itself.
+        private final Callback callback;
+        private boolean started;
+
+        private Entry(@NotNull Call call, @Nullable Callback callback)
+        {
+            this.call = call;
+            this.callback = callback;
+        }
+
+        void start()
+        {
+            if (callback == null)
+            {
+                synchronized (PriorityScheduler.this)
+                {
+                    started = true;
+                    PriorityScheduler.this.notifyAll();
+                }
+                return;
+            }
+
+            if (call.isCanceled())
+            {
+                release();
+                callback.onFailure(call, new IOException("Canceled"));
+                return;
+            }
+
+            call.enqueue(new Callback()
+            {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e)
+                {
+                    try
+                    {
+                        callback.onFailure(call, e);
+                    }
+                    finally
+                    {
+                        release();
+                    }
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException
+                {
+                    // The slot gets released after the body was read, because the dispatcher also counts the call
+                    // as running until the callback returns.
+                    try
+                    {
+                        callback.onResponse(call, response);
+                    }
+                    finally
+                    {
+                        release();
+                    }
+                }
+            });
+        }
+    }
+}
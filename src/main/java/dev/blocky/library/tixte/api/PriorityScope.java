@@ -0,0 +1,82 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.RequestPriority;
+import dev.blocky.library.tixte.internal.utils.Checks;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sets the {@link RequestPriority} of every request, which gets sent by the current thread, until the scope gets closed.
+ * <br>Scopes can be nested, closing a scope restores the priority of the enclosing scope.
+ *
+ * <p>Example:
+ * <pre><code>
+ * try (final PriorityScope scope = PriorityScope.open(RequestPriority.BACKGROUND))
+ * {
+ *     myFiles.uploadFileAsync(source, null, false);
+ * }
+ * </code></pre>
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public final class PriorityScope implements AutoCloseable
+{
+    private static final ThreadLocal<RequestPriority> currentPriority = ThreadLocal.withInitial(() -> RequestPriority.INTERACTIVE);
+
+    private final RequestPriority previous;
+
+    private PriorityScope(@NotNull RequestPriority previous)
+    {
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a <b>new</b> scope with the specified {@link RequestPriority}.
+     *
+     * @param priority The priority of every request, which gets sent by the current thread inside the scope.
+     *
+     * @return The <b>new</b> {@link PriorityScope}, which must be closed by the same thread.
+     */
+    @NotNull
+    public static PriorityScope open(@NotNull RequestPriority priority)
+    {
+        Checks.notNull(priority, "priority");
+
+        final PriorityScope scope = new PriorityScope(currentPriority.get());
+        currentPriority.set(priority);
+        return scope;
+    }
+
+    /**
+     * Gets the {@link RequestPriority} of the current thread.
+     *
+     * @return The {@link RequestPriority} of the current thread, which is {@link RequestPriority#INTERACTIVE} by default.
+     */
+    @NotNull
+    public static RequestPriority current()
+    {
+        return currentPriority.get();
+    }
+
+    @Override
+    public void close()
+    {
+        currentPriority.set(previous);
+    }
+}
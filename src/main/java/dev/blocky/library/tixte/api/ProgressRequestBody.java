@@ -0,0 +1,168 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.utils.logging.TixteLogger;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.Okio;
+import okio.Sink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RequestBody}, which reports the progress of the wrapped body to an {@link UploadListener}.
+ * <br>Counting a write only adds its length and compares the time with the next sample, so the listener gets
+ * called at most every {@link #SAMPLE_INTERVAL_NANOS} nanoseconds, no matter how small the writes are.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+final class ProgressRequestBody extends RequestBody
+{
+    static final long SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final Logger logger = TixteLogger.getLog(ProgressRequestBody.class);
+
+    private final RequestBody delegate;
+    private final String fileName;
+    private final UploadListener listener;
+
+    private long contentLength, bytesWritten, startNanos, endNanos, sampleNanos, sampleBytes;
+
+    ProgressRequestBody(@NotNull RequestBody delegate, @NotNull String fileName, @NotNull UploadListener listener)
+    {
+        this.delegate = delegate;
+        this.fileName = fileName;
+        this.listener = listener;
+    }
+
+    @Nullable
+    @Override
+    public MediaType contentType()
+    {
+        return delegate.contentType();
+    }
+
+    @Override
+    public long contentLength() throws IOException
+    {
+        return delegate.contentLength();
+    }
+
+    @Override
+    public boolean isOneShot()
+    {
+        return delegate.isOneShot();
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException
+    {
+        // Every attempt starts from zero, so a retried request doesn't report more bytes than the file has.
+        contentLength = delegate.contentLength();
+        bytesWritten = 0;
+        startNanos = System.nanoTime();
+        endNanos = 0;
+        sampleNanos = startNanos;
+        sampleBytes = 0;
+
+        final BufferedSink countingSink = Okio.buffer(new CountingSink(sink));
+
+        delegate.writeTo(countingSink);
+        countingSink.emit();
+
+        endNanos = System.nanoTime();
+        report(false, endNanos);
+    }
+
+    /**
+     * Reports the time to the first byte of the response.
+     * <br>This must be called as soon as the response was received.
+     */
+    void responseReceived()
+    {
+        if (endNanos != 0)
+        {
+            report(true, System.nanoTime());
+        }
+    }
+
+    private void report(boolean response, long nowNanos)
+    {
+        final long elapsedNanos = Math.max(1, (endNanos == 0 ? nowNanos : endNanos) - startNanos);
+        final long sampleElapsedNanos = nowNanos - sampleNanos;
+
+        final double instantaneousThroughput = sampleElapsedNanos <= 0 ? 0 : (bytesWritten - sampleBytes) * 1e9 / sampleElapsedNanos;
+        final double averageThroughput = bytesWritten * 1e9 / elapsedNanos;
+
+        final Duration timeToFirstByte = response ? Duration.ofNanos(nowNanos - endNanos) : null;
+
+        final UploadProgress progress = new UploadProgress(fileName, bytesWritten, contentLength, Duration.ofNanos(elapsedNanos),
+                response ? averageThroughput : instantaneousThroughput, averageThroughput, timeToFirstByte);
+
+        if (!response)
+        {
+            sampleNanos = nowNanos;
+            sampleBytes = bytesWritten;
+        }
+
+        try
+        {
+            if (response)
+            {
+                listener.onResponse(progress);
+                return;
+            }
+            listener.onProgress(progress);
+        }
+        catch (RuntimeException e)
+        {
+            logger.warn("The upload listener threw an exception.", e);
+        }
+    }
+
+    private final class CountingSink extends ForwardingSink
+    {
+        private CountingSink(@NotNull Sink delegate)
+        {
+            super(delegate);
+        }
+
+        @Override
+        public void write(@NotNull Buffer source, long byteCount) throws IOException
+        {
+            super.write(source, byteCount);
+            bytesWritten += byteCount;
+
+            final long nowNanos = System.nanoTime();
+
+            if (nowNanos - sampleNanos >= SAMPLE_INTERVAL_NANOS)
+            {
+                report(false, nowNanos);
+            }
+        }
+    }
+}
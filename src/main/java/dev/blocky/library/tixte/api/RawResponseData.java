@@ -16,13 +16,19 @@
 package dev.blocky.library.tixte.api;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.MustBeClosed;
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.api.enums.RequestPriority;
+import dev.blocky.library.tixte.internal.interceptor.ErrorResponseInterceptor.ErrorResponseException;
+import dev.blocky.library.tixte.internal.requests.HTTPMethods;
+import dev.blocky.library.tixte.internal.requests.JsonRequestBody;
 import dev.blocky.library.tixte.internal.requests.Route;
 import dev.blocky.library.tixte.internal.requests.json.DataObject;
 import dev.blocky.library.tixte.internal.utils.Checks;
-import dev.blocky.library.tixte.internal.utils.io.IOUtil;
 import dev.blocky.library.tixte.internal.utils.logging.TixteLogger;
 import jdk.incubator.concurrent.StructuredTaskScope;
 import okhttp3.*;
+import okio.BufferedSource;
 import org.jetbrains.annotations.ApiStatus.Experimental;
 import org.jetbrains.annotations.NonBlocking;
 import org.jetbrains.annotations.NotNull;
@@ -32,8 +38,10 @@ import org.slf4j.Logger;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
@@ -45,7 +53,7 @@ import static dev.blocky.library.tixte.internal.requests.Route.TIXTE_API_PREFIX;
  * Represents the raw response data from Tixte API-requests.
  *
  * @author BlockyDotJar
- * @version v3.1.1
+ * @version v3.3.0
  * @since v1.0.0-beta.1
  */
 public interface RawResponseData
@@ -71,6 +79,52 @@ public interface RawResponseData
         return request(route, false, null);
     }
 
+    /**
+     * Asynchronous variant of {@link #getSizeRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getSizeRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_UPLOAD_SIZE.compile();
+        return requestAsync(route, false, null);
+    }
+
+    /**
+     * Variant of {@link #getSizeRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getSizeJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_UPLOAD_SIZE.compile();
+        return requestJson(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSizeJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getSizeJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_UPLOAD_SIZE.compile();
+        return requestJsonAsync(route, false, null);
+    }
+
     /**
      * @see MyFiles#getTotalUploadCount()
      * @see MyFiles#getResults()
@@ -97,34 +151,180 @@ public interface RawResponseData
         return request(route, false, null);
     }
 
+    /**
+     * Asynchronous variant of {@link #getUploadsRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getUploadsRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_UPLOADS.compile();
+        return requestAsync(route, false, null);
+    }
+
+    /**
+     * Variant of {@link #getUploadsRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getUploadsJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_UPLOADS.compile();
+        return requestJson(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUploadsJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getUploadsJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_UPLOADS.compile();
+        return requestJsonAsync(route, false, null);
+    }
+
+    /**
+     * Gets a single page of the uploads.
+     *
+     * @param page The page to get, starting at 1.
+     * @param amount The amount of uploads per page.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see MyFiles#getUploadPages(int)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> getUploadsRaw(int page, int amount) throws IOException, InterruptedException
+    {
+        return request(uploadsPageRoute(page, amount), false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUploadsRaw(int, int)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param page The page to get, starting at 1.
+     * @param amount The amount of uploads per page.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getUploadsRawAsync(int page, int amount)
+    {
+        return requestAsync(uploadsPageRoute(page, amount), false, null);
+    }
+
+    /**
+     * Variant of {@link #getUploadsRaw(int, int)}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @param page The page to get, starting at 1.
+     * @param amount The amount of uploads per page.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getUploadsJson(int page, int amount) throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = uploadsPageRoute(page, amount);
+        return requestJson(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUploadsJson(int, int)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param page The page to get, starting at 1.
+     * @param amount The amount of uploads per page.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getUploadsJsonAsync(int page, int amount)
+    {
+        final Route.CompiledRoute route = uploadsPageRoute(page, amount);
+        return requestJsonAsync(route, false, null);
+    }
+
+    /**
+     * Streaming variant of {@link #getUploadsRaw()}.
+     * <br>Instead of reading the whole response into a {@link String}, this returns the {@link BufferedSource} of the
+     * response body, so the uploads can be decoded while they are still being received.
+     * <br><b>You are responsible for closing the returned source</b>, which also releases the connection.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     *
+     * @see MyFiles#streamUploads()
+     *
+     * @return The {@link BufferedSource} of the response body.
+     */
+    @NotNull
+    @MustBeClosed
+    static BufferedSource getUploadsRawSource() throws IOException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_UPLOADS.compile();
+        final Request request = newRequest(route, false, null);
+
+        final PriorityScheduler scheduler = TixteClientBuilder.scheduler;
+        final Call call = scheduler.acquire(request);
+
+        try
+        {
+            final Response response = call.execute();
+            return response.body().source();
+        }
+        catch (ErrorResponseException e)
+        {
+            throw e.getCause();
+        }
+        finally
+        {
+            // The body gets streamed by the caller, so the slot is only held until the response started.
+            scheduler.release();
+        }
+    }
+
     /**
      * @param file The file to be uploaded.
      *
      * @throws FileNotFoundException If the file is not found.
      *
      * @see MyFiles#uploadFile(File)
-     * @see MyFiles#getURL()
-     * @see MyFiles#getDirectURL()
-     * @see MyFiles#getDeletionURL()
      *
      * @return The raw response of the request.
      */
     @NotNull
     static Future<String> uploadFileRaw(@NotNull File file) throws IOException, InterruptedException
     {
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(null, multipartBody, false);
+        return uploadFileRaw(UploadSource.ofExisting(file), null, false);
     }
 
     /**
@@ -139,19 +339,7 @@ public interface RawResponseData
     @NotNull
     static Future<String> uploadPrivateFileRaw(@NotNull File file) throws IOException, InterruptedException
     {
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(null, multipartBody, true);
+        return uploadFileRaw(UploadSource.ofExisting(file), null, true);
     }
 
     /**
@@ -167,22 +355,8 @@ public interface RawResponseData
     @NotNull
     static Future<String> uploadFileRaw(@NotNull File file, @NotNull String domain) throws IOException, InterruptedException
     {
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
         Checks.notEmpty(domain, "domain");
-        Checks.noWhitespace(domain, "domain");
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(domain, multipartBody, false);
+        return uploadFileRaw(UploadSource.ofExisting(file), domain, false);
     }
 
     /**
@@ -198,22 +372,8 @@ public interface RawResponseData
     @NotNull
     static Future<String> uploadPrivateFileRaw(@NotNull File file, @NotNull String domain) throws IOException, InterruptedException
     {
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
         Checks.notEmpty(domain, "domain");
-        Checks.noWhitespace(domain, "domain");
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(domain, multipartBody, true);
+        return uploadFileRaw(UploadSource.ofExisting(file), domain, true);
     }
 
     /**
@@ -229,22 +389,7 @@ public interface RawResponseData
     static Future<String> uploadFileRaw(@NotNull String filePath) throws IOException, InterruptedException
     {
         Checks.notEmpty(filePath, "filePath");
-
-        final File file = new File(filePath);
-
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(null, multipartBody, false);
+        return uploadFileRaw(new File(filePath));
     }
 
     /**
@@ -260,22 +405,7 @@ public interface RawResponseData
     static Future<String> uploadPrivateFileRaw(@NotNull String filePath) throws IOException, InterruptedException
     {
         Checks.notEmpty(filePath, "filePath");
-
-        final File file = new File(filePath);
-
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(null, multipartBody, true);
+        return uploadPrivateFileRaw(new File(filePath));
     }
 
     /**
@@ -292,25 +422,7 @@ public interface RawResponseData
     static Future<String> uploadFileRaw(@NotNull String filePath, @NotNull String domain) throws IOException, InterruptedException
     {
         Checks.notEmpty(filePath, "filePath");
-
-        final File file = new File(filePath);
-
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
-        Checks.notEmpty(domain, "domain");
-        Checks.noWhitespace(domain, "domain");
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(domain, multipartBody, false);
+        return uploadFileRaw(new File(filePath), domain);
     }
 
     /**
@@ -327,516 +439,1220 @@ public interface RawResponseData
     static Future<String> uploadPrivateFileRaw(@NotNull String filePath, @NotNull String domain) throws IOException, InterruptedException
     {
         Checks.notEmpty(filePath, "filePath");
-
-        final File file = new File(filePath);
-
-        if (!file.exists())
-        {
-            throw new FileNotFoundException("File " + file.getName() + " was not found.");
-        }
-
-        Checks.notEmpty(domain, "domain");
-        Checks.noWhitespace(domain, "domain");
-
-        final RequestBody requestBody = RequestBody.create(file, MediaType.get("multipart/form-data"));
-
-        final MultipartBody multipartBody = new MultipartBody.Builder()
-                .setType(MultipartBody.FORM)
-                .addFormDataPart("file", file.getName(), requestBody)
-                .build();
-
-        return postFile(domain, multipartBody, true);
+        return uploadPrivateFileRaw(new File(filePath), domain);
     }
 
     /**
-     * @param fileId The ID of the file as a string.
+     * Uploads the content of an {@link UploadSource}.
+     * <br>Unlike the {@link File} based methods, this also accepts {@link java.nio.file.Path paths},
+     * {@link java.nio.channels.FileChannel} slices, {@link java.nio.ByteBuffer buffers} and {@code byte[]} ranges.
      *
-     * @see MyFiles#deleteFile(String)
+     * @param source The content of the file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see MyFiles#uploadFile(UploadSource, String, boolean)
      *
      * @return The raw response of the request.
      */
     @NotNull
-    @CanIgnoreReturnValue
-    static Future<String> deleteFileRaw(@NotNull String fileId) throws IOException, InterruptedException
+    static Future<String> uploadFileRaw(@NotNull UploadSource source, @Nullable String domain, boolean privateFile) throws IOException, InterruptedException
     {
-        Checks.notEmpty(fileId, "fileId");
-        Checks.noWhitespace(fileId, "fileId");
-
-        final Route.CompiledRoute route = Route.Self.DELETE_FILE.compile(fileId);
+        Checks.notNull(source, "source");
+        checkDomain(domain);
 
-        return request(route, false, null);
+        return postFile(domain, source, privateFile, ResponseBody::string);
     }
 
     /**
-     * @param password The password of your Tixte account.
+     * Asynchronous variant of {@link #uploadFileRaw(UploadSource, String, boolean)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
      *
-     * @see MyFiles#purgeFiles(String)
+     * @param source The content of the file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
      *
-     * @return The raw response of the request.
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
      */
     @NotNull
-    @CanIgnoreReturnValue
-    static Future<String> purgeFilesRaw(@NotNull String password) throws IOException, InterruptedException
+    @NonBlocking
+    static CompletableFuture<String> uploadFileRawAsync(@NotNull UploadSource source, @Nullable String domain, boolean privateFile)
     {
-        Checks.notEmpty(password, "password");
-        Checks.noWhitespace(password, "password");
+        Checks.notNull(source, "source");
+        checkDomain(domain);
 
-        final Route.CompiledRoute route = Route.Self.PURGE_FILES.compile();
+        return postFileAsync(domain, source, privateFile, ResponseBody::string);
+    }
 
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "password": "%s",
-                                    "purge": true
-                                }
-                                """
-                        , password
-                ),
-                MediaType.parse("application/json; charset=utf-8"));
+    /**
+     * Asynchronous variant of {@link #uploadFileRaw(File, String)} and {@link #uploadPrivateFileRaw(File, String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     * <br>If the file does not exist, the returned {@link CompletableFuture} completes exceptionally with a {@link FileNotFoundException}.
+     *
+     * @param file The file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> uploadFileRawAsync(@NotNull File file, @Nullable String domain, boolean privateFile)
+    {
+        Checks.notNull(file, "file");
 
-        return request(route, true, requestBody);
+        if (!file.exists())
+        {
+            return CompletableFuture.failedFuture(new FileNotFoundException("File " + file.getName() + " was not found."));
+        }
+        return uploadFileRawAsync(UploadSource.of(file), domain, privateFile);
     }
 
     /**
-     * @see MyFiles#getUploadRegion()
-     * @see SelfUser#getUsername()
-     * @see SelfUser#getId()
-     * @see SelfUser#getEmail()
-     * @see SelfUser#getAvatarId()
-     * @see SelfUser#getFlagCount()
-     * @see SelfUser#getPremiumTier()
-     * @see SelfUser#getPhoneNumber()
-     * @see SelfUser#getLastLogin()
-     * @see SelfUser#hasMFAEnabled()
-     * @see SelfUser#isEmailVerified()
-     * @see SelfUser#getUploadRegion()
+     * Asynchronous variant of {@link #uploadFileRaw(String, String)} and {@link #uploadPrivateFileRaw(String, String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     * <br>If the file does not exist, the returned {@link CompletableFuture} completes exceptionally with a {@link FileNotFoundException}.
      *
-     * @return The raw response of the request.
+     * @param filePath The string to initialize the file, which should be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
      */
     @NotNull
-    static Future<String> getUserInfoRaw() throws IOException, InterruptedException
+    @NonBlocking
+    static CompletableFuture<String> uploadFileRawAsync(@NotNull String filePath, @Nullable String domain, boolean privateFile)
     {
-        final Route.CompiledRoute route = Route.Self.GET_SELF.compile();
-        return request(route, false, null);
+        Checks.notEmpty(filePath, "filePath");
+        return uploadFileRawAsync(new File(filePath), domain, privateFile);
     }
 
     /**
-     * @param userData A user-id oder user-name.
+     * Variant of {@link #uploadFileRaw(UploadSource, String, boolean)}, which decodes the response body directly from
+     * the network stream into a {@link DataObject} instead of reading it into a {@link String} first.
      *
-     * @see User#getFlagCount()
-     * @see User#getAvatarId()
-     * @see User#getId()
-     * @see User#getUsername()
+     * @param source The content of the file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
      *
-     * @return The raw response of the request.
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
      */
     @NotNull
-    static Future<String> getUserInfoRaw(@NotNull String userData) throws IOException, InterruptedException
+    static Future<DataObject> uploadFileJson(@NotNull UploadSource source, @Nullable String domain, boolean privateFile) throws IOException, InterruptedException
     {
-        Checks.notEmpty(userData, "userData");
-        Checks.noWhitespace(userData, "userData");
-
-        final Route.CompiledRoute route = Route.Users.GET_USER.compile(userData);
+        Checks.notNull(source, "source");
+        checkDomain(domain);
 
-        return request(route, true, null);
+        return postFile(domain, source, privateFile, RawResponseData::readJson);
     }
 
     /**
-     * @see Domains#getUploadCounts()
-     * @see Domains#getDomainNames()
-     * @see Domains#getOwnerIds()
-     * @see Domains#getDomainCount()
+     * Asynchronous variant of {@link #uploadFileJson(UploadSource, String, boolean)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
      *
-     * @return The raw response of the request.
-     */
-    @NotNull
-    static Future<String> getUserDomainsRaw() throws IOException, InterruptedException
-    {
-        final Route.CompiledRoute route = Route.Self.GET_DOMAINS.compile();
-        return request(route, true, null);
-    }
-
-    /**
-     * @see Domains#getUsableDomainNames()
-     * @see Domains#getUsableDomainCount()
-     * @see Domains#areActive()
-     * @see Domains#areInActive()
+     * @param source The content of the file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
      *
-     * @return The raw response of the request.
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
      */
     @NotNull
-    static Future<String> getUsableDomainsRaw() throws IOException, InterruptedException
+    @NonBlocking
+    static CompletableFuture<DataObject> uploadFileJsonAsync(@NotNull UploadSource source, @Nullable String domain, boolean privateFile)
     {
-        final Route.CompiledRoute route = Route.Domain.GET_DOMAINS.compile();
-        return request(route, false, null);
+        Checks.notNull(source, "source");
+        checkDomain(domain);
+
+        return postFileAsync(domain, source, privateFile, RawResponseData::readJson);
     }
 
     /**
-     * @see Domains#generateDomain()
+     * Variant of {@link #uploadFileRaw(File, String)} and {@link #uploadPrivateFileRaw(File, String)}, which decodes the
+     * response body directly from the network stream into a {@link DataObject} instead of reading it into a {@link String} first.
      *
-     * @return The raw response of the request.
+     * @param file The file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
+     *
+     * @throws FileNotFoundException If the file is not found.
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
      */
     @NotNull
-    static Future<String> generateDomainRaw() throws IOException, InterruptedException
+    static Future<DataObject> uploadFileJson(@NotNull File file, @Nullable String domain, boolean privateFile) throws IOException, InterruptedException
     {
-        final Route.CompiledRoute route = Route.Resources.GET_GENERATED_DOMAIN.compile();
-        return request(route, false, null);
+        return uploadFileJson(UploadSource.ofExisting(file), domain, privateFile);
     }
 
     /**
-     * @param domainName The domain name.
+     * Asynchronous variant of {@link #uploadFileJson(File, String, boolean)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     * <br>If the file does not exist, the returned {@link CompletableFuture} completes exceptionally with a {@link FileNotFoundException}.
      *
-     * @see Domains#addSubdomain(String)
+     * @param file The file to be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
      *
-     * @return The raw response of the request.
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
      */
     @NotNull
-    @CanIgnoreReturnValue
-    static Future<String> addSubdomainRaw(@NotNull String domainName) throws IOException, InterruptedException
+    @NonBlocking
+    static CompletableFuture<DataObject> uploadFileJsonAsync(@NotNull File file, @Nullable String domain, boolean privateFile)
     {
-        Checks.notEmpty(domainName, "domainName");
-        Checks.noWhitespace(domainName, "domainName");
-
-        final Route.CompiledRoute route = Route.Self.ADD_DOMAIN.compile(domainName);
-
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "domain": "%s",
-                                    "custom": false
-                                }
-                                """
-                        , domainName
-                ),
-                MediaType.get("application/json; charset=utf-8"));
+        Checks.notNull(file, "file");
 
-        return request(route, true, requestBody);
+        if (!file.exists())
+        {
+            return CompletableFuture.failedFuture(new FileNotFoundException("File " + file.getName() + " was not found."));
+        }
+        return uploadFileJsonAsync(UploadSource.of(file), domain, privateFile);
     }
 
     /**
-     * @param domainName The domain name.
+     * Variant of {@link #uploadFileJson(File, String, boolean)}, which initializes the file from the specified path.
+     *
+     * @param filePath The string to initialize the file, which should be uploaded.
+     * @param domain The domain to upload the file to or {@code null} to use the default domain.
+     * @param privateFile Whether the file should be uploaded as a private file or not.
      *
+     * @throws FileNotFoundException If the file is not found.
      * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
      *                     Because networks can fail during an exchange, it is possible that the remote server accepted
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @see Domains#addCustomDomain(String)
-     *
-     * @return The raw response of the request.
+     * @return The decoded response of the request.
      */
     @NotNull
-    @CanIgnoreReturnValue
-    static Future<String> addCustomDomainRaw(@NotNull String domainName) throws IOException, InterruptedException
+    static Future<DataObject> uploadFileJson(@NotNull String filePath, @Nullable String domain, boolean privateFile) throws IOException, InterruptedException
     {
-        Checks.notEmpty(domainName, "domainName");
-        Checks.noWhitespace(domainName, "domainName");
-
-        final Route.CompiledRoute route = Route.Self.ADD_DOMAIN.compile(domainName);
-
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "domain": "%s",
-                                    "custom": true
-                                }
-                                """
-                        , domainName
-                ),
-                MediaType.get("application/json; charset=utf-8"));
-
-        return request(route, true, requestBody);
+        Checks.notEmpty(filePath, "filePath");
+        return uploadFileJson(new File(filePath), domain, privateFile);
     }
 
     /**
-     * @param domainName The domain name.
-     *
-     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
-     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
-     *                     the request before the failure.
-     * @throws InterruptedException If the current thread was interrupted.
+     * @param fileId The ID of the file as a string.
      *
-     * @see Domains#deleteDomain(String)
-     * @see Domains#getLastDeletedDomain()
+     * @see MyFiles#deleteFile(String)
      *
      * @return The raw response of the request.
      */
     @NotNull
-    static Future<String> deleteDomainRaw(@NotNull String domainName) throws IOException, InterruptedException
+    @CanIgnoreReturnValue
+    static Future<String> deleteFileRaw(@NotNull String fileId) throws IOException, InterruptedException
     {
-        Checks.notEmpty(domainName, "domainName");
-        Checks.noWhitespace(domainName, "domainName");
+        Checks.notEmpty(fileId, "fileId");
+        Checks.noWhitespace(fileId, "fileId");
 
-        final Route.CompiledRoute route = Route.Self.DELETE_DOMAIN.compile(domainName);
+        final Route.CompiledRoute route = Route.Self.DELETE_FILE.compile(fileId);
 
-        return request(route, true, null);
+        return request(route, false, null);
     }
 
     /**
-     * @see SelfUser#getAPIKeyBySessionToken()
+     * Asynchronous variant of {@link #deleteFileRaw(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
      *
-     * @return The raw response of the request.
+     * @param fileId The ID of the file as a string.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
      */
     @NotNull
-    static Future<String> getAPIKeyBySessionTokenRaw() throws IOException, InterruptedException
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> deleteFileRawAsync(@NotNull String fileId)
     {
-        final Route.CompiledRoute route = Route.Self.GET_KEYS.compile();
-        return request(route, true, null);
+        Checks.notEmpty(fileId, "fileId");
+        Checks.noWhitespace(fileId, "fileId");
+
+        final Route.CompiledRoute route = Route.Self.DELETE_FILE.compile(fileId);
+        return requestAsync(route, false, null);
     }
 
     /**
+     * Variant of {@link #deleteFileRaw(String)}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @param fileId The ID of the file as a string.
+     *
      * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
      *                     Because networks can fail during an exchange, it is possible that the remote server accepted
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @see EmbedEditor#getEmbedDescription()
-     * @see EmbedEditor#getEmbedAuthorName()
-     * @see EmbedEditor#getEmbedAuthorUrl()
-     * @see EmbedEditor#getEmbedTitle()
-     * @see EmbedEditor#getEmbedProviderName()
-     * @see EmbedEditor#getEmbedProviderUrl()
-     * @see EmbedEditor#getEmbedThemeColor()
-     * @see EmbedEditor#onlyImageEnabled()
-     * @see TixteClient#baseRedirect()
-     * @see PageDesign#getCustomCSS()
-     * @see PageDesign#hidesBranding()
-     *
-     * @return The raw response of the request.
+     * @return The decoded response of the request.
      */
     @NotNull
-    static Future<String> getConfigRaw() throws IOException, InterruptedException
+    static Future<DataObject> deleteFileJson(@NotNull String fileId) throws IOException, InterruptedException
     {
-        final Route.CompiledRoute route = Route.Self.GET_CONFIG.compile();
-        return request(route, false, null);
+        Checks.notEmpty(fileId, "fileId");
+        Checks.noWhitespace(fileId, "fileId");
+
+        final Route.CompiledRoute route = Route.Self.DELETE_FILE.compile(fileId);
+        return requestJson(route, false, null);
     }
 
     /**
-     * @param customCSS The custom CSS code for your page design.
+     * Asynchronous variant of {@link #deleteFileJson(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
      *
-     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
-     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
-     *                     the request before the failure.
-     * @throws InterruptedException If the current thread was interrupted.
-     *
-     * @see PageDesign#setCustomCSS(String)
+     * @param fileId The ID of the file as a string.
      *
-     * @return The raw response of the request.
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
      */
     @NotNull
-    @CanIgnoreReturnValue
-    static Future<String> setCustomCSSRaw(@NotNull String customCSS) throws IOException, InterruptedException
+    @NonBlocking
+    static CompletableFuture<DataObject> deleteFileJsonAsync(@NotNull String fileId)
     {
-        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
-
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "custom_css": "%s"
-                                }
-                                """
-                        , customCSS
-                ),
-                MediaType.get("application/json; charset=utf-8"));
+        Checks.notEmpty(fileId, "fileId");
+        Checks.noWhitespace(fileId, "fileId");
 
-        return request(route, false, requestBody);
+        final Route.CompiledRoute route = Route.Self.DELETE_FILE.compile(fileId);
+        return requestJsonAsync(route, false, null);
     }
 
     /**
-     * @param authorName The author name to be built.
-     * @param authorURL The author url to be built.
-     * @param title The title to be built.
-     * @param description The description to be built.
-     * @param themeColor The color to be built.
-     * @param providerName The provider name to be built.
-     * @param providerURL The provider url to be built.
-     *
-     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
-     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
-     *                     the request before the failure.
-     * @throws InterruptedException If the current thread was interrupted.
+     * @param password The password of your Tixte account.
      *
-     * @see Embed#Embed(String, String, String, String, String, String, String)
+     * @see MyFiles#purgeFiles(String)
      *
      * @return The raw response of the request.
      */
     @NotNull
     @CanIgnoreReturnValue
-    static Future<String> setEmbedRaw(@Nullable String description, @Nullable String title, @Nullable String themeColor,
-                                      @Nullable String authorName, @Nullable String authorURL, @Nullable String providerName,
-                                      @Nullable String providerURL) throws IOException, InterruptedException
+    static Future<String> purgeFilesRaw(@NotNull String password) throws IOException, InterruptedException
     {
-        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        Checks.notEmpty(password, "password");
+        Checks.noWhitespace(password, "password");
 
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "embed": {
-                                        "description": "%s",
-                                        "title": "%s",
-                                        "theme_color": "%s",
-                                        "author_name": "%s",
-                                        "author_url": "%s",
-                                        "provider_name": "%s",
-                                        "provider_url": "%s"
-                                    }
-                                }
-                                """
-                        , description
-                        , title
-                        , themeColor
-                        , authorName
-                        , authorURL
-                        , providerName
-                        , providerURL
-                ),
-                MediaType.get("application/json; charset=utf-8"));
-
-        return request(route, false, requestBody);
+        final Route.CompiledRoute route = Route.Self.PURGE_FILES.compile();
+        return request(route, true, purgeFilesBody(password));
     }
 
-
     /**
-     * @param hideBranding Whether the branding is hidden or not.
-     *
-     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
-     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
-     *                     the request before the failure.
-     * @throws InterruptedException If the current thread was interrupted.
+     * Asynchronous variant of {@link #purgeFilesRaw(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
      *
-     * @see PageDesign#setHideBranding(boolean)
+     * @param password The password of your Tixte account.
      *
-     * @return The raw response of the request.
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
      */
     @NotNull
+    @NonBlocking
     @CanIgnoreReturnValue
-    static Future<String> setHideBrandingRaw(boolean hideBranding) throws IOException, InterruptedException
+    static CompletableFuture<String> purgeFilesRawAsync(@NotNull String password)
     {
-        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
-
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "hide_branding": %b
-                                }
-                                """
-                        , hideBranding
-                ),
-                MediaType.get("application/json; charset=utf-8"));
+        Checks.notEmpty(password, "password");
+        Checks.noWhitespace(password, "password");
 
-        return request(route, false, requestBody);
+        final Route.CompiledRoute route = Route.Self.PURGE_FILES.compile();
+        return requestAsync(route, true, purgeFilesBody(password));
     }
 
     /**
-     * @param onlyImagedEnabled Whether only images are enabled or not.
-     *
-     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
-     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
-     *                     the request before the failure.
-     * @throws InterruptedException If the current thread was interrupted.
-     *
-     * @see EmbedEditor#setOnlyImagedEnabled(boolean)
+     * @see MyFiles#getUploadRegion()
+     * @see SelfUser#getUsername()
+     * @see SelfUser#getId()
+     * @see SelfUser#getEmail()
+     * @see SelfUser#getAvatarId()
+     * @see SelfUser#getFlagCount()
+     * @see SelfUser#getPremiumTier()
+     * @see SelfUser#getPhoneNumber()
+     * @see SelfUser#getLastLogin()
+     * @see SelfUser#hasMFAEnabled()
+     * @see SelfUser#isEmailVerified()
+     * @see SelfUser#getUploadRegion()
      *
      * @return The raw response of the request.
      */
     @NotNull
-    @CanIgnoreReturnValue
-    static Future<String> setOnlyImageEnabledRaw(boolean onlyImagedEnabled) throws IOException, InterruptedException
+    static Future<String> getUserInfoRaw() throws IOException, InterruptedException
     {
-        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
-
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "only_image": %b
-                                }
-                                """
-                        , onlyImagedEnabled
-                ),
-                MediaType.get("application/json; charset=utf-8"));
+        final Route.CompiledRoute route = Route.Self.GET_SELF.compile();
+        return request(route, false, null);
+    }
 
-        return request(route, false, requestBody);
+    /**
+     * Asynchronous variant of {@link #getUserInfoRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getUserInfoRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_SELF.compile();
+        return requestAsync(route, false, null);
     }
 
     /**
-     * @param redirect Either {@code false} or a specified redirect Url as a string.
+     * Variant of {@link #getUserInfoRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
      *
      * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
      *                     Because networks can fail during an exchange, it is possible that the remote server accepted
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @see TixteClient#setBaseRedirect(Object)
-     *
-     * @return The raw response of the request.
+     * @return The decoded response of the request.
      */
     @NotNull
-    @CanIgnoreReturnValue
-    static Future<String> setBaseRedirectRaw(@NotNull Object redirect) throws IOException, InterruptedException
+    static Future<DataObject> getUserInfoJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_SELF.compile();
+        return requestJson(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUserInfoJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getUserInfoJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_SELF.compile();
+        return requestJsonAsync(route, false, null);
+    }
+
+    /**
+     * @param userData A user-id oder user-name.
+     *
+     * @see User#getFlagCount()
+     * @see User#getAvatarId()
+     * @see User#getId()
+     * @see User#getUsername()
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> getUserInfoRaw(@NotNull String userData) throws IOException, InterruptedException
+    {
+        Checks.notEmpty(userData, "userData");
+        Checks.noWhitespace(userData, "userData");
+
+        final Route.CompiledRoute route = Route.Users.GET_USER.compile(userData);
+
+        return request(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUserInfoRaw(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param userData A user-id oder user-name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getUserInfoRawAsync(@NotNull String userData)
+    {
+        Checks.notEmpty(userData, "userData");
+        Checks.noWhitespace(userData, "userData");
+
+        final Route.CompiledRoute route = Route.Users.GET_USER.compile(userData);
+        return requestAsync(route, true, null);
+    }
+
+    /**
+     * Variant of {@link #getUserInfoRaw(String)}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @param userData A user-id oder user-name.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getUserInfoJson(@NotNull String userData) throws IOException, InterruptedException
+    {
+        Checks.notEmpty(userData, "userData");
+        Checks.noWhitespace(userData, "userData");
+
+        final Route.CompiledRoute route = Route.Users.GET_USER.compile(userData);
+        return requestJson(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUserInfoJson(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param userData A user-id oder user-name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getUserInfoJsonAsync(@NotNull String userData)
+    {
+        Checks.notEmpty(userData, "userData");
+        Checks.noWhitespace(userData, "userData");
+
+        final Route.CompiledRoute route = Route.Users.GET_USER.compile(userData);
+        return requestJsonAsync(route, true, null);
+    }
+
+    /**
+     * @see Domains#getUploadCounts()
+     * @see Domains#getDomainNames()
+     * @see Domains#getOwnerIds()
+     * @see Domains#getDomainCount()
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> getUserDomainsRaw() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_DOMAINS.compile();
+        return request(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUserDomainsRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getUserDomainsRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_DOMAINS.compile();
+        return requestAsync(route, true, null);
+    }
+
+    /**
+     * Variant of {@link #getUserDomainsRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getUserDomainsJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_DOMAINS.compile();
+        return requestJson(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUserDomainsJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getUserDomainsJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_DOMAINS.compile();
+        return requestJsonAsync(route, true, null);
+    }
+
+    /**
+     * @see Domains#getUsableDomainNames()
+     * @see Domains#getUsableDomainCount()
+     * @see Domains#areActive()
+     * @see Domains#areInActive()
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> getUsableDomainsRaw() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Domain.GET_DOMAINS.compile();
+        return request(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUsableDomainsRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getUsableDomainsRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Domain.GET_DOMAINS.compile();
+        return requestAsync(route, false, null);
+    }
+
+    /**
+     * Variant of {@link #getUsableDomainsRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getUsableDomainsJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Domain.GET_DOMAINS.compile();
+        return requestJson(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUsableDomainsJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getUsableDomainsJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Domain.GET_DOMAINS.compile();
+        return requestJsonAsync(route, false, null);
+    }
+
+    /**
+     * @see Domains#generateDomain()
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> generateDomainRaw() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Resources.GET_GENERATED_DOMAIN.compile();
+        return request(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #generateDomainRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> generateDomainRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Resources.GET_GENERATED_DOMAIN.compile();
+        return requestAsync(route, false, null);
+    }
+
+    /**
+     * Variant of {@link #generateDomainRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> generateDomainJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Resources.GET_GENERATED_DOMAIN.compile();
+        return requestJson(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #generateDomainJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> generateDomainJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Resources.GET_GENERATED_DOMAIN.compile();
+        return requestJsonAsync(route, false, null);
+    }
+
+    /**
+     * @param domainName The domain name.
+     *
+     * @see Domains#addSubdomain(String)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    static Future<String> addSubdomainRaw(@NotNull String domainName) throws IOException, InterruptedException
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.ADD_DOMAIN.compile(domainName);
+        return request(route, true, domainBody(domainName, false));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addSubdomainRaw(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param domainName The domain name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> addSubdomainRawAsync(@NotNull String domainName)
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.ADD_DOMAIN.compile(domainName);
+        return requestAsync(route, true, domainBody(domainName, false));
+    }
+
+    /**
+     * @param domainName The domain name.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see Domains#addCustomDomain(String)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    static Future<String> addCustomDomainRaw(@NotNull String domainName) throws IOException, InterruptedException
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.ADD_DOMAIN.compile(domainName);
+        return request(route, true, domainBody(domainName, true));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addCustomDomainRaw(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param domainName The domain name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> addCustomDomainRawAsync(@NotNull String domainName)
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.ADD_DOMAIN.compile(domainName);
+        return requestAsync(route, true, domainBody(domainName, true));
+    }
+
+    /**
+     * @param domainName The domain name.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see Domains#deleteDomain(String)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> deleteDomainRaw(@NotNull String domainName) throws IOException, InterruptedException
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.DELETE_DOMAIN.compile(domainName);
+
+        return request(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteDomainRaw(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param domainName The domain name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> deleteDomainRawAsync(@NotNull String domainName)
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.DELETE_DOMAIN.compile(domainName);
+        return requestAsync(route, true, null);
+    }
+
+    /**
+     * Variant of {@link #deleteDomainRaw(String)}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @param domainName The domain name.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> deleteDomainJson(@NotNull String domainName) throws IOException, InterruptedException
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.DELETE_DOMAIN.compile(domainName);
+        return requestJson(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteDomainJson(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param domainName The domain name.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> deleteDomainJsonAsync(@NotNull String domainName)
+    {
+        Checks.notEmpty(domainName, "domainName");
+        Checks.noWhitespace(domainName, "domainName");
+
+        final Route.CompiledRoute route = Route.Self.DELETE_DOMAIN.compile(domainName);
+        return requestJsonAsync(route, true, null);
+    }
+
+    /**
+     * @see SelfUser#getAPIKeyBySessionToken()
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> getAPIKeyBySessionTokenRaw() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_KEYS.compile();
+        return request(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAPIKeyBySessionTokenRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getAPIKeyBySessionTokenRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_KEYS.compile();
+        return requestAsync(route, true, null);
+    }
+
+    /**
+     * Variant of {@link #getAPIKeyBySessionTokenRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getAPIKeyBySessionTokenJson() throws IOException, InterruptedException
     {
-        Checks.notNull(redirect, "redirect");
+        final Route.CompiledRoute route = Route.Self.GET_KEYS.compile();
+        return requestJson(route, true, null);
+    }
 
-        RequestBody requestBody;
+    /**
+     * Asynchronous variant of {@link #getAPIKeyBySessionTokenJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getAPIKeyBySessionTokenJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_KEYS.compile();
+        return requestJsonAsync(route, true, null);
+    }
 
-        if (redirect instanceof String redirectUrl)
-        {
-            Checks.check(DOMAIN_PATTERN.matcher(redirectUrl).matches(), "Regex doesn't match with your domain. Please check if you specified a valid domain.");
+    /**
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see EmbedEditor#getEmbedDescription()
+     * @see EmbedEditor#getEmbedAuthorName()
+     * @see EmbedEditor#getEmbedAuthorUrl()
+     * @see EmbedEditor#getEmbedTitle()
+     * @see EmbedEditor#getEmbedProviderName()
+     * @see EmbedEditor#getEmbedProviderUrl()
+     * @see EmbedEditor#getEmbedThemeColor()
+     * @see EmbedEditor#onlyImageEnabled()
+     * @see TixteClient#baseRedirect()
+     * @see PageDesign#getCustomCSS()
+     * @see PageDesign#hidesBranding()
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> getConfigRaw() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_CONFIG.compile();
+        return request(route, false, null);
+    }
 
-            requestBody = RequestBody.create(
-                    String.format(
-                            """
-                                    {
-                                        "base_redirect": "%s"
-                                    }
-                                    """
-                            , redirect
-                    ),
-                    MediaType.get("application/json; charset=utf-8"));
-        }
-        else if (redirect instanceof Boolean isRedirected)
-        {
-            Checks.check(!isRedirected, "'redirect' can either be 'false' or a specified redirect Url as a string.");
+    /**
+     * Asynchronous variant of {@link #getConfigRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getConfigRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_CONFIG.compile();
+        return requestAsync(route, false, null);
+    }
 
-            requestBody = RequestBody.create(
-                    """
-                                    {
-                                        "base_redirect": false
-                                    }
-                                    """,
-                    MediaType.get("application/json; charset=utf-8"));
-        }
-        else
-        {
-            throw new IllegalArgumentException("'redirect' can either be 'false' or a specified redirect Url as a string.");
-        }
+    /**
+     * Variant of {@link #getConfigRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getConfigJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_CONFIG.compile();
+        return requestJson(route, false, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getConfigJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<DataObject> getConfigJsonAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_CONFIG.compile();
+        return requestJsonAsync(route, false, null);
+    }
+
+    /**
+     * @param customCSS The custom CSS code for your page design.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see PageDesign#setCustomCSS(String)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    static Future<String> setCustomCSSRaw(@NotNull String customCSS) throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return request(route, false, customCSSBody(customCSS));
+    }
+
+    /**
+     * Asynchronous variant of {@link #setCustomCSSRaw(String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param customCSS The custom CSS code for your page design.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> setCustomCSSRawAsync(@NotNull String customCSS)
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return requestAsync(route, false, customCSSBody(customCSS));
+    }
+
+    /**
+     * @param authorName The author name to be built.
+     * @param authorURL The author url to be built.
+     * @param title The title to be built.
+     * @param description The description to be built.
+     * @param themeColor The color to be built.
+     * @param providerName The provider name to be built.
+     * @param providerURL The provider url to be built.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see Embed#Embed(String, String, String, String, String, String, String)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    static Future<String> setEmbedRaw(@Nullable String description, @Nullable String title, @Nullable String themeColor,
+                                      @Nullable String authorName, @Nullable String authorURL, @Nullable String providerName,
+                                      @Nullable String providerURL) throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return request(route, false, embedBody(description, title, themeColor, authorName, authorURL, providerName, providerURL));
+    }
+
+    /**
+     * Asynchronous variant of {@link #setEmbedRaw(String, String, String, String, String, String, String)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param authorName The author name to be built.
+     * @param authorURL The author url to be built.
+     * @param title The title to be built.
+     * @param description The description to be built.
+     * @param themeColor The color to be built.
+     * @param providerName The provider name to be built.
+     * @param providerURL The provider url to be built.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> setEmbedRawAsync(@Nullable String description, @Nullable String title, @Nullable String themeColor,
+                                                      @Nullable String authorName, @Nullable String authorURL, @Nullable String providerName,
+                                                      @Nullable String providerURL)
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return requestAsync(route, false, embedBody(description, title, themeColor, authorName, authorURL, providerName, providerURL));
+    }
+
+
+    /**
+     * @param hideBranding Whether the branding is hidden or not.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see PageDesign#setHideBranding(boolean)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    static Future<String> setHideBrandingRaw(boolean hideBranding) throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return request(route, false, hideBrandingBody(hideBranding));
+    }
+
+    /**
+     * Asynchronous variant of {@link #setHideBrandingRaw(boolean)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param hideBranding Whether the branding is hidden or not.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> setHideBrandingRawAsync(boolean hideBranding)
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return requestAsync(route, false, hideBrandingBody(hideBranding));
+    }
+
+    /**
+     * @param onlyImagedEnabled Whether only images are enabled or not.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see EmbedEditor#setOnlyImagedEnabled(boolean)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    static Future<String> setOnlyImageEnabledRaw(boolean onlyImagedEnabled) throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return request(route, false, onlyImageBody(onlyImagedEnabled));
+    }
+
+    /**
+     * Asynchronous variant of {@link #setOnlyImageEnabledRaw(boolean)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param onlyImagedEnabled Whether only images are enabled or not.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> setOnlyImageEnabledRawAsync(boolean onlyImagedEnabled)
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return requestAsync(route, false, onlyImageBody(onlyImagedEnabled));
+    }
+
+    /**
+     * @param redirect Either {@code false} or a specified redirect Url as a string.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see TixteClient#setBaseRedirect(Object)
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    static Future<String> setBaseRedirectRaw(@NotNull Object redirect) throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return request(route, false, baseRedirectBody(redirect));
+    }
 
+    /**
+     * Asynchronous variant of {@link #setBaseRedirectRaw(Object)}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @param redirect Either {@code false} or a specified redirect Url as a string.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    @CanIgnoreReturnValue
+    static CompletableFuture<String> setBaseRedirectRawAsync(@NotNull Object redirect)
+    {
         final Route.CompiledRoute route = Route.Self.PATCH_CONFIG.compile();
+        return requestAsync(route, false, baseRedirectBody(redirect));
+    }
+
+    /**
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @see SelfUser#getExperimentCount()
+     *
+     * @return The raw response of the request.
+     */
+    @NotNull
+    static Future<String> getExperimentsRaw() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_EXPERIMENTS.compile();
+        return request(route, true, null);
+    }
 
-        return request(route, false, requestBody);
+    /**
+     * Asynchronous variant of {@link #getExperimentsRaw()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
+     *
+     * @return A {@link CompletableFuture}, which completes with the raw response of the request.
+     */
+    @NotNull
+    @NonBlocking
+    static CompletableFuture<String> getExperimentsRawAsync()
+    {
+        final Route.CompiledRoute route = Route.Self.GET_EXPERIMENTS.compile();
+        return requestAsync(route, true, null);
     }
 
     /**
+     * Variant of {@link #getExperimentsRaw()}, which decodes the response body directly from the network stream into a
+     * {@link DataObject} instead of reading it into a {@link String} first.
+     *
      * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
      *                     Because networks can fail during an exchange, it is possible that the remote server accepted
      *                     the request before the failure.
      * @throws InterruptedException If the current thread was interrupted.
      *
-     * @see SelfUser#getExperimentCount()
+     * @return The decoded response of the request.
+     */
+    @NotNull
+    static Future<DataObject> getExperimentsJson() throws IOException, InterruptedException
+    {
+        final Route.CompiledRoute route = Route.Self.GET_EXPERIMENTS.compile();
+        return requestJson(route, true, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getExperimentsJson()}.
+     * <br>The request gets enqueued on the {@link Dispatcher} of the client and never blocks the calling thread.
      *
-     * @return The raw response of the request.
+     * @return A {@link CompletableFuture}, which completes with the decoded response of the request.
      */
     @NotNull
-    static Future<String> getExperimentsRaw() throws IOException, InterruptedException
+    @NonBlocking
+    static CompletableFuture<DataObject> getExperimentsJsonAsync()
     {
         final Route.CompiledRoute route = Route.Self.GET_EXPERIMENTS.compile();
-        return request(route, true, null);
+        return requestJsonAsync(route, true, null);
     }
 
     /**
@@ -881,28 +1697,7 @@ public interface RawResponseData
 
         final Route.CompiledRoute route = Route.Self.SEARCH_FILE.compile();
 
-        final RequestBody requestBody = RequestBody.create(
-                String.format(
-                        """
-                                {
-                                    "query": "%s",
-                                    "extensions": %s,
-                                    "domains": %s,
-                                    "sort_by": "%s",
-                                    "size": {
-                                        "min": %d,
-                                        "max": %d
-                                    }
-                                }
-                                """
-                        , query
-                        , Arrays.toString(extensions)
-                        , Arrays.toString(domains)
-                        , sortBy
-                        , minSize
-                        , maxSize
-                ),
-                MediaType.get("application/json; charset=utf-8"));
+        final RequestBody requestBody = searchQueryBody(query, extensions, domains, sortBy, minSize, maxSize);
 
         return request(route, true, requestBody);
     }
@@ -921,29 +1716,287 @@ public interface RawResponseData
     @NotNull
     static Optional<String> getHeader() throws IOException, InterruptedException
     {
-        final Call call = tixteClient.getHttpClient().newCall(tixteClient.getRequest().orElse(null));
+        final Future<String> responseString = execute(TixteClientBuilder.scheduler, tixteClient.getRequest().orElse(null), ResponseBody::string);
+        return Optional.ofNullable(responseString.resultNow());
+    }
+
+    @NotNull
+    @NonBlocking
+    private static Future<String> request(@NotNull Route.CompiledRoute route, boolean sessionTokenNeeded, @Nullable RequestBody requestBody) throws IOException, InterruptedException
+    {
+        return request(route, sessionTokenNeeded, requestBody, ResponseBody::string);
+    }
+
+    @NotNull
+    @NonBlocking
+    private static Future<DataObject> requestJson(@NotNull Route.CompiledRoute route, boolean sessionTokenNeeded, @Nullable RequestBody requestBody) throws IOException, InterruptedException
+    {
+        final ResponseCache cache = TixteClientBuilder.responseCache;
+        final ResponseCache.Key key = responseCacheKey(cache, route, sessionTokenNeeded);
+        final DataObject cached = key == null ? null : lookupResponse(cache, key, route, sessionTokenNeeded);
+
+        if (cached != null)
+        {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final long generation = key == null ? 0 : cache.generation();
+        final Future<DataObject> response = request(route, sessionTokenNeeded, requestBody, RawResponseData::readJson);
+
+        if (key != null)
+        {
+            cacheResponse(cache, key, generation, response.resultNow());
+        }
+        return response;
+    }
+
+    @NotNull
+    @NonBlocking
+    private static <T> Future<T> request(@NotNull Route.CompiledRoute route, boolean sessionTokenNeeded, @Nullable RequestBody requestBody,
+                                         @NotNull ResponseReader<T> reader) throws IOException, InterruptedException
+    {
+        final Request request = newRequest(route, sessionTokenNeeded, requestBody);
+        final Future<T> response = execute(TixteClientBuilder.scheduler, request, reader);
+
+        logResponse(response.resultNow(), route);
+        invalidateResponses(route);
+        return response;
+    }
+
+    @NotNull
+    private static Route.CompiledRoute uploadsPageRoute(int page, int amount)
+    {
+        Checks.positive(page, "page");
+        Checks.positive(amount, "amount");
+
+        return Route.Self.GET_UPLOADS.compile().withQueryParams(
+                "page", String.valueOf(page),
+                "amount", String.valueOf(amount)
+        );
+    }
 
-        try (final Response response = call.execute(); final var scope = new StructuredTaskScope<String>())
+    @NotNull
+    private static <T> Future<T> execute(@NotNull PriorityScheduler scheduler, @NotNull Request request, @NotNull ResponseReader<T> reader)
+            throws IOException, InterruptedException
+    {
+        try (final var scope = new StructuredTaskScope.ShutdownOnFailure("Tixte4J-Request", TixteClientBuilder.threadFactory))
         {
-            final Future<String> responseString = scope.fork(response.body()::string);
+            final Future<T> response = scope.fork(() ->
+            {
+                final Call call = scheduler.acquire(request);
+
+                try (final Response rawResponse = call.execute())
+                {
+                    return reader.read(rawResponse.body());
+                }
+                finally
+                {
+                    scheduler.release();
+                }
+            });
+
             scope.join();
 
-            IOUtil.silentClose(response);
+            try
+            {
+                scope.throwIfFailed();
+            }
+            catch (ExecutionException e)
+            {
+                if (e.getCause() instanceof ErrorResponseException errorResponse)
+                {
+                    throw errorResponse.getCause();
+                }
 
-            return Optional.ofNullable(responseString.resultNow());
+                if (e.getCause() instanceof IOException ioException)
+                {
+                    throw ioException;
+                }
+
+                if (e.getCause() instanceof RuntimeException runtimeException)
+                {
+                    throw runtimeException;
+                }
+                throw new IOException(e.getCause());
+            }
+            return response;
         }
     }
 
     @NotNull
     @NonBlocking
-    private static Future<String> request(@NotNull Route.CompiledRoute route, boolean sessionTokenNeeded, @Nullable RequestBody requestBody) throws IOException, InterruptedException
+    private static CompletableFuture<String> requestAsync(@NotNull Route.CompiledRoute route, boolean sessionTokenNeeded, @Nullable RequestBody requestBody)
+    {
+        final Request request = newRequest(route, sessionTokenNeeded, requestBody);
+        return enqueue(request, route, ResponseBody::string);
+    }
+
+    @NotNull
+    @NonBlocking
+    private static CompletableFuture<DataObject> requestJsonAsync(@NotNull Route.CompiledRoute route, boolean sessionTokenNeeded, @Nullable RequestBody requestBody)
+    {
+        final ResponseCache cache = TixteClientBuilder.responseCache;
+        final ResponseCache.Key key = responseCacheKey(cache, route, sessionTokenNeeded);
+        final DataObject cached = key == null ? null : lookupResponse(cache, key, route, sessionTokenNeeded);
+
+        if (cached != null)
+        {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final long generation = key == null ? 0 : cache.generation();
+        final Request request = newRequest(route, sessionTokenNeeded, requestBody);
+        final CompletableFuture<DataObject> response = enqueue(request, route, RawResponseData::readJson);
+
+        if (key != null)
+        {
+            response.thenAccept(json -> cacheResponse(cache, key, generation, json));
+        }
+        return response;
+    }
+
+    @NotNull
+    @NonBlocking
+    private static <T> Future<T> postFile(@Nullable String domain, @NotNull UploadSource source, boolean privateFile,
+                                          @NotNull ResponseReader<T> reader) throws IOException, InterruptedException
+    {
+        final ProgressRequestBody progressBody = newProgressBody(source);
+        final Request request = newFileRequest(domain, newUploadBody(source, progressBody), privateFile);
+        final Future<T> response = execute(TixteClientBuilder.uploadScheduler, request, trackResponse(progressBody, reader));
+
+        logResponse(response.resultNow(), Route.File.UPLOAD_FILE.compile());
+        invalidateResponses(Route.File.UPLOAD_FILE.compile());
+        return response;
+    }
+
+    @NotNull
+    @NonBlocking
+    private static <T> CompletableFuture<T> postFileAsync(@Nullable String domain, @NotNull UploadSource source, boolean privateFile,
+                                                          @NotNull ResponseReader<T> reader)
+    {
+        final ProgressRequestBody progressBody = newProgressBody(source);
+        final Request request = newFileRequest(domain, newUploadBody(source, progressBody), privateFile);
+        return enqueue(TixteClientBuilder.uploadScheduler, request, Route.File.UPLOAD_FILE.compile(), trackResponse(progressBody, reader));
+    }
+
+    @NotNull
+    private static DataObject readJson(@NotNull ResponseBody body)
+    {
+        return DataObject.fromJson(body.byteStream());
+    }
+
+    @NotNull
+    private static RequestBody purgeFilesBody(@NotNull String password)
+    {
+        return JsonRequestBody.write(generator ->
+        {
+            generator.writeStringField("password", password);
+            generator.writeBooleanField("purge", true);
+        });
+    }
+
+    @NotNull
+    private static RequestBody domainBody(@NotNull String domainName, boolean custom)
+    {
+        return JsonRequestBody.write(generator ->
+        {
+            generator.writeStringField("domain", domainName);
+            generator.writeBooleanField("custom", custom);
+        });
+    }
+
+    @NotNull
+    private static RequestBody customCSSBody(@NotNull String customCSS)
+    {
+        return JsonRequestBody.write(generator -> generator.writeStringField("custom_css", customCSS));
+    }
+
+    @NotNull
+    private static RequestBody embedBody(@Nullable String description, @Nullable String title, @Nullable String themeColor,
+                                         @Nullable String authorName, @Nullable String authorURL, @Nullable String providerName,
+                                         @Nullable String providerURL)
+    {
+        return JsonRequestBody.write(generator ->
+        {
+            generator.writeObjectFieldStart("embed");
+
+            JsonRequestBody.writeNullableStringField(generator, "description", description);
+            JsonRequestBody.writeNullableStringField(generator, "title", title);
+            JsonRequestBody.writeNullableStringField(generator, "theme_color", themeColor);
+            JsonRequestBody.writeNullableStringField(generator, "author_name", authorName);
+            JsonRequestBody.writeNullableStringField(generator, "author_url", authorURL);
+            JsonRequestBody.writeNullableStringField(generator, "provider_name", providerName);
+            JsonRequestBody.writeNullableStringField(generator, "provider_url", providerURL);
+
+            generator.writeEndObject();
+        });
+    }
+
+    @NotNull
+    private static RequestBody hideBrandingBody(boolean hideBranding)
+    {
+        return JsonRequestBody.write(generator -> generator.writeBooleanField("hide_branding", hideBranding));
+    }
+
+    @NotNull
+    private static RequestBody onlyImageBody(boolean onlyImagedEnabled)
+    {
+        return JsonRequestBody.write(generator -> generator.writeBooleanField("only_image", onlyImagedEnabled));
+    }
+
+    @NotNull
+    private static RequestBody baseRedirectBody(@NotNull Object redirect)
+    {
+        Checks.notNull(redirect, "redirect");
+
+        if (redirect instanceof String redirectUrl)
+        {
+            Checks.check(DOMAIN_PATTERN.matcher(redirectUrl).matches(), "Regex doesn't match with your domain. Please check if you specified a valid domain.");
+
+            return JsonRequestBody.write(generator -> generator.writeStringField("base_redirect", redirectUrl));
+        }
+
+        if (redirect instanceof Boolean isRedirected)
+        {
+            Checks.check(!isRedirected, "'redirect' can either be 'false' or a specified redirect Url as a string.");
+
+            return JsonRequestBody.write(generator -> generator.writeBooleanField("base_redirect", false));
+        }
+
+        throw new IllegalArgumentException("'redirect' can either be 'false' or a specified redirect Url as a string.");
+    }
+
+    @NotNull
+    private static RequestBody searchQueryBody(@NotNull String query, @Nullable String[] extensions, @Nullable String[] domains,
+                                               @NotNull String sortBy, long minSize, long maxSize)
+    {
+        return JsonRequestBody.write(generator ->
+        {
+            generator.writeStringField("query", query);
+
+            JsonRequestBody.writeNullableStringArrayField(generator, "extensions", extensions);
+            JsonRequestBody.writeNullableStringArrayField(generator, "domains", domains);
+
+            generator.writeStringField("sort_by", sortBy);
+
+            generator.writeObjectFieldStart("size");
+            generator.writeNumberField("min", minSize);
+            generator.writeNumberField("max", maxSize);
+            generator.writeEndObject();
+        });
+    }
+
+    @NotNull
+    private static Request newRequest(@NotNull Route.CompiledRoute route, boolean sessionTokenNeeded, @Nullable RequestBody requestBody)
     {
         final Request.Builder builder = new Request.Builder()
                 .url(TIXTE_API_PREFIX + route.getCompiledRoute())
+                .tag(Route.CompiledRoute.class, route)
+                .tag(RequestPriority.class, PriorityScope.current())
                 .addHeader("Authorization", sessionTokenNeeded ? tixteClient.getSessionToken().orElse(null) : tixteClient.getAPIKey())
                 .addHeader("User-Agent", "Tixte4J-Request (" + GITHUB + ", " + VERSION + ")");
 
-        final Request request = switch (route.getHTTPMethod())
+        return switch (route.getHTTPMethod())
                 {
                     case GET -> builder.build();
                     case DELETE -> requestBody == null ? builder.delete().build() : builder.delete(requestBody).build();
@@ -951,70 +2004,235 @@ public interface RawResponseData
                     case PATCH -> builder.patch(requestBody).build();
                     case POST -> builder.post(requestBody).build();
                 };
+    }
+
+    @NotNull
+    private static Request newFileRequest(@Nullable String domain, @NotNull RequestBody uploadBody, boolean privateFile)
+    {
+        return new Request.Builder()
+                .url(TIXTE_API_PREFIX + Route.File.UPLOAD_FILE.getRoute())
+                .tag(Route.CompiledRoute.class, Route.File.UPLOAD_FILE.compile())
+                .tag(RequestPriority.class, PriorityScope.current())
+                .addHeader("Authorization", tixteClient.getAPIKey())
+                .addHeader("User-Agent", "Tixte4J-Request (" + GITHUB + ", " + VERSION + ")")
+                .addHeader("domain", domain == null ? tixteClient.getDefaultDomain().orElse(null) : domain)
+                .addHeader("type", privateFile ? "2" : "1")
+                .post(uploadBody)
+                .build();
+    }
+
+    @NotNull
+    private static RequestBody newUploadBody(@NotNull UploadSource source, @Nullable ProgressRequestBody progressBody)
+    {
+        final RequestBody fileBody = progressBody == null ? source.toRequestBody() : progressBody;
+
+        final MultipartBody multipartBody = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart("file", source.getFileName(), fileBody)
+                .build();
+        return new UploadRequestBody(multipartBody, fileBody);
+    }
+
+    @Nullable
+    private static ProgressRequestBody newProgressBody(@NotNull UploadSource source)
+    {
+        final UploadListener listener = TixteClientBuilder.uploadListener;
+        return listener == null ? null : new ProgressRequestBody(source.toRequestBody(), source.getFileName(), listener);
+    }
 
-        final Call call = tixteClient.getHttpClient().newCall(request);
+    @NotNull
+    private static <T> ResponseReader<T> trackResponse(@Nullable ProgressRequestBody progressBody, @NotNull ResponseReader<T> reader)
+    {
+        if (progressBody == null)
+        {
+            return reader;
+        }
 
-        try (final Response response = call.execute(); final var scope = new StructuredTaskScope<String>())
+        return body ->
         {
-            final Future<String> responseString = scope.fork(response.body()::string);
-            scope.join();
+            progressBody.responseReceived();
+            return reader.read(body);
+        };
+    }
+
+    private static void checkDomain(@Nullable String domain)
+    {
+        if (domain != null)
+        {
+            Checks.notEmpty(domain, "domain");
+            Checks.noWhitespace(domain, "domain");
+        }
+    }
+
+    @NotNull
+    @NonBlocking
+    private static <T> CompletableFuture<T> enqueue(@NotNull Request request, @NotNull Route.CompiledRoute route, @NotNull ResponseReader<T> reader)
+    {
+        return enqueue(TixteClientBuilder.scheduler, request, route, reader);
+    }
+
+    @NotNull
+    @NonBlocking
+    private static <T> CompletableFuture<T> enqueue(@NotNull PriorityScheduler scheduler, @NotNull Request request, @NotNull Route.CompiledRoute route,
+                                                    @NotNull ResponseReader<T> reader)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<>();
 
-            IOUtil.silentClose(response);
+        final Call call = scheduler.enqueue(request, new Callback()
+        {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e)
+            {
+                // The caller gets the same exception as the blocking methods would throw.
+                future.completeExceptionally(e instanceof ErrorResponseException errorResponse ? errorResponse.getCause() : e);
+            }
 
-            if (!TixteClientBuilder.prettyResponsePrinting)
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response)
             {
-                logger.info("Request successful: " + route.getHTTPMethod() + "/" + route.getCompiledRoute());
+                try (response)
+                {
+                    final T body = reader.read(response.body());
+
+                    logResponse(body, route);
+                    invalidateResponses(route);
+                    future.complete(body);
+                }
+                catch (IOException | RuntimeException e)
+                {
+                    future.completeExceptionally(e);
+                }
             }
-            else
+        });
+
+        future.whenComplete((body, throwable) ->
+        {
+            if (future.isCancelled())
             {
-                System.out.println(prettyString(responseString, route));
+                call.cancel();
             }
+        });
+        return future;
+    }
 
-            return responseString;
+    @Nullable
+    private static ResponseCache.Key responseCacheKey(@Nullable ResponseCache cache, @NotNull Route.CompiledRoute route, boolean sessionTokenNeeded)
+    {
+        if (cache == null || route.getHTTPMethod() != HTTPMethods.GET)
+        {
+            return null;
         }
+
+        // Responses are only shared between requests, which were sent with the same credentials.
+        final String identity = sessionTokenNeeded ? tixteClient.getSessionToken().orElse(null) : tixteClient.getAPIKey();
+        return identity == null ? null : new ResponseCache.Key(route.getBaseRoute(), route.getCompiledRoute(), identity);
     }
 
-    @NotNull
-    @NonBlocking
-    private static Future<String> postFile(@Nullable String domain, @NotNull MultipartBody multipartBody, boolean privateFile) throws IOException, InterruptedException
+    @Nullable
+    private static DataObject lookupResponse(@NotNull ResponseCache cache, @NotNull ResponseCache.Key key, @NotNull Route.CompiledRoute route,
+                                             boolean sessionTokenNeeded)
     {
-        final Request request = new Request.Builder()
-                .url(TIXTE_API_PREFIX + Route.File.UPLOAD_FILE.getRoute())
-                .addHeader("Authorization", tixteClient.getAPIKey())
-                .addHeader("User-Agent", "Tixte4J-Request (" + GITHUB + ", " + VERSION + ")")
-                .addHeader("domain", domain == null ? tixteClient.getDefaultDomain().orElse(null) : domain)
-                .addHeader("type", privateFile ? "2" : "1")
-                .post(multipartBody)
-                .build();
+        final ResponseCache.Lookup lookup = cache.get(key);
 
-        final Call call = tixteClient.getHttpClient().newCall(request);
+        if (lookup == null)
+        {
+            return null;
+        }
 
-        try (final Response response = call.execute(); final var scope = new StructuredTaskScope<String>())
+        if (lookup.refresh())
         {
-            final Future<String> responseString = scope.fork(response.body()::string);
-            scope.join();
+            refreshResponse(cache, key, route, sessionTokenNeeded);
+        }
+        return lookup.value();
+    }
+
+    private static void refreshResponse(@NotNull ResponseCache cache, @NotNull ResponseCache.Key key, @NotNull Route.CompiledRoute route,
+                                        boolean sessionTokenNeeded)
+    {
+        final long generation = cache.generation();
+        final CompletableFuture<DataObject> refresh;
+        boolean enqueued = false;
 
-            IOUtil.silentClose(response);
+        try
+        {
+            final Request request;
 
-            final Route.CompiledRoute route = Route.File.UPLOAD_FILE.compile();
+            // The caller already got the stale response, so the refresh must not delay interactive requests.
+            try (final PriorityScope scope = PriorityScope.open(RequestPriority.BACKGROUND))
+            {
+                request = newRequest(route, sessionTokenNeeded, null);
+            }
 
-            if (!TixteClientBuilder.prettyResponsePrinting)
+            refresh = enqueue(request, route, RawResponseData::readJson);
+            enqueued = true;
+        }
+        finally
+        {
+            // Otherwise the key would stay marked as refreshing and the response would never get refreshed again.
+            if (!enqueued)
             {
-                logger.info("Request successful: " + route.getHTTPMethod() + "/" + route.getCompiledRoute());
+                cache.refreshed(key, null, Duration.ZERO, Duration.ZERO, generation);
             }
-            else
+        }
+
+        refresh.whenComplete((json, throwable) ->
+        {
+            if (throwable != null)
             {
-                System.out.println(prettyString(responseString, route));
+                logger.warn("Could not refresh the cached response of " + route.getHTTPMethod() + "/" + route.getCompiledRoute() + ".", throwable);
             }
 
-            return responseString;
+            // The route may have been marked as not storable, while the refresh was in flight.
+            final Optional<Duration> ttl = TixteClientBuilder.cacheRules.getTtl(key.route());
+            cache.refreshed(key, throwable == null && ttl.isPresent() ? json : null, ttl.orElse(Duration.ZERO), staleWindow(), generation);
+        });
+    }
+
+    private static void cacheResponse(@NotNull ResponseCache cache, @NotNull ResponseCache.Key key, long generation, @NotNull DataObject json)
+    {
+        final Optional<Duration> ttl = TixteClientBuilder.cacheRules.getTtl(key.route());
+        final Duration staleWindow = staleWindow();
+
+        // Responses, which have to be revalidated before every use, can only be served from memory, if they may be stale.
+        if (ttl.isPresent() && !(ttl.get().isZero() && staleWindow.isZero()))
+        {
+            cache.put(key, json, ttl.get(), staleWindow, generation);
+        }
+    }
+
+    @NotNull
+    private static Duration staleWindow()
+    {
+        return TixteClientBuilder.policy == CachePolicy.STALE_WHILE_REVALIDATE ? TixteClientBuilder.cacheRules.getStaleWindow() : Duration.ZERO;
+    }
+
+    private static void invalidateResponses(@NotNull Route.CompiledRoute route)
+    {
+        final ResponseCache cache = TixteClientBuilder.responseCache;
+
+        if (cache != null && route.getHTTPMethod() != HTTPMethods.GET)
+        {
+            cache.invalidate(TixteClientBuilder.cacheRules.getInvalidatedRoutes(route.getBaseRoute()));
+        }
+    }
+
+    private static void logResponse(@NotNull Object body, @NotNull Route.CompiledRoute route)
+    {
+        if (!TixteClientBuilder.prettyResponsePrinting)
+        {
+            logger.info("Request successful: " + route.getHTTPMethod() + "/" + route.getCompiledRoute());
+        }
+        else
+        {
+            System.out.println(prettyString(body, route));
         }
     }
 
     @NotNull
-    private static String prettyString(@NotNull Future<String> body, @NotNull Route.CompiledRoute route)
+    private static String prettyString(@NotNull Object body, @NotNull Route.CompiledRoute route)
     {
-        final DataObject object = DataObject.fromJson(body.resultNow());
+        // Decoded responses are printed as they are, only raw responses have to be parsed again.
+        final DataObject object = body instanceof DataObject json ? json : DataObject.fromJson(body.toString());
 
         logger.info("'---->>>> Incoming Request: " + route.getHTTPMethod() + "/" + route.getCompiledRoute() + "<<<<----'");
 
@@ -0,0 +1,424 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.Route;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * In-memory cache of decoded responses, which sits in front of the HTTP cache.
+ * <br>A hit neither touches the disk nor parses the response again.
+ *
+ * <p>The eviction follows W-TinyLFU:
+ * <ul>
+ *     <li>New responses get into a small LRU window first, so a burst of new entries can't flush the cache.</li>
+ *     <li>Responses, which get evicted from the window, only get admitted into the main cache, if they were requested
+ *     more often than the response, which would be evicted from the main cache for them.
+ *     <br>The frequencies are estimated by a count-min sketch, which gets halved periodically, so old popularity
+ *     decays.</li>
+ *     <li>The main cache is a segmented LRU, in which responses, which got requested again, are protected from
+ *     responses, which got only requested once.</li>
+ * </ul>
+ *
+ * <p>Every response is fresh for the TTL of its {@link Route}, which gets decided by the
+ * {@link dev.blocky.library.tixte.internal.requests.CacheRules CacheRules}.
+ * <br>Afterwards, it can still be served during its stale window, while a single refresh is in flight.
+ * <br>Responses, of which the request was sent before their route got invalidated, are never stored.
+ * <br>The responses get copied, when they get stored and when they get returned, so a caller, which modifies its
+ * response, doesn't change the response of any other caller.
+ *
+ * @author BlockyDotJar
+ * @version v1.1.0
+ * @since v1.2.0
+ */
+final class ResponseCache
+{
+    private final Map<Key, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, Entry> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Key> refreshing = new HashSet<>();
+    private final Map<Route, Long> invalidatedAt = new HashMap<>();
+    private final FrequencySketch sketch;
+    private final int maximumSize, windowMaximum, mainMaximum, protectedMaximum;
+
+    private long hitCount, missCount, evictionCount, rejectionCount;
+    private long generation, clearedAt;
+
+    ResponseCache(int maximumSize)
+    {
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.mainMaximum = Math.max(1, maximumSize - windowMaximum);
+        this.protectedMaximum = Math.max(1, mainMaximum * 4 / 5);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Gets a fresh response or a stale response, which is still in its stale window.
+     *
+     * @param key The {@link Key} of the response.
+     *
+     * @return The {@link Lookup} with a copy of the response or null, if there is no usable response.
+     */
+    @Nullable
+    Lookup get(@NotNull Key key)
+    {
+        final Lookup lookup = find(key);
+
+        // The copy is made outside the lock, because it takes as long as the response is big.
+        return lookup == null ? null : new Lookup(lookup.value().copy(), lookup.refresh());
+    }
+
+    @Nullable
+    private synchronized Lookup find(@NotNull Key key)
+    {
+        sketch.increment(key);
+
+        Entry entry = window.get(key);
+
+        if (entry == null)
+        {
+            entry = protectedEntries.get(key);
+        }
+
+        if (entry == null && (entry = probation.remove(key)) != null)
+        {
+            // A response, which got requested again, gets protected from the responses, which got only requested once.
+            protect(key, entry);
+        }
+
+        final long nowNanos = System.nanoTime();
+
+        if (entry == null || entry.staleUntilNanos - nowNanos <= 0)
+        {
+            if (entry != null)
+            {
+                remove(key);
+            }
+
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+
+        if (entry.expiresAtNanos - nowNanos > 0)
+        {
+            return new Lookup(entry.value, false);
+        }
+
+        // Only the first caller, which gets the stale response, has to refresh it.
+        return new Lookup(entry.value, refreshing.add(key));
+    }
+
+    /**
+     * Stores the response of a refresh, which was requested by {@link #get(Key)}.
+     * <br>If the route got invalidated or the cache got cleared since the refresh was sent, the refreshed response
+     * gets dropped, because it may have been sent before the mutation.
+     *
+     * @param key The {@link Key} of the response.
+     * @param value The decoded response, which must not be used by anyone else, or null, if the refresh failed.
+     * @param ttl How long the response is fresh.
+     * @param staleWindow How long the response may be served after its TTL.
+     * @param generation The {@link #generation()}, which was taken before the refresh was sent.
+     */
+    synchronized void refreshed(@NotNull Key key, @Nullable DataObject value, @NotNull Duration ttl, @NotNull Duration staleWindow, long generation)
+    {
+        if (refreshing.remove(key) && value != null && !isInvalidated(key, generation))
+        {
+            store(key, value, ttl, staleWindow);
+        }
+    }
+
+    /**
+     * Gets the current invalidation generation, which has to be taken before the request of a response gets sent.
+     *
+     * @return The current generation.
+     */
+    synchronized long generation()
+    {
+        return generation;
+    }
+
+    /**
+     * Stores a copy of a response, if its route didn't get invalidated since the request was sent.
+     * <br>Otherwise, the response may have been sent before the mutation, which invalidated the route.
+     *
+     * @param key The {@link Key} of the response.
+     * @param value The decoded response, which may still be used by the caller.
+     * @param ttl How long the response is fresh.
+     * @param staleWindow How long the response may be served after its TTL.
+     * @param generation The {@link #generation()}, which was taken before the request was sent.
+     */
+    void put(@NotNull Key key, @NotNull DataObject value, @NotNull Duration ttl, @NotNull Duration staleWindow, long generation)
+    {
+        final DataObject copy = value.copy();
+
+        synchronized (this)
+        {
+            if (!isInvalidated(key, generation))
+            {
+                store(key, copy, ttl, staleWindow);
+            }
+        }
+    }
+
+    private boolean isInvalidated(@NotNull Key key, long generation)
+    {
+        return clearedAt > generation || invalidatedAt.getOrDefault(key.route(), 0L) > generation;
+    }
+
+    private void store(@NotNull Key key, @NotNull DataObject value, @NotNull Duration ttl, @NotNull Duration staleWindow)
+    {
+        final long expiresAtNanos = System.nanoTime() + ttl.toNanos();
+        final Entry entry = new Entry(value, expiresAtNanos, expiresAtNanos + staleWindow.toNanos());
+
+        if (window.containsKey(key))
+        {
+            window.put(key, entry);
+            return;
+        }
+
+        if (protectedEntries.containsKey(key))
+        {
+            protectedEntries.put(key, entry);
+            return;
+        }
+
+        if (probation.containsKey(key))
+        {
+            probation.put(key, entry);
+            return;
+        }
+
+        window.put(key, entry);
+
+        if (window.size() > windowMaximum)
+        {
+            final Map.Entry<Key, Entry> candidate = removeEldest(window);
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    /**
+     * Removes every response of the specified routes.
+     *
+     * @param routes The {@link Route routes}, whose responses should be removed.
+     */
+    synchronized void invalidate(@NotNull List<Route> routes)
+    {
+        if (routes.isEmpty())
+        {
+            return;
+        }
+
+        generation++;
+
+        for (final Route route : routes)
+        {
+            invalidatedAt.put(route, generation);
+        }
+
+        window.keySet().removeIf(key -> routes.contains(key.route()));
+        probation.keySet().removeIf(key -> routes.contains(key.route()));
+        protectedEntries.keySet().removeIf(key -> routes.contains(key.route()));
+        refreshing.removeIf(key -> routes.contains(key.route()));
+    }
+
+    /**
+     * Removes every response.
+     */
+    synchronized void clear()
+    {
+        clearedAt = ++generation;
+
+        window.clear();
+        probation.clear();
+        protectedEntries.clear();
+        refreshing.clear();
+    }
+
+    /**
+     * Takes a snapshot of the statistics of this cache.
+     *
+     * @return The <b>new</b> {@link ResponseCacheStats}.
+     */
+    @NotNull
+    synchronized ResponseCacheStats stats()
+    {
+        final int size = window.size() + probation.size() + protectedEntries.size();
+        return new ResponseCacheStats(hitCount, missCount, evictionCount, rejectionCount, size, maximumSize);
+    }
+
+    private void admit(@NotNull Key candidate, @NotNull Entry entry)
+    {
+        if (probation.size() + protectedEntries.size() < mainMaximum)
+        {
+            probation.put(candidate, entry);
+            return;
+        }
+
+        final Map<Key, Entry> victims = probation.isEmpty() ? protectedEntries : probation;
+        final Key victim = victims.keySet().iterator().next();
+
+        evictionCount++;
+
+        // The frequency decides, which one of both gets evicted, so a response, which got only requested once, can't
+        // evict a popular response.
+        if (sketch.frequency(candidate) > sketch.frequency(victim))
+        {
+            victims.remove(victim);
+            probation.put(candidate, entry);
+        }
+        else
+        {
+            rejectionCount++;
+        }
+    }
+
+    private void protect(@NotNull Key key, @NotNull Entry entry)
+    {
+        protectedEntries.put(key, entry);
+
+        if (protectedEntries.size() > protectedMaximum)
+        {
+            final Map.Entry<Key, Entry> demoted = removeEldest(protectedEntries);
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    private void remove(@NotNull Key key)
+    {
+        window.remove(key);
+        probation.remove(key);
+        protectedEntries.remove(key);
+    }
+
+    @NotNull
+    private static Map.Entry<Key, Entry> removeEldest(@NotNull Map<Key, Entry> segment)
+    {
+        final Iterator<Map.Entry<Key, Entry>> iterator = segment.entrySet().iterator();
+        final Map.Entry<Key, Entry> eldest = iterator.next();
+        final Map.Entry<Key, Entry> copy = Map.entry(eldest.getKey(), eldest.getValue());
+
+        iterator.remove();
+        return copy;
+    }
+
+    /**
+     * Represents the key of a response.
+     *
+     * @param route The {@link Route}, which the response belongs to.
+     * @param compiledRoute The compiled route including every parameter.
+     * @param identity The API-key or session-token, which was used for the request.
+     */
+    record Key(@NotNull Route route, @NotNull String compiledRoute, @NotNull String identity)
+    {
+    }
+
+    /**
+     * Represents the result of a lookup.
+     *
+     * @param value The decoded response.
+     * @param refresh Whether the response is stale and the caller has to refresh it or not.
+     */
+    record Lookup(@NotNull DataObject value, boolean refresh)
+    {
+    }
+
+    private record Entry(@NotNull DataObject value, long expiresAtNanos, long staleUntilNanos)
+    {
+    }
+
+    /**
+     * A count-min sketch with 4 rows of counters, which saturate at 15.
+     * <br>All counters get halved after {@code 10 * maximumSize} increments.
+     */
+    private static final class FrequencySketch
+    {
+        private static final int[] SEEDS = { 0x97cb3127, 0xb3e5ea8b, 0xc2b2ae35, 0x27d4eb2f };
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] rows;
+        private final int mask, sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize)
+        {
+            final int width = Integer.highestOneBit(Math.max(16, maximumSize) * 2 - 1);
+
+            this.rows = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * Math.max(16, maximumSize);
+        }
+
+        void increment(@NotNull Key key)
+        {
+            final int hash = key.hashCode();
+
+            for (int i = 0; i < SEEDS.length; i++)
+            {
+                final int index = index(hash, i);
+
+                if (rows[i][index] < MAX_COUNT)
+                {
+                    rows[i][index]++;
+                }
+            }
+
+            if (++additions >= sampleSize)
+            {
+                reset();
+            }
+        }
+
+        int frequency(@NotNull Key key)
+        {
+            final int hash = key.hashCode();
+            int frequency = MAX_COUNT;
+
+            for (int i = 0; i < SEEDS.length; i++)
+            {
+                frequency = Math.min(frequency, rows[i][index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int row)
+        {
+            int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+            h ^= h >>> 16;
+            return h & mask;
+        }
+
+        private void reset()
+        {
+            for (final byte[] row : rows)
+            {
+                for (int i = 0; i < row.length; i++)
+                {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
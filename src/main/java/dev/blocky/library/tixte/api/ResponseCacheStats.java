@@ -0,0 +1,55 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+/**
+ * Represents an immutable snapshot of the statistics of the in-memory cache of decoded responses.
+ *
+ * @param hitCount The count of lookups, which were answered by the cache.
+ * @param missCount The count of lookups, which had to send a request.
+ * @param evictionCount The count of responses, which got evicted or not admitted because the cache was full.
+ * @param rejectionCount The count of responses, which were not admitted, because they were requested less often
+ *                       than the response, which would have been evicted for them.
+ * @param size The count of responses, which are currently stored in the cache.
+ * @param maximumSize The maximal count of responses, which can be stored in the cache.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record ResponseCacheStats(long hitCount, long missCount, long evictionCount, long rejectionCount, int size, int maximumSize)
+{
+    /**
+     * Gets the count of lookups.
+     *
+     * @return The count of hits and misses.
+     */
+    public long getRequestCount()
+    {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the fraction of lookups, which were answered by the cache.
+     *
+     * @return The hit rate between 0 and 1 or {@code 0}, if there was no lookup yet.
+     */
+    public double getHitRate()
+    {
+        final long requestCount = getRequestCount();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
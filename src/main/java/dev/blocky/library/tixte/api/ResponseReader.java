@@ -0,0 +1,49 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Reads the {@link ResponseBody} of a request into the type, which is needed by the caller.
+ * <br>This is used by {@link RawResponseData} to either read the raw {@link String} or to decode the body directly
+ * from the network stream.
+ *
+ * @param <T> The type of the read body.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+@FunctionalInterface
+interface ResponseReader<T>
+{
+    /**
+     * Reads the body of the response.
+     * <br>The body gets closed by the caller, after this method returned.
+     *
+     * @param body The body of the response.
+     *
+     * @throws IOException If the body could not be read.
+     *
+     * @return The read body.
+     */
+    @NotNull
+    T read(@NotNull ResponseBody body) throws IOException;
+}
@@ -21,12 +21,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents your Tixte user-account.
  *
  * @author BlockyDotJar
- * @version v1.4.2
+ * @version v1.5.0
  * @since v1.0.0-beta.1
  */
 public record SelfUser() implements RawResponseData
@@ -45,10 +46,22 @@ public record SelfUser() implements RawResponseData
      */
     public boolean isEmailVerified() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getBoolean(json, "data.email_verified");
     }
 
+    /**
+     * Asynchronous variant of {@link #isEmailVerified()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with whether your account is email verified or not.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> isEmailVerifiedAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getBoolean(json, "data.email_verified"));
+    }
+
     /**
      * Gets the phone number of your account.
      * <br>This returns an empty string if there is no phone number given.
@@ -63,10 +76,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public String getPhoneNumber() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getString(json, "data.phone?");
     }
 
+    /**
+     * Asynchronous variant of {@link #getPhoneNumber()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with your phone number.
+     */
+    @NotNull
+    public CompletableFuture<String> getPhoneNumberAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.phone?"));
+    }
+
     /**
      * Gets your last login date as a {@link OffsetDateTime} in ISO8601 format.
      * <br>Example for ISO8601 format: <b>2022-07-08T11:32:51.913Z</b>
@@ -83,10 +108,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public OffsetDateTime getLastLogin() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getOffsetDateTime(json, "data.last_login");
     }
 
+    /**
+     * Asynchronous variant of {@link #getLastLogin()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with your last login date as a {@link OffsetDateTime} in ISO8601 format.
+     */
+    @NotNull
+    public CompletableFuture<OffsetDateTime> getLastLoginAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getOffsetDateTime(json, "data.last_login"));
+    }
+
     /**
      * Gets the count of all enabled flags.
      *
@@ -99,10 +136,22 @@ public record SelfUser() implements RawResponseData
      */
     public int getFlagCount() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getInt(json, "data.flags");
     }
 
+    /**
+     * Asynchronous variant of {@link #getFlagCount()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the count of all enabled flags.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getFlagCountAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getInt(json, "data.flags"));
+    }
+
     /**
      * Gets the premium tier as an integer.
      *
@@ -115,10 +164,22 @@ public record SelfUser() implements RawResponseData
      */
     public int getPremiumTier() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getInt(json, "data.premium_tier");
     }
 
+    /**
+     * Asynchronous variant of {@link #getPremiumTier()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the premium tier as an integer.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getPremiumTierAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getInt(json, "data.premium_tier"));
+    }
+
     /**
      * If your account has mfa enabled.
      *
@@ -132,10 +193,22 @@ public record SelfUser() implements RawResponseData
      */
     public boolean hasMFAEnabled() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getBoolean(json, "data.mfa_enabled");
     }
 
+    /**
+     * Asynchronous variant of {@link #hasMFAEnabled()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with whether your account has mfa enabled or not.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> hasMFAEnabledAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getBoolean(json, "data.mfa_enabled"));
+    }
+
     /**
      * Gets the id of your account.
      *
@@ -149,10 +222,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public String getId() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getString(json, "data.id");
     }
 
+    /**
+     * Asynchronous variant of {@link #getId()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the id of your account.
+     */
+    @NotNull
+    public CompletableFuture<String> getIdAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.id"));
+    }
+
     /**
      * Gets the avatar id of your account.
      * <br>This returns an empty string if there is no avatar given.
@@ -167,10 +252,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public String getAvatarId() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getString(json, "data.avatar?");
     }
 
+    /**
+     * Asynchronous variant of {@link #getAvatarId()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the avatar id of your account.
+     */
+    @NotNull
+    public CompletableFuture<String> getAvatarIdAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.avatar?"));
+    }
+
     /**
      * Gets the upload region of your account.
      *
@@ -184,10 +281,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public String getUploadRegion() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getString(json, "data.upload_region");
     }
 
+    /**
+     * Asynchronous variant of {@link #getUploadRegion()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the upload region of your account.
+     */
+    @NotNull
+    public CompletableFuture<String> getUploadRegionAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.upload_region"));
+    }
+
     /**
      * Gets the email of your account.
      * <br>This returns an empty string if there is no email given.
@@ -202,10 +311,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public String getEmail() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getString(json, "data.email?");
     }
 
+    /**
+     * Asynchronous variant of {@link #getEmail()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the email of your account.
+     */
+    @NotNull
+    public CompletableFuture<String> getEmailAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.email?"));
+    }
+
     /**
      * Gets the username of your account.
      *
@@ -219,10 +340,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public String getUsername() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw().resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson().resultNow();
         return DataPath.getString(json, "data.username");
     }
 
+    /**
+     * Asynchronous variant of {@link #getUsername()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the username of your account.
+     */
+    @NotNull
+    public CompletableFuture<String> getUsernameAsync()
+    {
+        return RawResponseData.getUserInfoJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.username"));
+    }
+
     /**
      * Gets your API-key by session token.
      *
@@ -236,10 +369,22 @@ public record SelfUser() implements RawResponseData
     @NotNull
     public String getAPIKeyBySessionToken() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getAPIKeyBySessionTokenRaw().resultNow());
+        final DataObject json = RawResponseData.getAPIKeyBySessionTokenJson().resultNow();
         return DataPath.getString(json, "data.api_key");
     }
 
+    /**
+     * Asynchronous variant of {@link #getAPIKeyBySessionToken()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with your API-key.
+     */
+    @NotNull
+    public CompletableFuture<String> getAPIKeyBySessionTokenAsync()
+    {
+        return RawResponseData.getAPIKeyBySessionTokenJsonAsync()
+                .thenApply(json -> DataPath.getString(json, "data.api_key"));
+    }
+
     /**
      * Checks if you have a Tixte turbo/turbo-charged subscription.
      *
@@ -259,6 +404,18 @@ public record SelfUser() implements RawResponseData
         return hasTixteTurboSubscription() || hasTixteTurboChargedSubscription();
     }
 
+    /**
+     * Asynchronous variant of {@link #hasTixteSubscription()}.
+     * <br>Unlike the blocking variant, this only needs a single request.
+     *
+     * @return A {@link CompletableFuture}, which completes with whether you have a Tixte turbo/turbo-charged subscription or not.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> hasTixteSubscriptionAsync()
+    {
+        return getPremiumTierAsync().thenApply(premiumTier -> premiumTier == 1 || premiumTier == 2);
+    }
+
     /**
      * Checks if you have a Tixte turbo subscription.
      *
@@ -275,6 +432,17 @@ public record SelfUser() implements RawResponseData
         return getPremiumTier() == 1;
     }
 
+    /**
+     * Asynchronous variant of {@link #hasTixteTurboSubscription()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with whether you have a Tixte turbo subscription or not.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> hasTixteTurboSubscriptionAsync()
+    {
+        return getPremiumTierAsync().thenApply(premiumTier -> premiumTier == 1);
+    }
+
     /**
      * Checks if you have a Tixte turbo-charged subscription.
      *
@@ -291,6 +459,17 @@ public record SelfUser() implements RawResponseData
         return getPremiumTier() == 2;
     }
 
+    /**
+     * Asynchronous variant of {@link #hasTixteTurboChargedSubscription()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with whether you have a Tixte turbo-charged subscription or not.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> hasTixteTurboChargedSubscriptionAsync()
+    {
+        return getPremiumTierAsync().thenApply(premiumTier -> premiumTier == 2);
+    }
+
     /**
      * Gets the count of every available experiment you can use.
      *
@@ -303,7 +482,19 @@ public record SelfUser() implements RawResponseData
      */
     public int getExperimentCount() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getExperimentsRaw().resultNow());
+        final DataObject json = RawResponseData.getExperimentsJson().resultNow();
         return json.getInt("data");
     }
+
+    /**
+     * Asynchronous variant of {@link #getExperimentCount()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with the count of every available experiment you can use.
+     */
+    @NotNull
+    public CompletableFuture<Integer> getExperimentCountAsync()
+    {
+        return RawResponseData.getExperimentsJsonAsync()
+                .thenApply(json -> json.getInt("data"));
+    }
 }
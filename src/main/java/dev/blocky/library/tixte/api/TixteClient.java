@@ -17,17 +17,23 @@ package dev.blocky.library.tixte.api;
 
 import com.google.errorprone.annotations.CheckReturnValue;
 import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.api.enums.RequestPriority;
 import dev.blocky.library.tixte.api.exceptions.TixteWantsYourMoneyException;
 import dev.blocky.library.tixte.internal.interceptor.CacheInterceptor;
+import dev.blocky.library.tixte.internal.interceptor.ConcurrencyLimitInterceptor;
 import dev.blocky.library.tixte.internal.interceptor.ErrorResponseInterceptor;
 import dev.blocky.library.tixte.internal.interceptor.ForceCacheInterceptor;
 import dev.blocky.library.tixte.internal.interceptor.RateLimitInterceptor;
+import dev.blocky.library.tixte.internal.requests.ConnectivityMonitor;
 import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.utils.Checks;
 import okhttp3.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -39,7 +45,7 @@ import static dev.blocky.library.tixte.api.TixteClientBuilder.*;
  * <br>All parts of the API can be accessed starting from this class.
  *
  * @author BlockyDotJar
- * @version v1.5.0
+ * @version v1.6.0
  * @since v1.0.0-alpha.1
  */
 public class TixteClient implements RawResponseData
@@ -118,12 +124,14 @@ public class TixteClient implements RawResponseData
      * <p>This client uses:
      * <ul>
      *     <li>A {@link Dispatcher}, which sets a rate-limit of 25 requests per host</li>
-     *     <li>A {@link ConnectionPool}, which sets the count of <code>maxIdleConnections</code> to 5 and allows them to be kept alive for 5 seconds</li>
+     *     <li>A {@link ConnectionPool}, which sets the count of <code>maxIdleConnections</code> to 5 and allows them to be kept alive for 5 seconds by default</li>
      *     <li>A Retry system, if the connections fails</li>
      *     <li>A {@link RateLimitInterceptor}, which handles rate-limits</li>
+     *     <li>(Optional) A {@link ConcurrencyLimitInterceptor}, which computes an adaptive limit of in-flight requests</li>
      *     <li>A {@link ErrorResponseInterceptor}, which handles different error responses</li>
      *     <li>(Optional) A {@link ForceCacheInterceptor}, which handles cache without internet connectivity</li>
      *     <li>(Optional) A {@link CacheInterceptor}, which handles cache with internet connectivity</li>
+     *     <li>(Optional) A {@link Cache}, which stores the responses on disk and can be configured via {@link TixteClientBuilder#setCache(File, long)}</li>
      * </ul>
      *
      * @return The current {@link OkHttpClient}.
@@ -138,7 +146,9 @@ public class TixteClient implements RawResponseData
      * Gets the current {@link Dispatcher}.
      * <br>This dispatcher gets active, when <code>this</code> {@link TixteClient} gets created.
      *
-     * <p>This dispatcher a rate-limit of 25 requests per host.
+     * <p>This dispatcher has a rate-limit of 64 requests and 25 requests per host by default.
+     * <br>These limits can be configured via {@link TixteClientBuilder#setMaxRequests(int)} and
+     * {@link TixteClientBuilder#setMaxRequestsPerHost(int)}.
      *
      * @return The current {@link Dispatcher}.
      */
@@ -148,6 +158,104 @@ public class TixteClient implements RawResponseData
         return dispatcher;
     }
 
+    /**
+     * Gets the {@link OkHttpClient}, which executes every upload.
+     * <br>Uploads run in their own execution lane, so slow uploads don't block the metadata requests of
+     * {@link #getHttpClient()}.
+     *
+     * <p>This client uses the same interceptors as {@link #getHttpClient()}, but has its own {@link Dispatcher},
+     * {@link ConnectionPool}, timeouts and concurrency limit, which can be configured via
+     * {@link TixteClientBuilder#setUploadMaxRequests(int)}, {@link TixteClientBuilder#setUploadConnectionPool(int, Duration)}
+     * and {@link TixteClientBuilder#setUploadTimeouts(Duration, Duration, Duration)}.
+     *
+     * @return The {@link OkHttpClient} of the uploads.
+     */
+    @NotNull
+    public OkHttpClient getUploadHttpClient()
+    {
+        return uploadClient;
+    }
+
+    /**
+     * Gets the {@link Dispatcher}, which enqueues every upload.
+     *
+     * <p>This dispatcher has a limit of 4 concurrent uploads by default.
+     * <br>This limit can be configured via {@link TixteClientBuilder#setUploadMaxRequests(int)}.
+     *
+     * @return The {@link Dispatcher} of the uploads.
+     */
+    @NotNull
+    public Dispatcher getUploadDispatcher()
+    {
+        return uploadDispatcher;
+    }
+
+    /**
+     * Gets the {@link ConcurrencyLimitInterceptor}, which limits the count of in-flight requests adaptively.
+     * <br>This can be used to monitor the current limit and latency, the queue depth can be read via {@link #getQueueDepth(RequestPriority)}.
+     * <br>The limiter can be disabled via {@link TixteClientBuilder#setAdaptiveConcurrency(boolean)}.
+     *
+     * @return The {@link ConcurrencyLimitInterceptor} or an empty {@link Optional}, if the adaptive limit is disabled.
+     */
+    @NotNull
+    public Optional<ConcurrencyLimitInterceptor> getConcurrencyLimiter()
+    {
+        return Optional.ofNullable(concurrencyLimiter);
+    }
+
+    /**
+     * Gets the {@link ConnectivityMonitor}, which tracks whether an internet connection is available or not.
+     * <br>The monitor only runs, if the {@link CachePolicy} is {@link CachePolicy#ONLY_FORCE_CACHE}, {@link CachePolicy#ALL} or
+     * {@link CachePolicy#STALE_WHILE_REVALIDATE}.
+     *
+     * @return The {@link ConnectivityMonitor} or an empty {@link Optional}, if the monitor doesn't run.
+     */
+    @NotNull
+    public Optional<ConnectivityMonitor> getConnectivityMonitor()
+    {
+        return Optional.ofNullable(connectivityMonitor);
+    }
+
+    /**
+     * Gets the {@link ConcurrencyLimitInterceptor}, which limits the count of in-flight uploads adaptively.
+     * <br>The limit of the uploads starts at, and never exceeds, {@link TixteClientBuilder#setUploadMaxRequests(int)}.
+     *
+     * @return The {@link ConcurrencyLimitInterceptor} of the uploads or an empty {@link Optional}, if the adaptive limit is disabled.
+     */
+    @NotNull
+    public Optional<ConcurrencyLimitInterceptor> getUploadConcurrencyLimiter()
+    {
+        return Optional.ofNullable(uploadConcurrencyLimiter);
+    }
+
+    /**
+     * Gets the count of requests with the specified {@link RequestPriority}, which are waiting before they get sent.
+     * <br>These requests wait in the priority queue for a free slot of the {@link #getDispatcher() dispatcher} or
+     * the {@link #getConcurrencyLimiter() adaptive limit}.
+     *
+     * @param priority The {@link RequestPriority} of the requests.
+     *
+     * @return The count of waiting requests.
+     */
+    public int getQueueDepth(@NotNull RequestPriority priority)
+    {
+        return queueDepth(scheduler, priority);
+    }
+
+    /**
+     * Gets the count of uploads with the specified {@link RequestPriority}, which are waiting before they get sent.
+     * <br>These uploads wait in the priority queue for a free slot of the {@link #getUploadDispatcher() upload dispatcher}
+     * or the {@link #getUploadConcurrencyLimiter() adaptive limit}.
+     *
+     * @param priority The {@link RequestPriority} of the uploads.
+     *
+     * @return The count of waiting uploads.
+     */
+    public int getUploadQueueDepth(@NotNull RequestPriority priority)
+    {
+        return queueDepth(uploadScheduler, priority);
+    }
+
     /**
      * Sets the redirect-url or disables the redirect.
      * <br>A redirect is a server- or client-side automatic forwarding from one url to another url.
@@ -191,43 +299,77 @@ public class TixteClient implements RawResponseData
     @CheckReturnValue
     public Object baseRedirect() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getConfigRaw().resultNow());
+        final DataObject json = RawResponseData.getConfigJson().resultNow();
         final DataObject data = json.getDataObject("data");
 
         return data.get("base_redirect");
     }
 
     /**
-     * Closes the cache and deletes all of its stored values.
-     * <br>This will delete all files in the cache directory including files that weren't created by the cache.
+     * Deletes all stored values of the cache and of the in-memory cache of decoded responses.
+     * <br>The cache stays open, so every following request can be cached again.
      *
      * @throws IOException If an I/O error occurs.
      */
     public void pruneCache() throws IOException
     {
-        try (final Cache cache = client.cache())
+        if (responseCache != null)
+        {
+            responseCache.clear();
+        }
+
+        if (cache != null)
+        {
+            cache.evictAll();
+            logger.info("Deleted cache successfully.");
+        }
+        else
         {
-            if (cache != null)
-            {
-                cache.delete();
-                logger.info("Deleted cache successfully.");
-            }
-            else
-            {
-                logger.warn("No cache to delete.");
-            }
+            logger.warn("No cache to delete.");
         }
     }
 
+    /**
+     * Gets a snapshot of the statistics of the HTTP disk cache.
+     * <br>The cache only exists, if the {@link CachePolicy} is not {@link CachePolicy#NONE}.
+     *
+     * @throws IOException If the size of the cache could not be read.
+     *
+     * @return The {@link CacheStats} or an empty {@link Optional}, if there is no cache.
+     */
+    @NotNull
+    public Optional<CacheStats> getCacheStats() throws IOException
+    {
+        return cache == null ? Optional.empty() : Optional.of(CacheStats.of(cache));
+    }
+
+    /**
+     * Gets a snapshot of the statistics of the in-memory cache of decoded responses.
+     * <br>The cache only exists, if the {@link CachePolicy} is {@link CachePolicy#ONLY_NETWORK_CACHE}, {@link CachePolicy#ALL}
+     * or {@link CachePolicy#STALE_WHILE_REVALIDATE} and its size was not set to 0 via {@link TixteClientBuilder#setResponseCacheSize(int)}.
+     *
+     * @return The {@link ResponseCacheStats} or an empty {@link Optional}, if there is no in-memory cache.
+     */
+    @NotNull
+    public Optional<ResponseCacheStats> getResponseCacheStats()
+    {
+        return responseCache == null ? Optional.empty() : Optional.of(responseCache.stats());
+    }
+
     /**
      * Cancel all calls currently enqueued or executing.
-     * <br>Includes calls executed both {@link Call#execute()} and {@link Call#enqueue(Callback)}.
+     * <br>Includes calls executed both {@link Call#execute()} and {@link Call#enqueue(Callback)} and the calls of both
+     * execution lanes.
      */
     public void cancelRequests()
     {
         if (request != null)
         {
+            scheduler.cancelAll();
+            uploadScheduler.cancelAll();
+
             client.dispatcher().cancelAll();
+            uploadClient.dispatcher().cancelAll();
             logger.info("Canceled all requests.");
         }
         else
@@ -236,6 +378,12 @@ public class TixteClient implements RawResponseData
         }
     }
 
+    private static int queueDepth(@Nullable PriorityScheduler scheduler, @NotNull RequestPriority priority)
+    {
+        Checks.notNull(priority, "priority");
+        return scheduler == null ? 0 : scheduler.queuedCount(priority);
+    }
+
     @Override
     public boolean equals(@Nullable Object o)
     {
@@ -17,11 +17,17 @@ package dev.blocky.library.tixte.api;
 
 import dev.blocky.library.tixte.api.enums.CachePolicy;
 import dev.blocky.library.tixte.internal.interceptor.CacheInterceptor;
+import dev.blocky.library.tixte.internal.interceptor.ConcurrencyLimitInterceptor;
 import dev.blocky.library.tixte.internal.interceptor.ErrorResponseInterceptor;
 import dev.blocky.library.tixte.internal.interceptor.ForceCacheInterceptor;
 import dev.blocky.library.tixte.internal.interceptor.RateLimitInterceptor;
+import dev.blocky.library.tixte.internal.requests.CacheRules;
+import dev.blocky.library.tixte.internal.requests.ConnectivityMonitor;
+import dev.blocky.library.tixte.internal.requests.Network;
+import dev.blocky.library.tixte.internal.requests.Route;
 import dev.blocky.library.tixte.internal.utils.Checks;
 import dev.blocky.library.tixte.internal.utils.logging.TixteLogger;
+import okhttp3.Cache;
 import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
@@ -31,6 +37,23 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -41,7 +64,7 @@ import java.util.regex.Pattern;
  * <br>Each call to {@link #build()} creates a <b>new</b> {@link TixteClient} instance using the same information.
  *
  * @author BlockyDotJar
- * @version v1.3.2
+ * @version v1.5.0
  * @since v1.0.0-alpha.1
  */
 public record TixteClientBuilder()
@@ -52,12 +75,30 @@ public record TixteClientBuilder()
     private static final Logger logger = TixteLogger.getLog(TixteClientBuilder.class);
     private static final TixteClient tixteClient = new TixteClient();
 
-    static final Dispatcher dispatcher = new Dispatcher();
+    static Dispatcher dispatcher = new Dispatcher(), uploadDispatcher = new Dispatcher();
+    static ThreadFactory threadFactory = TixteClientBuilder::newPlatformThread;
 
     static String apiKey, sessionToken, defaultDomain;
-    static boolean prettyResponsePrinting = false;
+    static boolean prettyResponsePrinting = false, virtualThreads = false, adaptiveConcurrency = true;
+    static int maxRequests = 64, maxRequestsPerHost = 25, uploadMaxRequests = 4;
+    static int maxIdleConnections = 5, uploadMaxIdleConnections = 4;
+    static Duration keepAliveDuration = Duration.ofSeconds(5), uploadKeepAliveDuration = Duration.ofSeconds(30);
+    static Duration connectTimeout = Duration.ofSeconds(10), readTimeout = Duration.ofSeconds(10), writeTimeout = Duration.ofSeconds(10);
+    static Duration uploadConnectTimeout = Duration.ofSeconds(10), uploadReadTimeout = Duration.ofSeconds(60), uploadWriteTimeout = Duration.ofSeconds(60);
     static CachePolicy policy;
-    static OkHttpClient client;
+    static File cacheDirectory = new File(System.getProperty("user.home"), ".tixte4j" + File.separator + "cache");
+    static long cacheMaxSize = 10L * 1024 * 1024;
+    static Cache cache;
+    static final CacheRules cacheRules = new CacheRules();
+    static int responseCacheSize = 256;
+    static ResponseCache responseCache;
+    static UploadIndex uploadIndex;
+    static UploadListener uploadListener;
+    static ConcurrencyLimitInterceptor concurrencyLimiter, uploadConcurrencyLimiter;
+    static RateLimitInterceptor rateLimiter;
+    static PriorityScheduler scheduler, uploadScheduler;
+    static ConnectivityMonitor connectivityMonitor;
+    static OkHttpClient client, uploadClient;
     static Request request;
 
     /**
@@ -157,6 +198,131 @@ public record TixteClientBuilder()
         return this;
     }
 
+    /**
+     * Sets the directory and the maximal size of the HTTP disk cache, which is used by every {@link CachePolicy}
+     * except {@link CachePolicy#NONE}.
+     * <br>If the cache exceeds its maximal size, the least recently used responses get evicted.
+     * <br>The directory must not be used by another cache at the same time.
+     * <br>The responses get stored in a subdirectory per API-key and session-token, which only the owner can access
+     * on file systems with POSIX permissions, so cached responses are never shared between accounts or users.
+     * <br>The default directory is {@code .tixte4j/cache} in the home directory of the user and the default maximal
+     * size is 10 MiB.
+     *
+     * @param cacheDirectory The directory, in which the responses get stored.
+     * @param cacheMaxSize The maximal size of the cache in bytes.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setCache(@NotNull File cacheDirectory, long cacheMaxSize)
+    {
+        Checks.notNull(cacheDirectory, "cacheDirectory");
+        Checks.check(cacheMaxSize > 0, "\"cacheMaxSize\" must be positive.");
+
+        TixteClientBuilder.cacheDirectory = cacheDirectory;
+        TixteClientBuilder.cacheMaxSize = cacheMaxSize;
+        return this;
+    }
+
+    /**
+     * Sets how long the responses of a {@link Route} may be served from the cache, if the {@link CachePolicy} is
+     * {@link CachePolicy#ONLY_NETWORK_CACHE}, {@link CachePolicy#ALL} or {@link CachePolicy#STALE_WHILE_REVALIDATE}.
+     * <br>After the TTL, the response gets revalidated with its {@code ETag} or {@code Last-Modified} date, so Tixte
+     * only has to send a small {@code 304} response, if nothing changed.
+     * <br>By default, the config and other users are fresh for 5 minutes, the domains for 1 hour and the uploads get
+     * revalidated before every use. The own user, the API-keys and every other route never get stored, because they
+     * may contain credentials or personal data.
+     *
+     * @param route The GET {@link Route}, whose responses should be cached. (e.g. {@link Route.Self#GET_CONFIG})
+     * @param ttl How long a response is fresh, {@link Duration#ZERO} to revalidate it before every use or null, if
+     *            the response should never get stored.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setCacheTtl(@NotNull Route route, @Nullable Duration ttl)
+    {
+        cacheRules.setTtl(route, ttl);
+        return this;
+    }
+
+    /**
+     * Sets the maximal count of decoded responses, which get cached in memory, if the {@link CachePolicy} is
+     * {@link CachePolicy#ONLY_NETWORK_CACHE}, {@link CachePolicy#ALL} or {@link CachePolicy#STALE_WHILE_REVALIDATE}.
+     * <br>This cache sits in front of the disk cache, so fresh responses are served without any disk I/O or parsing.
+     * <br>Responses are fresh for the TTL of their route, which can be set via {@link #setCacheTtl(Route, Duration)}.
+     * <br>The default value is 256, a value of 0 disables the cache.
+     * <br>Stale responses are only served by this cache, so a value of 0 turns
+     * {@link CachePolicy#STALE_WHILE_REVALIDATE} into {@link CachePolicy#ALL}.
+     *
+     * @param responseCacheSize The maximal count of cached responses.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setResponseCacheSize(int responseCacheSize)
+    {
+        Checks.notNegative(responseCacheSize, "responseCacheSize");
+
+        TixteClientBuilder.responseCacheSize = responseCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets how long a response may be served after its TTL, if the {@link CachePolicy} is
+     * {@link CachePolicy#STALE_WHILE_REVALIDATE}.
+     * <br>A stale response gets returned immediately and a single background request refreshes it, so reads don't
+     * have to wait for the network. After the stale window, the next read waits for the network again.
+     * <br>Responses, which have to be revalidated before every use (e.g. the uploads and the upload size), are stale
+     * immediately, so every read returns the last response and refreshes it in the background.
+     * <br>The default value is 10 minutes.
+     * <br>The stale responses are served by the in-memory cache, so its size must not be 0 (see
+     * {@link #setResponseCacheSize(int)}).
+     *
+     * @param staleWindow How long a response may be served after its TTL.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setStaleWindow(@NotNull Duration staleWindow)
+    {
+        cacheRules.setStaleWindow(staleWindow);
+        return this;
+    }
+
+    /**
+     * Sets the {@link UploadIndex}, which is used to skip uploads of content, which was already uploaded.
+     * <br>Every upload of {@link MyFiles} looks up the hash of its content in the index first and returns the existing
+     * {@link UploadResult} without sending a request, if the content was already uploaded to the same domain.
+     * <br>If null, every file gets uploaded. This is the default.
+     *
+     * @param uploadIndex The {@link UploadIndex}, which should be used.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setUploadIndex(@Nullable UploadIndex uploadIndex)
+    {
+        TixteClientBuilder.uploadIndex = uploadIndex;
+        return this;
+    }
+
+    /**
+     * Sets the {@link UploadListener}, which gets notified about the progress and throughput of every upload.
+     * <br>The callbacks are sampled, so the listener can be used to feed metrics without slowing down the uploads.
+     * <br>If null, the progress doesn't get tracked. This is the default.
+     *
+     * @param uploadListener The {@link UploadListener}, which should be used.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setUploadListener(@Nullable UploadListener uploadListener)
+    {
+        TixteClientBuilder.uploadListener = uploadListener;
+        return this;
+    }
+
     /**
      * If there should be printed out a pretty string or not.
      *
@@ -187,15 +353,214 @@ public record TixteClientBuilder()
         return this;
     }
 
+    /**
+     * Whether the {@link Dispatcher} and every blocking request should run on virtual threads or not.
+     * <br>If enabled, every enqueued call gets its own virtual thread instead of a thread of the cached platform
+     * thread pool, which is used by OkHttp by default.
+     * <br>This makes it possible to run thousands of concurrent uploads and metadata lookups without needing
+     * thousands of platform threads.
+     * <br>Note that virtual threads are a preview feature of Java 19, so you need to run your application with
+     * {@code --enable-preview} on Java 19. If virtual threads are not available, a warning gets logged and the
+     * platform threads get used instead.
+     *
+     * @param virtualThreads Whether virtual threads should be used or not.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setVirtualThreads(boolean virtualThreads)
+    {
+        TixteClientBuilder.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Whether the count of in-flight requests should be limited adaptively or not.
+     * <br>If enabled, the limit starts at {@link #setMaxRequestsPerHost(int) the maximum number of requests per host}
+     * and adapts to the observed latency and error rate of Tixte, but never exceeds
+     * {@link #setMaxRequests(int) the maximum number of requests}.
+     * <br>The current limit can be monitored via {@link TixteClient#getConcurrencyLimiter()}.
+     * <br>This is enabled by default.
+     *
+     * @param adaptiveConcurrency Whether the count of in-flight requests should be limited adaptively or not.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setAdaptiveConcurrency(boolean adaptiveConcurrency)
+    {
+        TixteClientBuilder.adaptiveConcurrency = adaptiveConcurrency;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests to execute concurrently.
+     * <br>Above this requests queue in memory, waiting for the running calls to complete.
+     * <br>The default value is 64.
+     *
+     * @param maxRequests The maximum number of concurrent requests.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setMaxRequests(int maxRequests)
+    {
+        Checks.positive(maxRequests, "maxRequests");
+
+        TixteClientBuilder.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests for each host to execute concurrently.
+     * <br>This limits requests by the URL's host name.
+     * <br>The default value is 25.
+     *
+     * @param maxRequestsPerHost The maximum number of concurrent requests per host.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setMaxRequestsPerHost(int maxRequestsPerHost)
+    {
+        Checks.positive(maxRequestsPerHost, "maxRequestsPerHost");
+
+        TixteClientBuilder.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of uploads to execute concurrently.
+     * <br>Uploads run in their own execution lane with their own {@link Dispatcher}, {@link ConnectionPool} and
+     * timeouts, so slow uploads never block the small metadata requests.
+     * <br>The default value is 4.
+     *
+     * @param uploadMaxRequests The maximum number of concurrent uploads.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setUploadMaxRequests(int uploadMaxRequests)
+    {
+        Checks.positive(uploadMaxRequests, "uploadMaxRequests");
+
+        TixteClientBuilder.uploadMaxRequests = uploadMaxRequests;
+        return this;
+    }
+
+    /**
+     * Sets the {@link ConnectionPool} of the metadata requests.
+     * <br>The default value is 5 idle connections, which are kept alive for 5 seconds.
+     *
+     * @param maxIdleConnections The maximum number of idle connections.
+     * @param keepAliveDuration How long idle connections are kept alive.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setConnectionPool(int maxIdleConnections, @NotNull Duration keepAliveDuration)
+    {
+        Checks.notNegative(maxIdleConnections, "maxIdleConnections");
+        Checks.notNegative(keepAliveDuration, "keepAliveDuration");
+
+        TixteClientBuilder.maxIdleConnections = maxIdleConnections;
+        TixteClientBuilder.keepAliveDuration = keepAliveDuration;
+        return this;
+    }
+
+    /**
+     * Sets the {@link ConnectionPool} of the uploads.
+     * <br>The default value is 4 idle connections, which are kept alive for 30 seconds.
+     *
+     * @param maxIdleConnections The maximum number of idle connections.
+     * @param keepAliveDuration How long idle connections are kept alive.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setUploadConnectionPool(int maxIdleConnections, @NotNull Duration keepAliveDuration)
+    {
+        Checks.notNegative(maxIdleConnections, "maxIdleConnections");
+        Checks.notNegative(keepAliveDuration, "keepAliveDuration");
+
+        TixteClientBuilder.uploadMaxIdleConnections = maxIdleConnections;
+        TixteClientBuilder.uploadKeepAliveDuration = keepAliveDuration;
+        return this;
+    }
+
+    /**
+     * Sets the timeouts of the metadata requests.
+     * <br>A timeout of {@link Duration#ZERO} means no timeout.
+     * <br>The default value is 10 seconds for every timeout.
+     *
+     * @param connectTimeout The timeout for opening a connection.
+     * @param readTimeout The timeout for every read operation.
+     * @param writeTimeout The timeout for every write operation.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setTimeouts(@NotNull Duration connectTimeout, @NotNull Duration readTimeout, @NotNull Duration writeTimeout)
+    {
+        Checks.notNegative(connectTimeout, "connectTimeout");
+        Checks.notNegative(readTimeout, "readTimeout");
+        Checks.notNegative(writeTimeout, "writeTimeout");
+
+        TixteClientBuilder.connectTimeout = connectTimeout;
+        TixteClientBuilder.readTimeout = readTimeout;
+        TixteClientBuilder.writeTimeout = writeTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the timeouts of the uploads.
+     * <br>A timeout of {@link Duration#ZERO} means no timeout.
+     * <br>The default value is 10 seconds for opening a connection and 60 seconds for every read and write operation,
+     * because Tixte only responds after the whole file was received.
+     *
+     * @param connectTimeout The timeout for opening a connection.
+     * @param readTimeout The timeout for every read operation.
+     * @param writeTimeout The timeout for every write operation.
+     *
+     * @return Instantiates a <b>new</b> {@link TixteClientBuilder}.
+     */
+    @NotNull
+    public TixteClientBuilder setUploadTimeouts(@NotNull Duration connectTimeout, @NotNull Duration readTimeout, @NotNull Duration writeTimeout)
+    {
+        Checks.notNegative(connectTimeout, "connectTimeout");
+        Checks.notNegative(readTimeout, "readTimeout");
+        Checks.notNegative(writeTimeout, "writeTimeout");
+
+        TixteClientBuilder.uploadConnectTimeout = connectTimeout;
+        TixteClientBuilder.uploadReadTimeout = readTimeout;
+        TixteClientBuilder.uploadWriteTimeout = writeTimeout;
+        return this;
+    }
+
     /**
      * Builds a <b>new</b> {@link TixteClient} instance and uses the provided API-key and session-token to start the login process.
-     * <br>In this method there will be set a rate-limit for max. 25 requests per host.
+     * <br>In this method there will be set a rate-limit for max. 64 requests and max. 25 requests per host, if not
+     * configured otherwise via {@link #setMaxRequests(int)} and {@link #setMaxRequestsPerHost(int)}.
+     * <br>If {@link #setVirtualThreads(boolean)} is enabled, the {@link Dispatcher} runs every call on a virtual thread, if
+     * virtual threads are available.
      * <br>Here also will be built a {@link OkHttpClient} instance, in which every interceptor will be set.
+     * <br>Rate-limits are tracked per route by the {@link RateLimitInterceptor}, which delays requests before they get
+     * sent, if the bucket of the route has no requests left.
      * <br>You can also set the {@link CachePolicy} by calling {@link #setCachePolicy(CachePolicy)}, which will be used here.
+     * <br>Every {@link CachePolicy} except {@link CachePolicy#NONE} stores the responses in a disk cache, which can be
+     * configured via {@link #setCache(File, long)}.
+     * <br>If the {@link CachePolicy} answers requests by the cache while offline, a {@link ConnectivityMonitor} gets
+     * started, which tracks the connectivity in the background.
+     *
+     * <p>Uploads run in their own execution lane, which has its own {@link Dispatcher}, {@link ConnectionPool},
+     * timeouts and concurrency limit, so slow uploads don't cause head-of-line blocking for the metadata requests.
+     * <br>Both lanes share the same rate-limit buckets.
      *
      * <p>If the connection - for some reason - fails, the client will retry to open the connection.
      * <br>If there is not occurring a failure, there will be created a connection which lasts 5 seconds.
      * <br>There also is a limit for idle connections, which is set to 5.
+     * <br>These values can be configured via {@link #setConnectionPool(int, Duration)} and
+     * {@link #setUploadConnectionPool(int, Duration)}.
      *
      * @return A {@link TixteClient} instance that has started the login process.
      */
@@ -203,16 +568,35 @@ public record TixteClientBuilder()
     @NonBlocking
     public TixteClient build()
     {
-        dispatcher.setMaxRequestsPerHost(25);
+        // Calls, which are already running on the previous dispatchers, still complete, but no new threads get started.
+        dispatcher.executorService().shutdown();
+        uploadDispatcher.executorService().shutdown();
 
-        final ConnectionPool connectionPool = new ConnectionPool(5, 5, TimeUnit.SECONDS);
+        final ThreadFactory virtualThreadFactory = virtualThreads ? newVirtualThreadFactory() : null;
 
-        final OkHttpClient.Builder builder = new OkHttpClient.Builder()
-                .dispatcher(dispatcher)
-                .connectionPool(connectionPool)
-                .retryOnConnectionFailure(true)
-                .addInterceptor(new RateLimitInterceptor())
-                .addInterceptor(new ErrorResponseInterceptor());
+        if (virtualThreadFactory != null)
+        {
+            threadFactory = virtualThreadFactory;
+            dispatcher = new Dispatcher(newThreadPerTaskExecutor(threadFactory));
+            uploadDispatcher = new Dispatcher(newThreadPerTaskExecutor(threadFactory));
+        }
+        else
+        {
+            threadFactory = TixteClientBuilder::newPlatformThread;
+            dispatcher = new Dispatcher();
+            uploadDispatcher = new Dispatcher();
+        }
+
+        dispatcher.setMaxRequests(maxRequests);
+
+        // The adaptive limit replaces the fixed limit per host and gets enforced by the scheduler, so the dispatcher
+        // must not cap it.
+        dispatcher.setMaxRequestsPerHost(adaptiveConcurrency ? maxRequests : maxRequestsPerHost);
+        concurrencyLimiter = adaptiveConcurrency ? new ConcurrencyLimitInterceptor(maxRequestsPerHost, maxRequests) : null;
+
+        uploadDispatcher.setMaxRequests(uploadMaxRequests);
+        uploadDispatcher.setMaxRequestsPerHost(uploadMaxRequests);
+        uploadConcurrencyLimiter = adaptiveConcurrency ? new ConcurrencyLimitInterceptor(uploadMaxRequests, uploadMaxRequests) : null;
 
         if (policy == null)
         {
@@ -220,21 +604,189 @@ public record TixteClientBuilder()
             logger.warn("'policy' equals null, setting to 'NONE'.");
         }
 
-        switch (policy)
+        // Stale responses are only served by the response cache, so without it the policy would behave like 'ALL'.
+        if (policy == CachePolicy.STALE_WHILE_REVALIDATE && responseCacheSize == 0)
         {
-        case NONE -> client = builder.build();
-        case ONLY_FORCE_CACHE -> client = builder
-                .addInterceptor(new ForceCacheInterceptor())
-                .build();
-        case ONLY_NETWORK_CACHE -> client = builder
-                .addNetworkInterceptor(new CacheInterceptor())
-                .build();
-        case ALL -> client =
-                builder
-                        .addInterceptor(new ForceCacheInterceptor())
-                        .addNetworkInterceptor(new CacheInterceptor())
-                        .build();
+            policy = CachePolicy.ALL;
+            logger.warn("'responseCacheSize' equals 0, which disables 'STALE_WHILE_REVALIDATE', setting 'policy' to 'ALL'.");
         }
+
+        if (connectivityMonitor != null)
+        {
+            connectivityMonitor.close();
+        }
+
+        if (cache != null)
+        {
+            closeCache(cache);
+        }
+
+        // Both lanes share the same cache, because two caches must not use the same directory.
+        cache = policy == CachePolicy.NONE ? null : new Cache(identityCacheDirectory(), cacheMaxSize);
+
+        final boolean networkCache = policy == CachePolicy.ONLY_NETWORK_CACHE || policy == CachePolicy.ALL || policy == CachePolicy.STALE_WHILE_REVALIDATE;
+        responseCache = networkCache && responseCacheSize > 0 ? new ResponseCache(responseCacheSize) : null;
+
+        // The connectivity only has to be known, if requests should be answered by the cache while offline.
+        final boolean forceCache = policy == CachePolicy.ONLY_FORCE_CACHE || policy == CachePolicy.ALL || policy == CachePolicy.STALE_WHILE_REVALIDATE;
+        connectivityMonitor = forceCache ? new ConnectivityMonitor(new Network("8.8.8.8", 53)) : null;
+
+        // Both lanes share the rate-limit buckets, because Tixte doesn't know about the lanes.
+        rateLimiter = new RateLimitInterceptor();
+
+        client = newHttpClient(dispatcher, new ConnectionPool(maxIdleConnections, keepAliveDuration.toMillis(), TimeUnit.MILLISECONDS),
+                rateLimiter, concurrencyLimiter, connectTimeout, readTimeout, writeTimeout);
+        uploadClient = newHttpClient(uploadDispatcher, new ConnectionPool(uploadMaxIdleConnections, uploadKeepAliveDuration.toMillis(), TimeUnit.MILLISECONDS),
+                rateLimiter, uploadConcurrencyLimiter, uploadConnectTimeout, uploadReadTimeout, uploadWriteTimeout);
+
+        scheduler = new PriorityScheduler(client, concurrencyLimiter, rateLimiter);
+        uploadScheduler = new PriorityScheduler(uploadClient, uploadConcurrencyLimiter, rateLimiter);
         return tixteClient;
     }
+
+    @NotNull
+    private static OkHttpClient newHttpClient(@NotNull Dispatcher dispatcher, @NotNull ConnectionPool connectionPool, @NotNull RateLimitInterceptor rateLimiter,
+                                              @Nullable ConcurrencyLimitInterceptor concurrencyLimiter, @NotNull Duration connectTimeout,
+                                              @NotNull Duration readTimeout, @NotNull Duration writeTimeout)
+    {
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(writeTimeout)
+                .cache(cache)
+                .retryOnConnectionFailure(true)
+                .addInterceptor(new ErrorResponseInterceptor())
+                .addInterceptor(rateLimiter)
+                .addNetworkInterceptor(rateLimiter.getBucketInterceptor());
+
+        // Responses from the cache don't reach the network interceptors, so they don't get used as latency samples.
+        if (concurrencyLimiter != null)
+        {
+            builder.addNetworkInterceptor(concurrencyLimiter);
+        }
+
+        return switch (policy)
+                {
+                    case NONE -> builder.build();
+                    case ONLY_FORCE_CACHE -> builder
+                            .addInterceptor(new ForceCacheInterceptor(connectivityMonitor))
+                            .build();
+                    case ONLY_NETWORK_CACHE -> builder
+                            .addNetworkInterceptor(new CacheInterceptor(cacheRules, cache))
+                            .build();
+                    case ALL, STALE_WHILE_REVALIDATE -> builder
+                            .addInterceptor(new ForceCacheInterceptor(connectivityMonitor))
+                            .addNetworkInterceptor(new CacheInterceptor(cacheRules, cache))
+                            .build();
+                };
+    }
+
+    @Nullable
+    private static ThreadFactory newVirtualThreadFactory()
+    {
+        // Virtual threads are a preview API of Java 19, which must not be linked directly. Otherwise, the classes
+        // of Tixte4J would only load on Java 19 with '--enable-preview'.
+        try
+        {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+
+            final MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+            final MethodHandle name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class, long.class));
+            final MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+
+            final Object builder = name.invoke(ofVirtual.invoke(), "Tixte4J-Dispatcher-", 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        }
+        catch (Throwable e)
+        {
+            logger.warn("Virtual threads are not available (" + e + "), using platform threads instead.");
+            return null;
+        }
+    }
+
+    @NotNull
+    private static ExecutorService newThreadPerTaskExecutor(@NotNull ThreadFactory threadFactory)
+    {
+        try
+        {
+            final MethodHandle newThreadPerTaskExecutor = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(threadFactory);
+        }
+        catch (Throwable e)
+        {
+            throw new IllegalStateException("Could not create an executor for virtual threads.", e);
+        }
+    }
+
+    @NotNull
+    private static Thread newPlatformThread(@NotNull Runnable runnable)
+    {
+        final Thread thread = new Thread(runnable, "Tixte4J-Request");
+
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @NotNull
+    private static File identityCacheDirectory()
+    {
+        // The cache is keyed by the url only, so the credentials select the directory instead. They are hashed, because
+        // the name of the directory must not leak them.
+        final File directory = new File(cacheDirectory, hash(apiKey + ":" + sessionToken));
+
+        try
+        {
+            Files.createDirectories(directory.toPath());
+            restrictPermissions(directory.toPath());
+        }
+        catch (IOException e)
+        {
+            logger.warn("Could not restrict the permissions of the cache directory " + directory + ".", e);
+        }
+        return directory;
+    }
+
+    private static void restrictPermissions(@NotNull Path directory) throws IOException
+    {
+        final PosixFileAttributeView view = Files.getFileAttributeView(directory, PosixFileAttributeView.class);
+
+        // Other file systems, like NTFS, already restrict the home directory of the user via ACLs.
+        if (view != null)
+        {
+            view.setPermissions(PosixFilePermissions.fromString("rwx------"));
+        }
+    }
+
+    @NotNull
+    private static String hash(@NotNull String value)
+    {
+        try
+        {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // Every implementation of the Java platform must support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void closeCache(@NotNull Cache cache)
+    {
+        try
+        {
+            cache.close();
+        }
+        catch (IOException e)
+        {
+            logger.warn("Could not close the previous cache.", e);
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.requests.json.DataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Represents a single file, which got uploaded to Tixte.
+ * <br>Instances of this class are immutable and are decoded once per response.
+ *
+ * @param assetId The id of the file.
+ * @param name The name of the file without the extension.
+ * @param extension The extension of the file. (For example: "png" or "jpg")
+ * @param domain The domain, on which the file got uploaded.
+ * @param mimeType The mime-type of the file. (For example: "image/png")
+ * @param size The size of the file in bytes.
+ * @param type The type of the file. (1 = public file, 2 = private file)
+ * @param permissionLevel The permission level, which the file contains.
+ * @param uploadDate The upload date of the file as a {@link OffsetDateTime} in ISO8601 format.
+ * @param expiration The expiration time of the file as a {@link OffsetDateTime} in ISO8601 format or an int,
+ *                   if the remaining time is lower than or equal to 60 minutes. This is null if the file doesn't expire.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record Upload(@NotNull String assetId, @NotNull String name, @NotNull String extension, @NotNull String domain,
+                     @NotNull String mimeType, long size, int type, int permissionLevel,
+                     @NotNull OffsetDateTime uploadDate, @Nullable Object expiration)
+{
+    /**
+     * Gets the complete name of the file.
+     *
+     * <p>This is composed of the name of the file and the extension.
+     *
+     * @return The complete name of the file.
+     */
+    @NotNull
+    public String getFileName()
+    {
+        return name + "." + extension;
+    }
+
+    /**
+     * Checks if the file is public or not.
+     *
+     * @return <b>true</b> - If the file is public.
+     *         <br><b>false</b> - If the file is private.
+     */
+    public boolean isPublic()
+    {
+        return type == 1;
+    }
+
+    /**
+     * Checks if the file is private or not.
+     *
+     * @return <b>true</b> - If the file is private.
+     *         <br><b>false</b> - If the file is public.
+     */
+    public boolean isPrivate()
+    {
+        return type == 2;
+    }
+
+    /**
+     * Decodes a single element of the {@code data.uploads} array.
+     *
+     * @param upload The {@link DataObject} of the upload.
+     *
+     * @return The decoded {@link Upload}.
+     */
+    @NotNull
+    static Upload fromData(@NotNull DataObject upload)
+    {
+        final Object expiration;
+
+        if (upload.isNull("expiration"))
+        {
+            expiration = null;
+        }
+        else if (upload.isType("expiration", DataType.STRING))
+        {
+            expiration = upload.getOffsetDateTime("expiration");
+        }
+        else
+        {
+            expiration = upload.getInt("expiration");
+        }
+
+        return new Upload(
+                upload.getString("asset_id"), upload.getString("name"), upload.getString("extension"),
+                upload.getString("domain"), upload.getString("mimetype"), upload.getLong("size"),
+                upload.getInt("type"), upload.getInt("permission_level"), upload.getOffsetDateTime("uploaded_at"),
+                expiration
+        );
+    }
+}
@@ -0,0 +1,338 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.json.DataArray;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.requests.json.DataPath;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a columnar, primitive-backed view of every file, which got uploaded to Tixte.
+ * <br>The columns get computed <b>once</b> per response and are stored in primitive arrays, so iterating over
+ * them neither sends new requests nor boxes every element.
+ *
+ * <p>Every column has the same length and the same index refers to the same file.
+ *
+ * @author BlockyDotJar
+ * @version v1.1.0
+ * @since v1.2.0
+ */
+public final class UploadColumns
+{
+    private final String[] assetIds, names, extensions;
+    private final long[] sizes;
+    private final int[] types, permissionLevels;
+
+    private UploadColumns(int length)
+    {
+        this.assetIds = new String[length];
+        this.names = new String[length];
+        this.extensions = new String[length];
+        this.sizes = new long[length];
+        this.types = new int[length];
+        this.permissionLevels = new int[length];
+    }
+
+    /**
+     * Gets the count of files, which are represented by this view.
+     *
+     * @return The count of files.
+     */
+    public int length()
+    {
+        return sizes.length;
+    }
+
+    /**
+     * Gets the id of the file at the specified index.
+     *
+     * @param index The index of the file.
+     *
+     * @return The id of the file.
+     */
+    @NotNull
+    public String getAssetId(int index)
+    {
+        return assetIds[index];
+    }
+
+    /**
+     * Gets the name of the file at the specified index.
+     *
+     * @param index The index of the file.
+     *
+     * @return The name of the file without the extension.
+     */
+    @NotNull
+    public String getName(int index)
+    {
+        return names[index];
+    }
+
+    /**
+     * Gets the extension of the file at the specified index.
+     *
+     * @param index The index of the file.
+     *
+     * @return The extension of the file.
+     */
+    @NotNull
+    public String getExtension(int index)
+    {
+        return extensions[index];
+    }
+
+    /**
+     * Gets the complete name of the file at the specified index.
+     *
+     * <p>This is composed of the name of the file and the extension.
+     *
+     * @param index The index of the file.
+     *
+     * @return The complete name of the file.
+     */
+    @NotNull
+    public String getFileName(int index)
+    {
+        return names[index] + "." + extensions[index];
+    }
+
+    /**
+     * Gets the size of the file at the specified index in bytes.
+     *
+     * @param index The index of the file.
+     *
+     * @return The size of the file in bytes.
+     */
+    public long getSize(int index)
+    {
+        return sizes[index];
+    }
+
+    /**
+     * Gets the type of the file at the specified index.
+     *
+     * <p>1 = public file
+     * <br>2 = private file
+     *
+     * @param index The index of the file.
+     *
+     * @return The type of the file.
+     */
+    public int getType(int index)
+    {
+        return types[index];
+    }
+
+    /**
+     * Gets the permission level of the file at the specified index.
+     *
+     * @param index The index of the file.
+     *
+     * @return The permission level of the file.
+     */
+    public int getPermissionLevel(int index)
+    {
+        return permissionLevels[index];
+    }
+
+    /**
+     * Checks if the file at the specified index is public or not.
+     *
+     * @param index The index of the file.
+     *
+     * @return <b>true</b> - If the file is public.
+     *         <br><b>false</b> - If the file is private.
+     */
+    public boolean isPublic(int index)
+    {
+        return types[index] == 1;
+    }
+
+    /**
+     * Checks if the file at the specified index is private or not.
+     *
+     * @param index The index of the file.
+     *
+     * @return <b>true</b> - If the file is private.
+     *         <br><b>false</b> - If the file is public.
+     */
+    public boolean isPrivate(int index)
+    {
+        return types[index] == 2;
+    }
+
+    /**
+     * Gets a copy of every file size in bytes.
+     *
+     * @return A copy of every file size in bytes.
+     */
+    @NotNull
+    public long[] getSizes()
+    {
+        return sizes.clone();
+    }
+
+    /**
+     * Gets a copy of every file type.
+     *
+     * @return A copy of every file type.
+     */
+    @NotNull
+    public int[] getTypes()
+    {
+        return types.clone();
+    }
+
+    /**
+     * Gets a copy of every permission level.
+     *
+     * @return A copy of every permission level.
+     */
+    @NotNull
+    public int[] getPermissionLevels()
+    {
+        return permissionLevels.clone();
+    }
+
+    /**
+     * Gets the sum of every file size in bytes.
+     *
+     * @return The sum of every file size in bytes.
+     */
+    public long getTotalSize()
+    {
+        long totalSize = 0;
+
+        for (final long size : sizes)
+        {
+            totalSize += size;
+        }
+        return totalSize;
+    }
+
+    /**
+     * Gets a {@link List} of {@code booleans}, which represents if the files are public.
+     *
+     * @return A {@link List} of {@code booleans}, which represents if the files are public.
+     */
+    @NotNull
+    public List<Boolean> arePublic()
+    {
+        final List<Boolean> list = new ArrayList<>(types.length);
+
+        for (final int type : types)
+        {
+            list.add(type == 1);
+        }
+        return list;
+    }
+
+    /**
+     * Gets a {@link List} of {@code booleans}, which represents if the files are private.
+     *
+     * @return A {@link List} of {@code booleans}, which represents if the files are private.
+     */
+    @NotNull
+    public List<Boolean> arePrivate()
+    {
+        final List<Boolean> list = new ArrayList<>(types.length);
+
+        for (final int type : types)
+        {
+            list.add(type == 2);
+        }
+        return list;
+    }
+
+    /**
+     * Gets a {@link List} of the complete names from the files.
+     *
+     * <p>This is composed of the name of the file and the extension.
+     *
+     * @return A {@link List} of the complete names from the files.
+     */
+    @NotNull
+    public List<String> getFileNames()
+    {
+        final List<String> list = new ArrayList<>(names.length);
+
+        for (int i = 0; i < names.length; i++)
+        {
+            list.add(getFileName(i));
+        }
+        return list;
+    }
+
+    /**
+     * Computes the columns directly from the response of {@link RawResponseData#getUploadsRaw()}.
+     * <br>Unlike {@link UploadsSnapshot#fromData(DataObject)}, this doesn't decode any dates or expiration times.
+     *
+     * @param json The {@link DataObject} of the response.
+     *
+     * @return The computed {@link UploadColumns}.
+     */
+    @NotNull
+    static UploadColumns fromData(@NotNull DataObject json)
+    {
+        final DataArray uploads = DataPath.getDataArray(json, "data.uploads");
+        final UploadColumns columns = new UploadColumns(uploads.length());
+
+        // Every column gets filled in the same pass over the uploads.
+        for (int i = 0; i < uploads.length(); i++)
+        {
+            final DataObject upload = uploads.getDataObject(i);
+
+            columns.assetIds[i] = upload.getString("asset_id");
+            columns.names[i] = upload.getString("name");
+            columns.extensions[i] = upload.getString("extension");
+            columns.sizes[i] = upload.getLong("size");
+            columns.types[i] = upload.getInt("type");
+            columns.permissionLevels[i] = upload.getInt("permission_level");
+        }
+        return columns;
+    }
+
+    /**
+     * Computes the columns from already decoded uploads.
+     *
+     * @param uploads The decoded uploads.
+     *
+     * @return The computed {@link UploadColumns}.
+     */
+    @NotNull
+    static UploadColumns fromUploads(@NotNull List<Upload> uploads)
+    {
+        final UploadColumns columns = new UploadColumns(uploads.size());
+
+        for (int i = 0; i < uploads.size(); i++)
+        {
+            final Upload upload = uploads.get(i);
+
+            columns.assetIds[i] = upload.assetId();
+            columns.names[i] = upload.name();
+            columns.extensions[i] = upload.extension();
+            columns.sizes[i] = upload.size();
+            columns.types[i] = upload.type();
+            columns.permissionLevels[i] = upload.permissionLevel();
+        }
+        return columns;
+    }
+}
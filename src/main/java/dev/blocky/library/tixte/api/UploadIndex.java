@@ -0,0 +1,383 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.RequestPriority;
+import dev.blocky.library.tixte.api.exceptions.ParsingException;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.utils.Checks;
+import dev.blocky.library.tixte.internal.utils.logging.TixteLogger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Persistent, local index of every file, which got uploaded through {@link MyFiles}, keyed by the hash of its content.
+ *
+ * <p>If an index is set via {@link TixteClientBuilder#setUploadIndex(UploadIndex)}, every upload of {@link MyFiles}
+ * hashes the content first. If the same content was already uploaded to the same domain with the same visibility,
+ * the existing {@link UploadResult} gets returned without sending a request.
+ * <br>The content gets hashed with {@link ContentHash}, so big files get memory-mapped and hashed in parallel chunks.
+ * <br>{@link InputStream Streams} can only be read once, so they are never deduplicated and always get uploaded.
+ *
+ * <p>Entries get removed by {@link MyFiles#deleteFile(String)} and every entry gets removed by
+ * {@link MyFiles#purgeFiles(String)}. Only uploads, for which Tixte returned the asset id, get indexed, because
+ * otherwise the entry couldn't be removed, when the file gets deleted.
+ * <br>Files, which get deleted outside of Tixte4J (for example from the dashboard), are not noticed, so
+ * {@link #invalidate(String)} or {@link #clear()} should be called in that case.
+ *
+ * <p>Changes get coalesced and written atomically to the file of the index at most once per
+ * {@link #FLUSH_DELAY_MILLIS} milliseconds, so a bulk upload doesn't rewrite the whole file after every upload.
+ * <br>Changes, which were not written yet, can be written immediately by {@link #flush()} or {@link #close()}, which
+ * should be called before the application exits.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public final class UploadIndex implements AutoCloseable
+{
+    /**
+     * The time in milliseconds, after which a change gets written to the file of the index.
+     */
+    public static final long FLUSH_DELAY_MILLIS = 1000;
+
+    private static final Logger logger = TixteLogger.getLog(UploadIndex.class);
+    private static final int VERSION = 1;
+
+    private static final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Tixte4J-UploadIndex");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, UploadResult> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Path file;
+
+    private UploadIndex(@NotNull Path file)
+    {
+        this.file = file;
+    }
+
+    /**
+     * Opens the index, which is stored in the specified file.
+     * <br>If the file doesn't exist yet, the index is empty and the file gets created with the first entry.
+     * <br>If the file is corrupted, the index starts empty and the file gets overwritten with the first change.
+     *
+     * @param file The file, in which the index is stored.
+     *
+     * @throws IOException If the file exists, but could not be read.
+     *
+     * @return The opened {@link UploadIndex}.
+     */
+    @NotNull
+    public static UploadIndex open(@NotNull Path file) throws IOException
+    {
+        Checks.notNull(file, "file");
+
+        final UploadIndex index = new UploadIndex(file.toAbsolutePath());
+
+        if (Files.notExists(file))
+        {
+            return index;
+        }
+
+        try (final InputStream stream = Files.newInputStream(file))
+        {
+            final DataObject json = DataObject.fromJson(stream);
+
+            if (json.getInt("version", 0) != VERSION)
+            {
+                logger.warn("The upload index " + file + " has an unknown version, starting with an empty index.");
+                return index;
+            }
+
+            final DataObject entries = json.getDataObject("entries");
+
+            for (final String key : entries.keys())
+            {
+                final DataObject entry = entries.getDataObject(key);
+
+                index.entries.put(key, new UploadResult(
+                        entry.getString("asset_id"), entry.getString("url"),
+                        entry.getString("direct_url"), entry.getString("deletion_url")
+                ));
+            }
+        }
+        catch (ParsingException e)
+        {
+            logger.warn("The upload index " + file + " is corrupted, starting with an empty index.", e);
+            index.entries.clear();
+        }
+        return index;
+    }
+
+    /**
+     * Gets the file, in which the index is stored.
+     *
+     * @return The file of the index.
+     */
+    @NotNull
+    public Path getFile()
+    {
+        return file;
+    }
+
+    /**
+     * Gets the count of indexed uploads.
+     *
+     * @return The count of indexed uploads.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Looks up, whether the content of the {@link UploadSource} was already uploaded.
+     *
+     * @param source The content of the file.
+     * @param domain The domain of the upload or {@code null} for {@link TixteClient#getDefaultDomain() the default domain}.
+     * @param privateFile Whether the file was uploaded as a private file or not.
+     *
+     * @throws IOException If the content could not be read.
+     *
+     * @return The existing {@link UploadResult} or an empty {@link Optional}, if the content wasn't uploaded yet or
+     *         the source is a stream.
+     */
+    @NotNull
+    public Optional<UploadResult> find(@NotNull UploadSource source, @Nullable String domain, boolean privateFile) throws IOException
+    {
+        Checks.notNull(source, "source");
+
+        final String key = keyOf(source, domain, privateFile);
+        return key == null ? Optional.empty() : Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Removes every entry of an uploaded file.
+     *
+     * @param assetId The id of the uploaded file.
+     *
+     * @return <b>true</b> - If at least one entry was removed.
+     *         <br><b>false</b> - If the file wasn't indexed.
+     */
+    public boolean invalidate(@NotNull String assetId)
+    {
+        Checks.notEmpty(assetId, "assetId");
+
+        final boolean removed = entries.values().removeIf(result -> assetId.equals(result.assetId()));
+
+        if (removed)
+        {
+            save();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every entry of this index.
+     */
+    public void clear()
+    {
+        entries.clear();
+        save();
+    }
+
+    /**
+     * Writes every change, which was not written yet, to the file of the index.
+     */
+    public void flush()
+    {
+        if (dirty.compareAndSet(true, false))
+        {
+            write();
+        }
+    }
+
+    /**
+     * Writes every change, which was not written yet, to the file of the index.
+     * <br>The index can still be used afterwards.
+     */
+    @Override
+    public void close()
+    {
+        flush();
+    }
+
+    @NotNull
+    UploadResult upload(@NotNull UploadSource source, @Nullable String domain, boolean privateFile) throws InterruptedException, IOException
+    {
+        final String key = keyOf(source, domain, privateFile);
+        final UploadResult cached = key == null ? null : entries.get(key);
+
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final DataObject json = RawResponseData.uploadFileJson(source, domain, privateFile).resultNow();
+        return remember(key, UploadResult.fromData(json));
+    }
+
+    @NotNull
+    CompletableFuture<UploadResult> uploadAsync(@NotNull UploadSource source, @Nullable String domain, boolean privateFile)
+    {
+        // The upload gets sent from another thread, so the priority of the calling thread has to be carried over.
+        final RequestPriority priority = PriorityScope.current();
+
+        final CompletableFuture<UploadResult> result = new CompletableFuture<>();
+
+        // Hashing reads the whole content, so it must not run on the calling thread.
+        final CompletableFuture<Optional<String>> hashing = CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                return Optional.ofNullable(keyOf(source, domain, privateFile));
+            }
+            catch (IOException e)
+            {
+                throw new CompletionException(e);
+            }
+        }, TixteClientBuilder.uploadDispatcher.executorService());
+
+        hashing.thenCompose(key ->
+        {
+            final UploadResult cached = key.map(entries::get).orElse(null);
+
+            if (cached != null)
+            {
+                return CompletableFuture.completedFuture(cached);
+            }
+
+            final CompletableFuture<DataObject> request;
+
+            try (final PriorityScope scope = PriorityScope.open(priority))
+            {
+                request = RawResponseData.uploadFileJsonAsync(source, domain, privateFile);
+            }
+
+            // Also runs immediately, if the result was already cancelled while hashing.
+            result.whenComplete((value, throwable) ->
+            {
+                if (result.isCancelled())
+                {
+                    request.cancel(true);
+                }
+            });
+            return request.thenApply(json -> remember(key.orElse(null), UploadResult.fromData(json)));
+        }).whenComplete((value, throwable) ->
+        {
+            if (throwable != null)
+            {
+                result.completeExceptionally(throwable);
+                return;
+            }
+            result.complete(value);
+        });
+
+        // Cancelling the result doesn't reach the stages above, so the hashing has to be cancelled explicitly.
+        result.whenComplete((value, throwable) ->
+        {
+            if (result.isCancelled())
+            {
+                hashing.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @NotNull
+    private UploadResult remember(@Nullable String key, @NotNull UploadResult result)
+    {
+        if (key != null && result.assetId() != null)
+        {
+            entries.put(key, result);
+            save();
+        }
+        return result;
+    }
+
+    @Nullable
+    private static String keyOf(@NotNull UploadSource source, @Nullable String domain, boolean privateFile) throws IOException
+    {
+        final String hash = source.contentHash();
+
+        if (hash == null)
+        {
+            return null;
+        }
+
+        final String uploadDomain = domain == null ? TixteClientBuilder.defaultDomain : domain;
+        return hash + "|" + (uploadDomain == null ? "" : uploadDomain.toLowerCase()) + "|" + (privateFile ? "private" : "public");
+    }
+
+    private void save()
+    {
+        // Every change, which happens until the scheduled write, gets written with it.
+        if (dirty.compareAndSet(false, true))
+        {
+            flusher.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void write()
+    {
+        final DataObject entries = DataObject.empty();
+
+        this.entries.forEach((key, result) -> entries.put(key, DataObject.empty()
+                .put("asset_id", result.assetId())
+                .put("url", result.url())
+                .put("direct_url", result.directURL())
+                .put("deletion_url", result.deletionURL())
+        ));
+
+        final DataObject json = DataObject.empty()
+                .put("version", VERSION)
+                .put("entries", entries);
+
+        final Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try
+        {
+            Files.write(temporaryFile, json.toJson());
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException | UncheckedIOException e)
+        {
+            // The index is only a cache, so a failed write must not fail the upload or deletion.
+            logger.warn("Could not write the upload index " + file + ".", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener for the progress of every upload, which can be set via {@link TixteClientBuilder#setUploadListener(UploadListener)}.
+ *
+ * <p>The callbacks are sampled: {@link #onProgress(UploadProgress)} gets called at most every 100 milliseconds per
+ * upload and once after the last byte was written, so the listener doesn't slow down the upload itself.
+ * <br>Every callback gets called on the thread, which writes the request, so it should return quickly and must not block.
+ * <br>Exceptions, which are thrown by the listener, get logged and don't fail the upload.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public interface UploadListener
+{
+    /**
+     * Called with a sample of the progress, while the file gets written to the connection.
+     * <br>If the request gets retried, the progress starts from zero again.
+     *
+     * @param progress The current {@link UploadProgress}.
+     */
+    void onProgress(@NotNull UploadProgress progress);
+
+    /**
+     * Called as soon as the successful response of the upload was received.
+     * <br>The {@link UploadProgress#timeToFirstByte()} of the progress is never null here.
+     *
+     * @param progress The final {@link UploadProgress}.
+     */
+    default void onResponse(@NotNull UploadProgress progress)
+    {
+    }
+}
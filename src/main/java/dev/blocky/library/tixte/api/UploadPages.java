@@ -0,0 +1,178 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Page-aware iterator over every file, which got uploaded to Tixte.
+ * <br>Every page is returned as its own {@link UploadsSnapshot}.
+ *
+ * <p>As soon as a page gets returned by {@link #next()}, the request for the following page gets enqueued in the
+ * background, so fetching the next page overlaps with processing the current one.
+ * <br>The iteration ends as soon as a page contains fewer uploads than the page size or every upload was returned.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public final class UploadPages implements Iterator<UploadsSnapshot>, AutoCloseable
+{
+    private final int pageSize;
+    private CompletableFuture<DataObject> pending;
+    private int page, fetched;
+
+    UploadPages(int pageSize)
+    {
+        this.pageSize = pageSize;
+        this.pending = fetch(1);
+    }
+
+    /**
+     * Gets the amount of uploads per page.
+     *
+     * @return The amount of uploads per page.
+     */
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    /**
+     * Gets the number of the page, which got returned by the last call of {@link #next()}.
+     * <br>This is 0, if {@link #next()} wasn't called yet.
+     *
+     * @return The number of the current page, starting at 1.
+     */
+    public int getCurrentPage()
+    {
+        return page;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return pending != null;
+    }
+
+    /**
+     * Waits for the current page and enqueues the request for the following page in the background.
+     *
+     * @throws NoSuchElementException If there are no more pages.
+     * @throws UncheckedIOException If the request could not be executed due to cancellation, a connectivity problem
+     *                              or timeout.
+     *
+     * @return The current page as an {@link UploadsSnapshot}.
+     */
+    @NotNull
+    @Override
+    public UploadsSnapshot next()
+    {
+        if (pending == null)
+        {
+            throw new NoSuchElementException();
+        }
+
+        final CompletableFuture<DataObject> current = pending;
+        pending = null;
+
+        final UploadsSnapshot snapshot = UploadsSnapshot.fromData(await(current));
+
+        page++;
+        fetched += snapshot.uploads().size();
+
+        if (snapshot.uploads().size() >= pageSize && fetched < snapshot.totalUploadCount())
+        {
+            pending = fetch(page + 1);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Creates a lazy, sequential {@link Stream} of every {@link Upload} of every remaining page.
+     * <br>Closing the stream cancels the request for the next page, if there is one.
+     *
+     * @return A lazy {@link Stream} of every {@link Upload}.
+     */
+    @NotNull
+    public Stream<Upload> stream()
+    {
+        final Spliterator<UploadsSnapshot> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false)
+                .flatMap(snapshot -> snapshot.uploads().stream())
+                .onClose(this::close);
+    }
+
+    /**
+     * Cancels the request for the next page, if there is one, and ends the iteration.
+     */
+    @Override
+    public void close()
+    {
+        if (pending != null)
+        {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    @NotNull
+    private CompletableFuture<DataObject> fetch(int page)
+    {
+        // The future of the request itself is kept, because cancelling a dependent stage doesn't cancel the request.
+        return RawResponseData.getUploadsJsonAsync(page, pageSize);
+    }
+
+    @NotNull
+    private static DataObject await(@NotNull CompletableFuture<DataObject> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException | CancellationException e)
+        {
+            final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+
+            if (cause instanceof IOException ioException)
+            {
+                throw new UncheckedIOException(ioException);
+            }
+
+            if (cause instanceof RuntimeException runtimeException)
+            {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Represents an immutable sample of the progress of a single upload.
+ *
+ * @param fileName The name of the uploaded file including the extension.
+ * @param bytesWritten The count of bytes of the file, which were written to the connection.
+ * @param contentLength The count of bytes of the file or {@code -1}, if the length of a stream is unknown.
+ * @param elapsed The time since the first byte of the file was written.
+ * @param instantaneousThroughput The throughput since the previous sample in bytes per second.
+ * @param averageThroughput The throughput since the first byte of the file was written in bytes per second.
+ * @param timeToFirstByte The time between writing the last byte of the file and receiving the response or null, if
+ *                        the response was not received yet.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record UploadProgress(@NotNull String fileName, long bytesWritten, long contentLength, @NotNull Duration elapsed,
+                             double instantaneousThroughput, double averageThroughput, @Nullable Duration timeToFirstByte)
+{
+    /**
+     * Gets the fraction of the file, which was already written.
+     *
+     * @return The fraction between 0 and 1 or {@code -1}, if the length of the file is unknown.
+     */
+    public double getFraction()
+    {
+        if (contentLength < 0)
+        {
+            return -1;
+        }
+        return contentLength == 0 ? 1 : (double) bytesWritten / contentLength;
+    }
+
+    /**
+     * Checks if every byte of the file was written to the connection.
+     *
+     * @return <b>true</b> - If every byte was written.
+     *         <br><b>false</b> - If the upload is still in progress.
+     */
+    public boolean isWritten()
+    {
+        return contentLength >= 0 && bytesWritten >= contentLength;
+    }
+}
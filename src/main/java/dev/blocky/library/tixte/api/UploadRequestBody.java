@@ -0,0 +1,72 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * {@link RequestBody} of an upload, which wraps the {@link MultipartBody} with the file.
+ * <br>A {@link MultipartBody} doesn't forward {@link RequestBody#isOneShot()} of its parts, so without this body,
+ * OkHttp and the {@link dev.blocky.library.tixte.internal.interceptor.RateLimitInterceptor RateLimitInterceptor}
+ * would retry uploads of streams, which can only be written once.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+final class UploadRequestBody extends RequestBody
+{
+    private final MultipartBody delegate;
+    private final boolean oneShot;
+
+    UploadRequestBody(@NotNull MultipartBody delegate, @NotNull RequestBody fileBody)
+    {
+        this.delegate = delegate;
+        this.oneShot = fileBody.isOneShot();
+    }
+
+    @Nullable
+    @Override
+    public MediaType contentType()
+    {
+        return delegate.contentType();
+    }
+
+    @Override
+    public long contentLength() throws IOException
+    {
+        return delegate.contentLength();
+    }
+
+    @Override
+    public boolean isOneShot()
+    {
+        return oneShot;
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException
+    {
+        delegate.writeTo(sink);
+    }
+}
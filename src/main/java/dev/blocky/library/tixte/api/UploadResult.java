@@ -0,0 +1,54 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.requests.json.DataPath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the immutable result of a single, successful upload.
+ *
+ * @param assetId The id of the uploaded file or null, if Tixte didn't return it.
+ * @param url The url of the uploaded file.
+ * @param directURL The direct url of the uploaded file.
+ * @param deletionURL The deletion url of the uploaded file.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record UploadResult(@Nullable String assetId, @NotNull String url, @NotNull String directURL, @NotNull String deletionURL)
+{
+    /**
+     * Decodes the response of an upload request.
+     *
+     * @param json The {@link DataObject} of the response.
+     *
+     * @return The decoded {@link UploadResult}.
+     */
+    @NotNull
+    static UploadResult fromData(@NotNull DataObject json)
+    {
+        return new UploadResult(
+                DataPath.getString(json, "data.id?", null),
+                DataPath.getString(json, "data.url"),
+                DataPath.getString(json, "data.direct_url"),
+                DataPath.getString(json, "data.deletion_url")
+        );
+    }
+}
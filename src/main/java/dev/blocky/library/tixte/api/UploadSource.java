@@ -0,0 +1,490 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.utils.Checks;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Represents the content of a file, which should be uploaded to Tixte.
+ *
+ * <p>The content is never copied into an intermediate array. Files and {@link FileChannel} slices are transferred
+ * with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, while {@link ByteBuffer buffers}
+ * (including {@link MappedByteBuffer memory-mapped regions}) and {@code byte[]} ranges are written to the connection
+ * as slices.
+ * <br>Every source, except {@link InputStream streams} and {@link ReadableByteChannel channels}, can be written multiple
+ * times, for example if the request gets retried.
+ *
+ * <p>{@link InputStream Streams} and {@link ReadableByteChannel channels} are streamed through okio's bounded segment
+ * buffers directly into the request, so content, which gets produced on the fly, doesn't have to be written into a
+ * temporary file first.
+ * <br>If their length is unknown, the request gets sent with chunked transfer encoding.
+ *
+ * @author BlockyDotJar
+ * @version v1.1.0
+ * @since v1.2.0
+ */
+public final class UploadSource
+{
+    private static final MediaType mediaType = MediaType.get("multipart/form-data");
+
+    private final String fileName;
+    private final RequestBody requestBody;
+
+    private UploadSource(@NotNull String fileName, @NotNull RequestBody requestBody)
+    {
+        this.fileName = fileName;
+        this.requestBody = requestBody;
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from a {@link File}.
+     * <br>The file gets opened not until the request body gets written.
+     *
+     * @param file The file to be uploaded.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull File file)
+    {
+        Checks.notNull(file, "file");
+        return of(file.toPath());
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from a {@link Path}.
+     * <br>The file gets opened not until the request body gets written.
+     *
+     * @param path The path of the file to be uploaded.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull Path path)
+    {
+        Checks.notNull(path, "path");
+        Checks.notNull(path.getFileName(), "path.getFileName()");
+
+        return new UploadSource(path.getFileName().toString(), new PathRequestBody(path));
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from a slice of a {@link FileChannel}.
+     * <br>The position of the channel doesn't get changed and the channel doesn't get closed, so you are responsible
+     * for closing it, after the upload completed.
+     *
+     * @param channel The channel to read from.
+     * @param position The position of the first byte of the slice.
+     * @param count The count of bytes of the slice.
+     * @param fileName The name of the uploaded file including the extension.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull FileChannel channel, long position, long count, @NotNull String fileName)
+    {
+        Checks.notNull(channel, "channel");
+        Checks.check(position >= 0, "position may not be negative");
+        Checks.check(count >= 0, "count may not be negative");
+        Checks.notEmpty(fileName, "fileName");
+
+        return new UploadSource(fileName, new ChannelRequestBody(channel, position, count));
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from the remaining bytes of a {@link ByteBuffer}.
+     * <br>This also works with {@link MappedByteBuffer memory-mapped regions} and direct buffers.
+     * <br>Neither the position nor the limit of the buffer get changed, but the content of the buffer shouldn't be
+     * changed until the upload completed.
+     *
+     * @param buffer The buffer to read from.
+     * @param fileName The name of the uploaded file including the extension.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull ByteBuffer buffer, @NotNull String fileName)
+    {
+        Checks.notNull(buffer, "buffer");
+        Checks.notEmpty(fileName, "fileName");
+
+        return new UploadSource(fileName, new ByteBufferRequestBody(buffer.slice()));
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from a range of a {@code byte[]}.
+     * <br>The array doesn't get copied, so its content shouldn't be changed until the upload completed.
+     *
+     * @param bytes The array to read from.
+     * @param offset The offset of the first byte of the range.
+     * @param length The count of bytes of the range.
+     * @param fileName The name of the uploaded file including the extension.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull byte[] bytes, int offset, int length, @NotNull String fileName)
+    {
+        Checks.notNull(bytes, "bytes");
+        Checks.notNegative(offset, "offset");
+        Checks.notNegative(length, "length");
+        Checks.check(offset + length <= bytes.length, "offset + length may not be greater than the length of the array");
+        Checks.notEmpty(fileName, "fileName");
+
+        return new UploadSource(fileName, new ByteBufferRequestBody(ByteBuffer.wrap(bytes, offset, length).slice()));
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from a whole {@code byte[]}.
+     * <br>The array doesn't get copied, so its content shouldn't be changed until the upload completed.
+     *
+     * @param bytes The array to read from.
+     * @param fileName The name of the uploaded file including the extension.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull byte[] bytes, @NotNull String fileName)
+    {
+        Checks.notNull(bytes, "bytes");
+        return of(bytes, 0, bytes.length, fileName);
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from an {@link InputStream}.
+     * <br>If the length is known, exactly {@code length} bytes get read from the stream, otherwise the stream gets read
+     * until its end. The stream gets closed, after it was written.
+     * <br>The stream can only be written once, so the request won't be retried.
+     *
+     * @param stream The stream to read from.
+     * @param length The count of bytes, which will be read from the stream or {@code -1}, if the length is unknown.
+     * @param fileName The name of the uploaded file including the extension.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull InputStream stream, long length, @NotNull String fileName)
+    {
+        Checks.notNull(stream, "stream");
+        Checks.check(length >= -1, "length may not be smaller than -1");
+        Checks.notEmpty(fileName, "fileName");
+
+        return new UploadSource(fileName, new StreamRequestBody(stream, length));
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from an {@link InputStream} of unknown length.
+     * <br>The stream gets read until its end and gets closed, after it was written.
+     * <br>The stream can only be written once, so the request won't be retried.
+     *
+     * @param stream The stream to read from.
+     * @param fileName The name of the uploaded file including the extension.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull InputStream stream, @NotNull String fileName)
+    {
+        return of(stream, -1, fileName);
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from a blocking {@link ReadableByteChannel}.
+     * <br>If the length is known, exactly {@code length} bytes get read from the channel, otherwise the channel gets read
+     * until its end. The channel gets closed, after it was written.
+     * <br>The channel can only be written once, so the request won't be retried.
+     *
+     * @param channel The channel to read from.
+     * @param length The count of bytes, which will be read from the channel or {@code -1}, if the length is unknown.
+     * @param fileName The name of the uploaded file including the extension.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    public static UploadSource of(@NotNull ReadableByteChannel channel, long length, @NotNull String fileName)
+    {
+        Checks.notNull(channel, "channel");
+        return of(Channels.newInputStream(channel), length, fileName);
+    }
+
+    /**
+     * Gets the name of the uploaded file including the extension.
+     *
+     * @return The name of the uploaded file.
+     */
+    @NotNull
+    public String getFileName()
+    {
+        return fileName;
+    }
+
+    /**
+     * Gets the count of bytes, which will be uploaded.
+     *
+     * @throws IOException If the size of the file could not be read.
+     *
+     * @return The count of bytes, which will be uploaded or {@code -1}, if the length of a stream is unknown.
+     */
+    public long contentLength() throws IOException
+    {
+        return requestBody.contentLength();
+    }
+
+    @NotNull
+    RequestBody toRequestBody()
+    {
+        return requestBody;
+    }
+
+    /**
+     * Computes the content hash of this source without consuming it.
+     *
+     * @throws IOException If the content could not be read.
+     *
+     * @return The content hash as hex string or null, if the source is a stream, which can only be read once.
+     */
+    @Nullable
+    String contentHash() throws IOException
+    {
+        if (requestBody instanceof PathRequestBody body)
+        {
+            try (final FileChannel channel = FileChannel.open(body.path, StandardOpenOption.READ))
+            {
+                return ContentHash.of(channel, 0, channel.size());
+            }
+        }
+
+        if (requestBody instanceof ChannelRequestBody body)
+        {
+            return ContentHash.of(body.channel, body.position, body.count);
+        }
+
+        if (requestBody instanceof ByteBufferRequestBody body)
+        {
+            return ContentHash.of(body.buffer);
+        }
+        return null;
+    }
+
+    /**
+     * Creates a <b>new</b> {@link UploadSource} from a {@link File}, which must exist.
+     *
+     * @param file The file to be uploaded.
+     *
+     * @throws FileNotFoundException If the file doesn't exist.
+     *
+     * @return The <b>new</b> {@link UploadSource}.
+     */
+    @NotNull
+    static UploadSource ofExisting(@NotNull File file) throws FileNotFoundException
+    {
+        Checks.notNull(file, "file");
+
+        if (!file.exists())
+        {
+            throw new FileNotFoundException("File " + file.getName() + " was not found.");
+        }
+        return of(file);
+    }
+
+    private static void transfer(@NotNull FileChannel channel, long position, long count, @NotNull BufferedSink sink) throws IOException
+    {
+        long transferred = 0;
+
+        while (transferred < count)
+        {
+            final long written = channel.transferTo(position + transferred, count - transferred, sink);
+
+            if (written <= 0)
+            {
+                throw new EOFException("The file ended after " + transferred + " of " + count + " bytes.");
+            }
+            transferred += written;
+        }
+    }
+
+    private static final class PathRequestBody extends RequestBody
+    {
+        private final Path path;
+
+        private PathRequestBody(@NotNull Path path)
+        {
+            this.path = path;
+        }
+
+        @NotNull
+        @Override
+        public MediaType contentType()
+        {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength() throws IOException
+        {
+            return Files.size(path);
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException
+        {
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+            {
+                transfer(channel, 0, channel.size(), sink);
+            }
+        }
+    }
+
+    private static final class ChannelRequestBody extends RequestBody
+    {
+        private final FileChannel channel;
+        private final long position, count;
+
+        private ChannelRequestBody(@NotNull FileChannel channel, long position, long count)
+        {
+            this.channel = channel;
+            this.position = position;
+            this.count = count;
+        }
+
+        @NotNull
+        @Override
+        public MediaType contentType()
+        {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength()
+        {
+            return count;
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException
+        {
+            transfer(channel, position, count, sink);
+        }
+    }
+
+    private static final class ByteBufferRequestBody extends RequestBody
+    {
+        private final ByteBuffer buffer;
+
+        private ByteBufferRequestBody(@NotNull ByteBuffer buffer)
+        {
+            this.buffer = buffer;
+        }
+
+        @NotNull
+        @Override
+        public MediaType contentType()
+        {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength()
+        {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException
+        {
+            // Every write gets its own view, so the body can be written again if the request gets retried.
+            final ByteBuffer view = buffer.duplicate();
+
+            while (view.hasRemaining())
+            {
+                sink.write(view);
+            }
+        }
+    }
+
+    private static final class StreamRequestBody extends RequestBody
+    {
+        private final AtomicBoolean consumed = new AtomicBoolean();
+        private final InputStream stream;
+        private final long length;
+
+        private StreamRequestBody(@NotNull InputStream stream, long length)
+        {
+            this.stream = stream;
+            this.length = length;
+        }
+
+        @NotNull
+        @Override
+        public MediaType contentType()
+        {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength()
+        {
+            return length;
+        }
+
+        @Override
+        public boolean isOneShot()
+        {
+            return true;
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException
+        {
+            if (!consumed.compareAndSet(false, true))
+            {
+                throw new IOException("The stream of this upload source was already written.");
+            }
+
+            try (final Source source = Okio.source(stream))
+            {
+                if (length == -1)
+                {
+                    sink.writeAll(source);
+                    return;
+                }
+                sink.write(source, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.blocky.library.tixte.api.exceptions.ParsingException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming decoder for the response of {@link RawResponseData#getUploadsRaw()}.
+ * <br>Unlike {@link UploadsSnapshot}, this doesn't build a tree of the whole response, but reads the
+ * {@code data.uploads} array token by token and decodes one {@link Upload} at a time, so the memory usage stays
+ * constant no matter how many uploads an account has.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+final class UploadsDecoder implements Iterator<Upload>, Closeable
+{
+    private static final JsonFactory factory = new JsonFactory();
+
+    private final JsonParser parser;
+    private Upload next;
+    private boolean done;
+
+    /**
+     * Creates a <b>new</b> {@link UploadsDecoder} and positions it at the start of the {@code data.uploads} array.
+     *
+     * @param stream The stream of the response body. It gets closed, when this decoder gets closed.
+     *
+     * @throws ParsingException If the provided json is incorrectly formatted or an I/O error occurred.
+     */
+    UploadsDecoder(@NotNull InputStream stream)
+    {
+        try
+        {
+            this.parser = factory.createParser(stream);
+        }
+        catch (IOException e)
+        {
+            throw new ParsingException(e);
+        }
+
+        try
+        {
+            done = !seekUploads();
+        }
+        catch (IOException e)
+        {
+            close();
+            throw new ParsingException(e);
+        }
+        catch (RuntimeException e)
+        {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (next != null)
+        {
+            return true;
+        }
+
+        if (done)
+        {
+            return false;
+        }
+
+        try
+        {
+            next = readUpload();
+        }
+        catch (IOException e)
+        {
+            throw new ParsingException(e);
+        }
+
+        if (next == null)
+        {
+            done = true;
+            close();
+        }
+        return next != null;
+    }
+
+    @NotNull
+    @Override
+    public Upload next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        final Upload upload = next;
+        next = null;
+        return upload;
+    }
+
+    /**
+     * Creates a lazy, sequential {@link Stream} of every {@link Upload}.
+     * <br>Closing the stream closes this decoder and the underlying response body.
+     *
+     * @return A lazy {@link Stream} of every {@link Upload}.
+     */
+    @NotNull
+    Stream<Upload> stream()
+    {
+        final Spliterator<Upload> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close()
+    {
+        done = true;
+
+        try
+        {
+            parser.close();
+        }
+        catch (IOException ignored)
+        {
+            // Nothing we can do here.
+        }
+    }
+
+    private boolean seekUploads() throws IOException
+    {
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+        {
+            throw new ParsingException("Expected the response to be a json object.");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            final String field = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+
+            if (field.equals("data") && token == JsonToken.START_OBJECT)
+            {
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    final String dataField = parser.getCurrentName();
+                    final JsonToken dataToken = parser.nextToken();
+
+                    if (dataField.equals("uploads") && dataToken == JsonToken.START_ARRAY)
+                    {
+                        return true;
+                    }
+                    parser.skipChildren();
+                }
+                return false;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    @Nullable
+    private Upload readUpload() throws IOException
+    {
+        final JsonToken start = parser.nextToken();
+
+        if (start != JsonToken.START_OBJECT)
+        {
+            return null;
+        }
+
+        String assetId = null, name = null, extension = null, domain = null, mimeType = null;
+        OffsetDateTime uploadDate = null;
+        Object expiration = null;
+        long size = 0;
+        int type = 0, permissionLevel = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            final String field = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+
+            switch (field)
+            {
+            case "asset_id" -> assetId = parser.getValueAsString();
+            case "name" -> name = parser.getValueAsString();
+            case "extension" -> extension = parser.getValueAsString();
+            case "domain" -> domain = parser.getValueAsString();
+            case "mimetype" -> mimeType = parser.getValueAsString();
+            case "size" -> size = parser.getValueAsLong();
+            case "type" -> type = parser.getValueAsInt();
+            case "permission_level" -> permissionLevel = parser.getValueAsInt();
+            case "uploaded_at" -> uploadDate = parseDate(field, parser.getValueAsString());
+            case "expiration" ->
+            {
+                if (token == JsonToken.VALUE_STRING)
+                {
+                    expiration = parseDate(field, parser.getText());
+                }
+                else if (token == JsonToken.VALUE_NUMBER_INT)
+                {
+                    expiration = parser.getIntValue();
+                }
+            }
+            default -> parser.skipChildren();
+            }
+        }
+
+        if (assetId == null || name == null || extension == null || domain == null || mimeType == null || uploadDate == null)
+        {
+            throw new ParsingException("Upload is missing a required value. (asset_id, name, extension, domain, mimetype or uploaded_at)");
+        }
+        return new Upload(assetId, name, extension, domain, mimeType, size, type, permissionLevel, uploadDate, expiration);
+    }
+
+    @Nullable
+    private static OffsetDateTime parseDate(@NotNull String field, @Nullable String value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return OffsetDateTime.parse(value);
+        }
+        catch (DateTimeParseException e)
+        {
+            final String reason = "Cannot parse value for %s into an OffsetDateTime object. Try double checking that %s is a valid ISO8601 timestamp.";
+            throw new ParsingException(String.format(reason, field, e.getParsedString()));
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.json.DataArray;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.requests.json.DataPath;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Represents an immutable snapshot of every file, which got uploaded to Tixte.
+ * <br>The uploads get fetched and decoded <b>once</b>, so every column can be derived from this snapshot without
+ * sending a new request.
+ * <br>If you need up-to-date data, you can call {@link #refresh()} to get a <b>new</b> snapshot.
+ *
+ * @param uploads Every decoded {@link Upload}.
+ * @param totalUploadCount The total count of uploads.
+ * @param results The count of results, which were returned by the request.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public record UploadsSnapshot(@NotNull List<Upload> uploads, int totalUploadCount, int results)
+{
+    /**
+     * Creates a <b>new</b> {@link UploadsSnapshot} and copies the given uploads into an unmodifiable {@link List}.
+     *
+     * @param uploads Every decoded {@link Upload}.
+     * @param totalUploadCount The total count of uploads.
+     * @param results The count of results, which were returned by the request.
+     */
+    public UploadsSnapshot
+    {
+        uploads = List.copyOf(uploads);
+    }
+
+    /**
+     * Fetches the uploads again and creates a <b>new</b> {@link UploadsSnapshot}.
+     * <br>This snapshot itself stays unchanged.
+     *
+     * @throws IOException If the request could not be executed due to cancellation, a connectivity problem or timeout.
+     *                     Because networks can fail during an exchange, it is possible that the remote server accepted
+     *                     the request before the failure.
+     * @throws InterruptedException If the current thread was interrupted.
+     *
+     * @return A <b>new</b> {@link UploadsSnapshot} with the current uploads.
+     */
+    @NotNull
+    public UploadsSnapshot refresh() throws InterruptedException, IOException
+    {
+        final DataObject json = RawResponseData.getUploadsJson().resultNow();
+        return fromData(json);
+    }
+
+    /**
+     * Asynchronous variant of {@link #refresh()}.
+     *
+     * @return A {@link CompletableFuture}, which completes with a <b>new</b> {@link UploadsSnapshot} with the current uploads.
+     */
+    @NotNull
+    public CompletableFuture<UploadsSnapshot> refreshAsync()
+    {
+        return RawResponseData.getUploadsJsonAsync()
+                .thenApply(UploadsSnapshot::fromData);
+    }
+
+    /**
+     * Gets the {@link Upload} with the specified asset id.
+     *
+     * @param assetId The id of the file.
+     *
+     * @return The {@link Upload} with the specified asset id or an empty {@link Optional}, if there is no such upload.
+     */
+    @NotNull
+    public Optional<Upload> getUpload(@NotNull String assetId)
+    {
+        return uploads.stream()
+                .filter(upload -> upload.assetId().equals(assetId))
+                .findFirst();
+    }
+
+    /**
+     * Computes a columnar, primitive-backed {@link UploadColumns} view of this snapshot.
+     *
+     * @return A columnar {@link UploadColumns} view of this snapshot.
+     */
+    @NotNull
+    public UploadColumns toColumns()
+    {
+        return UploadColumns.fromUploads(uploads);
+    }
+
+    /**
+     * Gets a {@link List} of permission level, which the files contain.
+     *
+     * @return A {@link List} of permission level, which the files contain.
+     */
+    @NotNull
+    public List<Integer> getPermissionLevels()
+    {
+        return column(Upload::permissionLevel);
+    }
+
+    /**
+     * Gets a {@link List} of extensions from the files.
+     *
+     * @return A {@link List} of extensions from the files.
+     */
+    @NotNull
+    public List<String> getExtensions()
+    {
+        return column(Upload::extension);
+    }
+
+    /**
+     * Gets a {@link List} of sizes from the files in bytes.
+     *
+     * @return A {@link List} of sizes from the files in bytes.
+     */
+    @NotNull
+    public List<Long> getSizes()
+    {
+        return column(Upload::size);
+    }
+
+    /**
+     * Gets a {@link List} of upload dates from the files as a {@link OffsetDateTime} in ISO8601 format.
+     *
+     * @return A {@link List} of upload dates from the files as a {@link OffsetDateTime} in ISO8601 format.
+     */
+    @NotNull
+    public List<OffsetDateTime> getUploadDates()
+    {
+        return column(Upload::uploadDate);
+    }
+
+    /**
+     * Gets a {@link List} of domains, on which the files got uploaded.
+     *
+     * @return A {@link List} of domains, on which the files got uploaded.
+     */
+    @NotNull
+    public List<String> getDomains()
+    {
+        return column(Upload::domain);
+    }
+
+    /**
+     * Gets a {@link List} of names from the files.
+     *
+     * @return A {@link List} of names from the files.
+     */
+    @NotNull
+    public List<String> getNames()
+    {
+        return column(Upload::name);
+    }
+
+    /**
+     * Gets a {@link List} of mime-types from the files.
+     *
+     * @return A {@link List} of mime-types from the files.
+     */
+    @NotNull
+    public List<String> getMimeTypes()
+    {
+        return column(Upload::mimeType);
+    }
+
+    /**
+     * Gets a {@link List} of expiration times from the files as a {@link OffsetDateTime} in ISO8601 format or an int,
+     * if the remaining time is lower than or equal to 60 minutes.
+     * <br>Files, which don't expire, are represented as null.
+     *
+     * @return A {@link List} of expiration times from the files.
+     */
+    @NotNull
+    public List<Object> getExpirationTimes()
+    {
+        final List<Object> list = new ArrayList<>(uploads.size());
+
+        for (final Upload upload : uploads)
+        {
+            list.add(upload.expiration());
+        }
+        return list;
+    }
+
+    /**
+     * Gets a {@link List} of IDs from the files.
+     *
+     * @return A {@link List} of IDs from the files.
+     */
+    @NotNull
+    public List<String> getAssetIds()
+    {
+        return column(Upload::assetId);
+    }
+
+    /**
+     * Gets a {@link List} of types from the files. (public/private)
+     *
+     * <p>1 = public file
+     * <br>2 = private file
+     *
+     * @return A {@link List} of types from the files. (public/private)
+     */
+    @NotNull
+    public List<Integer> getTypes()
+    {
+        return column(Upload::type);
+    }
+
+    /**
+     * Gets a {@link List} of {@code booleans}, which represents if the files are public.
+     *
+     * @return A {@link List} of {@code booleans}, which represents if the files are public.
+     */
+    @NotNull
+    public List<Boolean> arePublic()
+    {
+        return column(Upload::isPublic);
+    }
+
+    /**
+     * Gets a {@link List} of {@code booleans}, which represents if the files are private.
+     *
+     * @return A {@link List} of {@code booleans}, which represents if the files are private.
+     */
+    @NotNull
+    public List<Boolean> arePrivate()
+    {
+        return column(Upload::isPrivate);
+    }
+
+    /**
+     * Gets a {@link List} of the complete names from the files.
+     *
+     * <p>This is composed of the name of the file and the extension.
+     *
+     * @return A {@link List} of the complete names from the files.
+     */
+    @NotNull
+    public List<String> getFileNames()
+    {
+        return column(Upload::getFileName);
+    }
+
+    /**
+     * Decodes the response of {@link RawResponseData#getUploadsRaw()} into a <b>new</b> {@link UploadsSnapshot}.
+     *
+     * @param json The {@link DataObject} of the response.
+     *
+     * @return The decoded {@link UploadsSnapshot}.
+     */
+    @NotNull
+    static UploadsSnapshot fromData(@NotNull DataObject json)
+    {
+        final DataArray array = DataPath.getDataArray(json, "data.uploads");
+
+        final List<Upload> uploads = new ArrayList<>(array.length());
+
+        for (int i = 0; i < array.length(); i++)
+        {
+            uploads.add(Upload.fromData(array.getDataObject(i)));
+        }
+
+        final int totalUploadCount = DataPath.getInt(json, "data.total");
+        final int results = DataPath.getInt(json, "data.results");
+
+        return new UploadsSnapshot(uploads, totalUploadCount, results);
+    }
+
+    @NotNull
+    private <T> List<T> column(@NotNull Function<Upload, T> extractor)
+    {
+        final List<T> list = new ArrayList<>(uploads.size());
+
+        for (final Upload upload : uploads)
+        {
+            list.add(extractor.apply(upload));
+        }
+        return list;
+    }
+}
@@ -45,7 +45,7 @@ public record User(@NotNull String userData) implements RawResponseData
      */
     public int getFlagCount() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw(userData).resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson(userData).resultNow();
         return DataPath.getInt(json, "data.flags");
     }
 
@@ -62,7 +62,7 @@ public record User(@NotNull String userData) implements RawResponseData
     @NotNull
     public String getId() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw(userData).resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson(userData).resultNow();
         return DataPath.getString(json, "data.id");
     }
 
@@ -80,7 +80,7 @@ public record User(@NotNull String userData) implements RawResponseData
     @NotNull
     public String getAvatarId() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw(userData).resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson(userData).resultNow();
         return DataPath.getString(json, "data.avatar?");
     }
 
@@ -97,7 +97,7 @@ public record User(@NotNull String userData) implements RawResponseData
     @NotNull
     public String getUsername() throws InterruptedException, IOException
     {
-        final DataObject json = DataObject.fromJson(RawResponseData.getUserInfoRaw(userData).resultNow());
+        final DataObject json = RawResponseData.getUserInfoJson(userData).resultNow();
         return DataPath.getString(json, "data.username");
     }
 }
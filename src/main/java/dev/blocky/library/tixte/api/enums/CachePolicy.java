@@ -28,9 +28,10 @@ package dev.blocky.library.tixte.api.enums;
  * @see #ALL
  * @see #ONLY_FORCE_CACHE
  * @see #ONLY_NETWORK_CACHE
+ * @see #STALE_WHILE_REVALIDATE
  *
  * @author BlockyDotJar
- * @version v1.0.2
+ * @version v1.1.0
  * @since v1.0.0-beta.2
  */
 public enum CachePolicy
@@ -57,5 +58,14 @@ public enum CachePolicy
      * Every cache-policy.
      * <br>All caches will be used.
      */
-    ALL
+    ALL,
+
+    /**
+     * Stale-while-revalidate cache-policy.
+     * <br>All caches will be used and a cached response, which is stale for less than the
+     * {@link dev.blocky.library.tixte.api.TixteClientBuilder#setStaleWindow(java.time.Duration) stale window}, will be
+     * returned immediately, while a single background request refreshes it.
+     * <br>So after the first load, reads never wait for the network, but may return data, which is slightly outdated.
+     */
+    STALE_WHILE_REVALIDATE
 }
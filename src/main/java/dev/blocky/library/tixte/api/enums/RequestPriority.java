@@ -0,0 +1,46 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api.enums;
+
+/**
+ * Priority of a request, which decides in which order queued requests get sent.
+ * <br>Interactive requests always get sent before background requests and a small share of the capacity is reserved
+ * for them, so they don't queue behind bulk jobs.
+ * <br>This can be set for every request, which gets sent by the current thread, with
+ * {@link dev.blocky.library.tixte.api.PriorityScope#open(RequestPriority) PriorityScope#open(RequestPriority)}.
+ *
+ * @see #INTERACTIVE
+ * @see #BACKGROUND
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public enum RequestPriority
+{
+    /**
+     * Default request-priority.
+     * <br>Used for requests, on which a user waits.
+     */
+    INTERACTIVE,
+
+    /**
+     * Background request-priority.
+     * <br>Used for bulk jobs like {@link dev.blocky.library.tixte.api.BulkUpload bulk uploads}, which only get the
+     * capacity, which is not used by interactive requests.
+     */
+    BACKGROUND
+}
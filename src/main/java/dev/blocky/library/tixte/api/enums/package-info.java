@@ -11,6 +11,9 @@
  * configured policy will be used to unload any data that the policy has decided not to cache.
  * <br>This can be configured with {@link dev.blocky.library.tixte.api.TixteClientBuilder#setCachePolicy(CachePolicy)
  * TixteClientBuilder#setCachePolicy(CachePolicy)}.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.enums.RequestPriority}
+ * <br>Priority of a request, which decides in which order queued requests get sent.</li>
  * </ul>
  */
 package dev.blocky.library.tixte.api.enums;
@@ -3,6 +3,18 @@
  * <br>From here you can navigate to every important class/package.
  *
  * <ul>
+ * <li>{@link dev.blocky.library.tixte.api.BulkUpload}
+ * <br>Uploads many files in parallel with a bounded count of concurrent uploads.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.BulkUploadResult}
+ * <br>Represents the outcome of a single file of a {@link dev.blocky.library.tixte.api.BulkUpload BulkUpload}.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.CacheStats}
+ * <br>Represents an immutable snapshot of the statistics of the HTTP disk cache.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.DeleteResult}
+ * <br>Represents the immutable result of a single, successful delete request.</li>
+ *
  * <li>{@link dev.blocky.library.tixte.api.Domains}
  * <br>Represents the 'Domains' tab of the Tixte dashboard and everything else what Tixte offers you with domains.</li>
  *
@@ -19,9 +31,15 @@
  * <li>{@link dev.blocky.library.tixte.api.PageDesign}
  * <br>Represents the 'Page Design' tab of the Tixte dashboard.</li>
  *
+ * <li>{@link dev.blocky.library.tixte.api.PriorityScope}
+ * <br>Sets the {@link dev.blocky.library.tixte.api.enums.RequestPriority RequestPriority} of every request, which gets sent by the current thread.</li>
+ *
  * <li>{@link dev.blocky.library.tixte.api.RawResponseData}
  * <br>Represents the raw response data from Tixte API-requests.</li>
  *
+ * <li>{@link dev.blocky.library.tixte.api.ResponseCacheStats}
+ * <br>Represents an immutable snapshot of the statistics of the in-memory cache of decoded responses.</li>
+ *
  * <li>{@link dev.blocky.library.tixte.api.SelfUser}
  * <br>Represents your Tixte user-account.</li>
  *
@@ -40,6 +58,33 @@
  * <li>{@link dev.blocky.library.tixte.api.TixteInfo}
  * <br>Contains information to this specific build of Tixte4J.</li>
  *
+ * <li>{@link dev.blocky.library.tixte.api.Upload}
+ * <br>Represents a single file, which got uploaded to Tixte.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadColumns}
+ * <br>Represents a columnar, primitive-backed view of every file, which got uploaded to Tixte.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadIndex}
+ * <br>Persistent, local index of every file, which got uploaded through {@link dev.blocky.library.tixte.api.MyFiles MyFiles}, keyed by the hash of its content.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadListener}
+ * <br>Listener for the progress of every upload.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadPages}
+ * <br>Page-aware iterator over every file, which got uploaded to Tixte.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadProgress}
+ * <br>Represents an immutable sample of the progress of a single upload.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadResult}
+ * <br>Represents the URLs of a single file, which got uploaded to Tixte.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadSource}
+ * <br>Represents the content of a file, which should be uploaded to Tixte.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.api.UploadsSnapshot}
+ * <br>Represents an immutable snapshot of every file, which got uploaded to Tixte.</li>
+ *
  * <li>{@link dev.blocky.library.tixte.api.User}
  * <br>Represents a Tixte user-account.</li>
  * </ul>
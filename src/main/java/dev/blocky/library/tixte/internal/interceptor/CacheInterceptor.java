@@ -15,39 +15,108 @@
  */
 package dev.blocky.library.tixte.internal.interceptor;
 
-import okhttp3.CacheControl;
+import dev.blocky.library.tixte.internal.requests.CacheRules;
+import dev.blocky.library.tixte.internal.requests.Route;
+import okhttp3.Cache;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
+import java.util.Iterator;
+import java.util.List;
+
+import static dev.blocky.library.tixte.internal.requests.Route.TIXTE_API_PREFIX;
 
 /**
  * Handles Tixtes cache using an {@link Interceptor}. (only if an internet connection is available)
  *
+ * <p>Every response gets the {@code Cache-Control} header of its {@link Route}, which gets decided by the
+ * {@link CacheRules}.
+ * <br>Responses, which were marked as {@code no-store} by Tixte, never get stored.
+ * <br>Every successful mutation invalidates the cached responses of the routes, which it changes.
+ *
  * @author BlockyDotJar
- * @version v1.1.0
+ * @version v1.2.0
  * @since v1.0.0-alpha.3
  */
 public class CacheInterceptor implements Interceptor
 {
+    private final CacheRules rules;
+    private final Cache cache;
+
+    /**
+     * Creates a <b>new</b> {@link CacheInterceptor}.
+     *
+     * @param rules The {@link CacheRules}, which decide how long a response may be served from the cache.
+     * @param cache The {@link Cache}, in which the responses get stored.
+     */
+    public CacheInterceptor(@NotNull CacheRules rules, @NotNull Cache cache)
+    {
+        this.rules = rules;
+        this.cache = cache;
+    }
 
     @NotNull
     @Override
     public Response intercept(@NotNull Chain chain) throws IOException
     {
         final Request request = chain.request();
-        try (final Response response = chain.proceed(request))
+        final Route.CompiledRoute route = request.tag(Route.CompiledRoute.class);
+
+        // The response must not be closed here, because the rewritten response shares its body.
+        final Response response = chain.proceed(request);
+
+        if (route == null)
+        {
+            return response;
+        }
+
+        if (!request.method().equals("GET"))
+        {
+            if (response.isSuccessful())
+            {
+                invalidate(rules.getInvalidatedRoutes(route.getBaseRoute()));
+            }
+            return response;
+        }
+
+        if (response.cacheControl().noStore())
+        {
+            return response;
+        }
+
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .header("Cache-Control", rules.getCacheControl(route.getBaseRoute()).toString())
+                .build();
+    }
+
+    private void invalidate(@NotNull List<Route> routes) throws IOException
+    {
+        if (routes.isEmpty())
+        {
+            return;
+        }
+
+        final Iterator<String> urls = cache.urls();
+
+        while (urls.hasNext())
         {
-            final CacheControl cacheControl = new CacheControl.Builder()
-                    .maxAge(604800, TimeUnit.MILLISECONDS)
-                    .build();
+            final String url = urls.next();
+
+            for (final Route route : routes)
+            {
+                final String routeUrl = TIXTE_API_PREFIX + route.getRoute();
 
-            return response.newBuilder()
-                    .header("Cache-Control", cacheControl.toString())
-                    .build();
+                // Also the pages of the route, which only differ by their query parameters, have to be invalidated.
+                if (url.equals(routeUrl) || url.startsWith(routeUrl + "?"))
+                {
+                    urls.remove();
+                    break;
+                }
+            }
         }
     }
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.interceptor;
+
+import dev.blocky.library.tixte.internal.requests.Route;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Computes an adaptive limit of in-flight requests using an {@link Interceptor}.
+ *
+ * <p>The limit follows the AIMD (additive increase, multiplicative decrease) algorithm:
+ * <ul>
+ *     <li>Every successful response, which was received while the limit was used at least by half, increases the limit
+ *     by {@code 1 / limit}, so the limit grows by about one per round trip.</li>
+ *     <li>Every failed request, every {@code 429} or {@code 5xx} response and every response, which took more than
+ *     twice as long as the long-term average latency, decreases the limit by {@link #BACKOFF_RATIO}.
+ *     <br>Requests, which were sent before the last decrease, don't decrease the limit again, so a burst of failures
+ *     of requests, which were in flight at the same time, only counts once.</li>
+ * </ul>
+ *
+ * <p>Uploads take as long as their content needs to be written, so their latency is not used as signal, only their errors.
+ *
+ * <p>This interceptor only measures the requests and never blocks them. The limit gets enforced by the priority queue
+ * of the client, which only hands as many calls to the dispatcher as the limit allows. So requests, which exceed the
+ * limit, neither hold a thread of the dispatcher nor a connection while they wait.
+ *
+ * <p>This interceptor must be added as network interceptor, so responses from the cache don't count as in-flight
+ * requests. Otherwise their latency of less than a millisecond would make every real request look slow.
+ *
+ * @author BlockyDotJar
+ * @version v1.1.0
+ * @since v1.2.0
+ */
+public class ConcurrencyLimitInterceptor implements Interceptor
+{
+    /**
+     * The factor, by which the limit gets multiplied, if a request failed or took too long.
+     */
+    public static final double BACKOFF_RATIO = 0.9;
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double LATENCY_SMOOTHING = 0.05;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit, maxLimit;
+
+    private double limit;
+    private int inFlight;
+    private long samples, lastDecreaseNanos;
+    private double averageLatencyNanos;
+
+    /**
+     * Creates a <b>new</b> {@link ConcurrencyLimitInterceptor}.
+     *
+     * @param initialLimit The limit, with which the interceptor starts.
+     * @param maxLimit The maximal limit.
+     */
+    public ConcurrencyLimitInterceptor(int initialLimit, int maxLimit)
+    {
+        this.minLimit = 1;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.limit = Math.max(minLimit, Math.min(initialLimit, this.maxLimit));
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException
+    {
+        final Request request = chain.request();
+        final long startNanos = start();
+
+        final Response response;
+
+        try
+        {
+            response = chain.proceed(request);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            release(startNanos, true, false);
+            throw e;
+        }
+
+        final boolean dropped = response.code() == 429 || response.code() >= 500;
+        release(startNanos, dropped, !isUpload(request));
+        return response;
+    }
+
+    /**
+     * Gets the current limit of in-flight requests.
+     *
+     * @return The current limit.
+     */
+    public synchronized int getLimit()
+    {
+        return (int) limit;
+    }
+
+    /**
+     * Gets the count of requests, which are currently in flight.
+     *
+     * @return The count of in-flight requests.
+     */
+    public synchronized int getInFlight()
+    {
+        return inFlight;
+    }
+
+    /**
+     * Gets the long-term average latency of the requests, which are not uploads.
+     *
+     * @return The average latency in milliseconds or {@code 0}, if no request completed yet.
+     */
+    public synchronized double getAverageLatencyMillis()
+    {
+        return averageLatencyNanos / 1e6;
+    }
+
+    private static boolean isUpload(@NotNull Request request)
+    {
+        final Route.CompiledRoute route = request.tag(Route.CompiledRoute.class);
+        return route != null && Route.File.UPLOAD_FILE.equals(route.getBaseRoute());
+    }
+
+    private synchronized long start()
+    {
+        inFlight++;
+        return System.nanoTime();
+    }
+
+    private synchronized void release(long startNanos, boolean dropped, boolean latencySample)
+    {
+        final long nowNanos = System.nanoTime();
+        final long latencyNanos = nowNanos - startNanos;
+
+        final boolean slow = latencySample && samples >= WARMUP_SAMPLES && latencyNanos > LATENCY_TOLERANCE * averageLatencyNanos;
+
+        if (latencySample && !dropped)
+        {
+            averageLatencyNanos = samples == 0 ? latencyNanos : averageLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - averageLatencyNanos);
+            samples++;
+        }
+
+        if (dropped || slow)
+        {
+            // Requests, which were sent before the last decrease, shouldn't decrease the limit again.
+            if (startNanos - lastDecreaseNanos >= 0 || lastDecreaseNanos == 0)
+            {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                lastDecreaseNanos = nowNanos;
+            }
+        }
+        else if (inFlight >= limit / 2)
+        {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+
+        inFlight--;
+    }
+}
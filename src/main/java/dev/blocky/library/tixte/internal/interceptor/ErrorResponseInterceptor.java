@@ -27,8 +27,14 @@ import java.io.IOException;
 /**
  * Handles http error-responses using an {@link Interceptor}.
  *
+ * <p>Only error-responses get read by this interceptor, successful responses get passed through without buffering.
+ * <br>Every error-response gets mapped to a {@link HTTPException}, which gets thrown wrapped into an
+ * {@link ErrorResponseException}.
+ * <br>OkHttp only passes {@link IOException IOExceptions} of interceptors to the callback of an asynchronous call,
+ * every other exception would be rethrown on the thread of the {@link okhttp3.Dispatcher Dispatcher} as well.
+ *
  * @author BlockyDotJar
- * @version v2.0.3
+ * @version v2.1.0
  * @since v1.0.0-alpha.3
  */
 public class ErrorResponseInterceptor implements Interceptor
@@ -41,26 +47,77 @@ public class ErrorResponseInterceptor implements Interceptor
         final Request request = chain.request();
         final Response response = chain.proceed(request);
 
-        final DataObject json = DataObject.fromJson(response.peekBody(1000000).string());
+        // Successful responses get passed through untouched, so they can be streamed, no matter how big they are.
+        if (response.isSuccessful())
+        {
+            return response;
+        }
+
+        final String body;
+
+        try (response)
+        {
+            body = response.body().string();
+        }
+        throw new ErrorResponseException(toException(response.code(), body));
+    }
+
+    @NotNull
+    private static HTTPException toException(int code, @NotNull String body)
+    {
+        try
+        {
+            final DataObject error = DataObject.fromJson(body).getDataObject("error");
 
-        if (!response.isSuccessful())
+            return switch (code)
+                    {
+                        case 401 -> new Unauthorized(error.getString("message"));
+                        case 402 -> new TixteWantsYourMoneyException("Payment required: " + error.getString("message"));
+                        case 403 -> new Forbidden(error.getString("message"));
+                        case 404 -> new NotFound(error.getString("message"));
+                        case 429 -> new TixteServerException("We got rate-limited: " + error.getString("message"));
+                        case 500 -> new TixteServerException("Internal Server Error: " + error.getString("message"));
+                        default -> new HTTPException(error.getString("code") + ", " + error.getString("message"));
+                    };
+        }
+        catch (ParsingException e)
         {
-            final DataObject error = json.getDataObject("error");
-            final String prettyString = json.toPrettyString();
+            // Proxies in front of Tixte may answer with something else than the json of an error.
+            return new HTTPException(code + ", " + body);
+        }
+    }
 
-            System.err.println(prettyString);
+    /**
+     * The {@link IOException}, which carries the {@link HTTPException} of an error-response through OkHttp.
+     * <br>The requests of Tixte4J unwrap it, so the caller only ever gets the {@link HTTPException}.
+     *
+     * @author BlockyDotJar
+     * @version v1.0.0
+     * @since v1.2.0
+     */
+    public static class ErrorResponseException extends IOException
+    {
 
-            switch (response.code())
-            {
-            case 401 -> throw new Unauthorized(error.getString("message"));
-            case 402 -> throw new TixteWantsYourMoneyException("Payment required: " + error.getString("message"));
-            case 403 -> throw new Forbidden(error.getString("message"));
-            case 404 -> throw new NotFound(error.getString("message"));
-            case 429 -> throw new TixteServerException("We got rate-limited: " + error.getString("message"));
-            case 500 -> throw new TixteServerException("Internal Server Error: " + error.getString("message"));
-            default -> throw new HTTPException(error.getString("code") + ", " + error.getString("message"));
-            }
+        /**
+         * Constructs an {@link ErrorResponseException} with the specified {@link HTTPException}.
+         *
+         * @param cause The {@link HTTPException} of the error-response.
+         */
+        public ErrorResponseException(@NotNull HTTPException cause)
+        {
+            super(cause.getMessage(), cause);
+        }
+
+        /**
+         * Gets the {@link HTTPException} of the error-response.
+         *
+         * @return The {@link HTTPException}.
+         */
+        @NotNull
+        @Override
+        public HTTPException getCause()
+        {
+            return (HTTPException) super.getCause();
         }
-        return response;
     }
 }
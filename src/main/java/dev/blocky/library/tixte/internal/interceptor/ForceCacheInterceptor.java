@@ -15,7 +15,7 @@
  */
 package dev.blocky.library.tixte.internal.interceptor;
 
-import dev.blocky.library.tixte.internal.requests.Network;
+import dev.blocky.library.tixte.internal.requests.ConnectivityMonitor;
 import okhttp3.CacheControl;
 import okhttp3.Interceptor;
 import okhttp3.Request;
@@ -26,26 +26,57 @@ import java.io.IOException;
 
 /**
  * Handles Tixtes cache using an {@link Interceptor}.
+ * <br>If no internet connection is available, the request gets answered by the cache only.
+ *
+ * <p>Whether an internet connection is available or not gets read from the {@link ConnectivityMonitor}, so this
+ * doesn't add any network traffic or latency to the request.
+ * <br>The result of every request gets reported back to the {@link ConnectivityMonitor}.
  *
  * @author BlockyDotJar
- * @version v1.0.3
+ * @version v1.1.0
  * @since v1.0.0-alpha.3
  */
 public class ForceCacheInterceptor implements Interceptor
 {
+    private final ConnectivityMonitor monitor;
+
+    /**
+     * Creates a <b>new</b> {@link ForceCacheInterceptor}.
+     *
+     * @param monitor The {@link ConnectivityMonitor}, which tracks whether an internet connection is available or not.
+     */
+    public ForceCacheInterceptor(@NotNull ConnectivityMonitor monitor)
+    {
+        this.monitor = monitor;
+    }
 
     @NotNull
     @Override
     public Response intercept(@NotNull Interceptor.Chain chain) throws IOException
     {
         final Request.Builder builder = chain.request().newBuilder();
-        final Network network = new Network("8.8.8.8", 53);
 
-        if (!network.isInternetAvailable())
+        if (!monitor.isOnline())
         {
             builder.cacheControl(CacheControl.FORCE_CACHE);
         }
 
-        return chain.proceed(builder.build());
+        final Response response;
+
+        try
+        {
+            response = chain.proceed(builder.build());
+        }
+        catch (IOException e)
+        {
+            monitor.reportFailure(e);
+            throw e;
+        }
+
+        if (response.networkResponse() != null)
+        {
+            monitor.reportSuccess();
+        }
+        return response;
     }
 }
@@ -15,40 +15,373 @@
  */
 package dev.blocky.library.tixte.internal.interceptor;
 
+import dev.blocky.library.tixte.internal.requests.Route;
+import dev.blocky.library.tixte.internal.utils.logging.TixteLogger;
 import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handles rate-limits using an {@link Interceptor}.
  *
+ * <p>Every request belongs to a bucket, which is keyed by the {@link Route} and the
+ * {@link Route.CompiledRoute#getMajorParameters() major parameters} of the request. Every bucket is a token bucket,
+ * which gets filled by the {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining}, {@code X-RateLimit-Reset} and
+ * {@code X-RateLimit-Reset-After} headers of the responses.
+ * <br>If a bucket has no tokens left, the request gets delayed until the bucket resets, <b>before</b> it gets sent.
+ * <br>If a request gets rate-limited anyway, the bucket gets blocked for the time of the {@code Retry-After} header
+ * and the request gets retried up to {@link #MAX_RETRIES} times. If the {@code X-RateLimit-Global} header is set,
+ * every bucket gets blocked.
+ *
+ * <p>Buckets, of which no headers were received yet, don't delay any requests.
+ *
+ * <p>The delay doesn't happen in this interceptor, because a waiting interceptor would hold a thread of the dispatcher
+ * and, as network interceptor, even a connection. Instead, the priority queue of the client asks
+ * {@link #reserve(Request)} for a token before it hands a call to the dispatcher and keeps the call queued until
+ * the bucket resets. Only the retries of rate-limited requests wait in this interceptor.
+ *
+ * <p>The buckets get updated by the {@link #getBucketInterceptor() bucket interceptor}, which must be added as network
+ * interceptor of the same client. So responses from the cache don't update the buckets with their outdated headers
+ * and the token, which was reserved for them, is given back.
+ *
  * @author BlockyDotJar
- * @version v1.0.3
+ * @version v2.1.0
  * @since v1.0.0-alpha.1
  */
 public class RateLimitInterceptor implements Interceptor
 {
+    /**
+     * The maximal count of retries of a single rate-limited request.
+     */
+    public static final int MAX_RETRIES = 3;
+
+    private static final Logger logger = TixteLogger.getLog(RateLimitInterceptor.class);
+    private static final long DEFAULT_RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long CANCEL_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Bucket globalBucket = new Bucket();
+    private final Interceptor bucketInterceptor = this::interceptNetwork;
 
     @NotNull
     @Override
     public Response intercept(@NotNull Chain chain) throws IOException
     {
-        Response response = chain.proceed(chain.request());
+        final Request request = chain.request();
 
-        if (!response.isSuccessful() && response.code() == 429)
+        for (int retries = 0; ; retries++)
         {
+            // The first attempt already got its token from the priority queue of the client.
+            if (retries > 0)
+            {
+                awaitReserve(chain);
+            }
+
+            final Response response = chain.proceed(request);
+
+            if (response.networkResponse() == null)
+            {
+                refund(request);
+            }
+
+            if (response.code() != 429 || retries == MAX_RETRIES || isOneShot(request.body()))
+            {
+                return response;
+            }
+
+            final boolean global = "true".equalsIgnoreCase(response.header("X-RateLimit-Global"));
+
+            logger.warn("Hit a" + (global ? " global" : "") + " rate-limit on " + bucketKey(request) + ", retrying after the bucket reset.");
+            response.close();
+        }
+    }
+
+    /**
+     * Takes a token of the bucket of the request, if the bucket has tokens left.
+     * <br>The request must only be sent, if this returned {@code 0}, otherwise it should be tried again after the
+     * returned delay.
+     *
+     * @param request The request, which should be sent.
+     *
+     * @return {@code 0}, if a token was taken or the bucket is unknown, otherwise the time in nanoseconds until the
+     *         bucket resets.
+     */
+    public long reserve(@NotNull Request request)
+    {
+        final long nowNanos = System.nanoTime();
+        final long globalDelayNanos = globalBucket.delay(nowNanos);
+
+        if (globalDelayNanos > 0)
+        {
+            return globalDelayNanos;
+        }
+        return buckets.computeIfAbsent(bucketKey(request), key -> new Bucket()).reserve(nowNanos);
+    }
+
+    /**
+     * Gives the token back, which was {@link #reserve(Request) reserved} for a request, which didn't reach Tixte,
+     * because it got answered by the cache.
+     *
+     * @param request The request, of which the token should be given back.
+     */
+    public void refund(@NotNull Request request)
+    {
+        final Bucket bucket = buckets.get(bucketKey(request));
+
+        if (bucket != null)
+        {
+            bucket.refund();
+        }
+    }
+
+    /**
+     * Gets the {@link Interceptor}, which updates the buckets with the headers of the responses.
+     * <br>This must be added as network interceptor of the client, to which this interceptor was added.
+     *
+     * @return The network {@link Interceptor} of the buckets.
+     */
+    @NotNull
+    public Interceptor getBucketInterceptor()
+    {
+        return bucketInterceptor;
+    }
+
+    @NotNull
+    private Response interceptNetwork(@NotNull Chain chain) throws IOException
+    {
+        final Request request = chain.request();
+        final Bucket bucket = buckets.computeIfAbsent(bucketKey(request), key -> new Bucket());
+
+        final Response response = chain.proceed(request);
+        final boolean global = "true".equalsIgnoreCase(response.header("X-RateLimit-Global"));
+
+        (global ? globalBucket : bucket).update(response);
+        return response;
+    }
+
+    private void awaitReserve(@NotNull Chain chain) throws IOException
+    {
+        long delayNanos;
+
+        while ((delayNanos = reserve(chain.request())) > 0)
+        {
+            if (chain.call().isCanceled())
+            {
+                throw new IOException("Canceled");
+            }
+
             try
             {
-                Thread.sleep(5000);
+                // Sleeping in steps, so a canceled call doesn't wait for the whole reset.
+                TimeUnit.NANOSECONDS.sleep(Math.min(delayNanos, CANCEL_CHECK_NANOS));
             }
             catch (InterruptedException e)
             {
-                e.printStackTrace();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the rate-limit of " + bucketKey(chain.request()));
             }
-            response = chain.proceed(chain.request());
         }
-        return response;
+    }
+
+    @NotNull
+    private static String bucketKey(@NotNull Request request)
+    {
+        final Route.CompiledRoute route = request.tag(Route.CompiledRoute.class);
+
+        if (route == null)
+        {
+            return request.method() + request.url().encodedPath();
+        }
+        return route.getBaseRoute() + ":" + route.getMajorParameters();
+    }
+
+    private static boolean isOneShot(@Nullable RequestBody body)
+    {
+        return body != null && body.isOneShot();
+    }
+
+    private static final class Bucket
+    {
+        // -1 means, that the bucket is unknown and doesn't limit any requests.
+        private int limit = -1, remaining = -1;
+        private long resetAtNanos;
+        private boolean resetPending;
+
+        synchronized long reserve(long nowNanos)
+        {
+            if (resetPending && nowNanos - resetAtNanos >= 0)
+            {
+                resetPending = false;
+                remaining = limit;
+            }
+
+            if (remaining == 0)
+            {
+                return resetPending ? Math.max(1, resetAtNanos - nowNanos) : DEFAULT_RETRY_AFTER_NANOS;
+            }
+
+            if (remaining > 0)
+            {
+                remaining--;
+            }
+            return 0;
+        }
+
+        synchronized long delay(long nowNanos)
+        {
+            return resetPending && nowNanos - resetAtNanos < 0 ? resetAtNanos - nowNanos : 0;
+        }
+
+        synchronized void refund()
+        {
+            if (remaining >= 0 && remaining < limit)
+            {
+                remaining++;
+            }
+        }
+
+        synchronized void update(@NotNull Response response)
+        {
+            final long nowNanos = System.nanoTime();
+
+            final Integer limit = parseInt(response.header("X-RateLimit-Limit"));
+            final Integer remaining = parseInt(response.header("X-RateLimit-Remaining"));
+            final long resetNanos = parseReset(response);
+
+            if (limit != null)
+            {
+                this.limit = limit;
+            }
+
+            if (remaining != null)
+            {
+                this.remaining = remaining;
+            }
+
+            if (response.code() == 429)
+            {
+                final long retryAfterNanos = Math.max(parseRetryAfter(response.header("Retry-After")), resetNanos);
+
+                this.remaining = 0;
+                resetAfter(nowNanos, retryAfterNanos > 0 ? retryAfterNanos : DEFAULT_RETRY_AFTER_NANOS);
+            }
+            else if (resetNanos > 0)
+            {
+                resetAfter(nowNanos, resetNanos);
+            }
+            else if (this.remaining == 0)
+            {
+                // Without a reset time the bucket would never be refilled.
+                resetAfter(nowNanos, DEFAULT_RETRY_AFTER_NANOS);
+            }
+        }
+
+        private void resetAfter(long nowNanos, long resetNanos)
+        {
+            resetAtNanos = nowNanos + resetNanos;
+            resetPending = true;
+        }
+    }
+
+    @Nullable
+    private static Integer parseInt(@Nullable String value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return Integer.parseInt(value.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            return null;
+        }
+    }
+
+    private static long parseReset(@NotNull Response response)
+    {
+        final double resetAfter = parseSeconds(response.header("X-RateLimit-Reset-After"));
+
+        if (resetAfter >= 0)
+        {
+            return (long) (resetAfter * 1e9);
+        }
+
+        final double reset = parseSeconds(response.header("X-RateLimit-Reset"));
+
+        if (reset < 0)
+        {
+            return 0;
+        }
+
+        // The reset is either a unix timestamp in seconds or milliseconds, or the count of seconds until the reset.
+        if (reset >= 1e12)
+        {
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos((long) reset - System.currentTimeMillis()));
+        }
+
+        if (reset >= 1e9)
+        {
+            return Math.max(0, (long) ((reset - System.currentTimeMillis() / 1e3) * 1e9));
+        }
+        return (long) (reset * 1e9);
+    }
+
+    private static long parseRetryAfter(@Nullable String value)
+    {
+        final double seconds = parseSeconds(value);
+
+        if (seconds >= 0)
+        {
+            return (long) (seconds * 1e9);
+        }
+
+        if (value == null)
+        {
+            return 0;
+        }
+
+        try
+        {
+            final ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(date.toInstant().toEpochMilli() - System.currentTimeMillis()));
+        }
+        catch (DateTimeParseException e)
+        {
+            return 0;
+        }
+    }
+
+    private static double parseSeconds(@Nullable String value)
+    {
+        if (value == null)
+        {
+            return -1;
+        }
+
+        try
+        {
+            return Double.parseDouble(value.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            return -1;
+        }
     }
 }
@@ -6,6 +6,9 @@
  * <li>{@link dev.blocky.library.tixte.internal.interceptor.CacheInterceptor}
  * <br>Handles tixte caches using an {@link okhttp3.Interceptor Interceptor}. (only if an internet connection is available).</li>
  *
+ * <li>{@link dev.blocky.library.tixte.internal.interceptor.ConcurrencyLimitInterceptor}
+ * <br>Limits the count of in-flight requests adaptively using an {@link okhttp3.Interceptor Interceptor}.</li>
+ *
  * <li>{@link dev.blocky.library.tixte.internal.interceptor.ErrorResponseInterceptor}
  * <br>Handles http error responses using an {@link okhttp3.Interceptor Interceptor}.</li>
  *
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.requests;
+
+import dev.blocky.library.tixte.internal.utils.Checks;
+import okhttp3.CacheControl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides per {@link Route} how long a response may be served from the cache.
+ *
+ * <p>Every {@link Route} can have one of the following rules:
+ * <ul>
+ *     <li>A positive TTL, for which the response is fresh and gets served from the cache without any request.
+ *     <br>Afterwards, the response gets revalidated.</li>
+ *     <li>A TTL of {@link Duration#ZERO}, which means that the response gets stored, but revalidated before every use.</li>
+ *     <li>No TTL, which means that the response never gets stored.</li>
+ * </ul>
+ * <br>Routes without a rule never get stored, so responses of new routes, which may contain credentials or personal
+ * data, don't end up on disk without an explicit rule.
+ * <br>Revalidation sends the {@code ETag} of the cached response as {@code If-None-Match} or its {@code Last-Modified}
+ * date as {@code If-Modified-Since}, so Tixte only has to send a small {@code 304} response, if nothing changed.
+ *
+ * <p>Because a mutation only invalidates the cached response with the same url, every mutation also has a list of
+ * routes, whose cached responses get invalidated, for example adding a domain invalidates the list of domains.
+ *
+ * @author BlockyDotJar
+ * @version v1.1.0
+ * @since v1.2.0
+ */
+public final class CacheRules
+{
+    /**
+     * The TTL of every {@link Route}, which has no rule, which means that its responses never get stored.
+     */
+    public static final Optional<Duration> DEFAULT_TTL = Optional.empty();
+
+    private static final Map<Route, List<Route>> invalidations = Map.of(
+            Route.Self.ADD_DOMAIN, List.of(Route.Self.GET_DOMAINS, Route.Domain.GET_DOMAINS),
+            Route.Self.DELETE_DOMAIN, List.of(Route.Self.GET_DOMAINS, Route.Domain.GET_DOMAINS),
+            Route.Self.DELETE_FILE, List.of(Route.Self.GET_UPLOADS, Route.Self.GET_UPLOAD_SIZE),
+            Route.Self.PURGE_FILES, List.of(Route.Self.GET_UPLOADS, Route.Self.GET_UPLOAD_SIZE),
+            Route.File.UPLOAD_FILE, List.of(Route.Self.GET_UPLOADS, Route.Self.GET_UPLOAD_SIZE),
+            Route.Self.PATCH_CONFIG, List.of(Route.Self.GET_CONFIG, Route.Self.GET_SELF)
+    );
+
+    /**
+     * The default time, for which a response may be served after its TTL, while it gets refreshed in the background.
+     */
+    public static final Duration DEFAULT_STALE_WINDOW = Duration.ofMinutes(10);
+
+    private final Map<Route, Optional<Duration>> ttls = new ConcurrentHashMap<>();
+    private volatile Duration staleWindow = DEFAULT_STALE_WINDOW;
+
+    /**
+     * Creates <b>new</b> {@link CacheRules} with the default rules.
+     * <br>The config and other users are fresh for 5 minutes, the domains and experiments for 1 hour and the uploads
+     * get revalidated before every use.
+     * <br>The own user, which contains the email and phone number, the API-keys and generated domains never get stored.
+     */
+    public CacheRules()
+    {
+        ttls.put(Route.Self.GET_SELF, Optional.empty());
+        ttls.put(Route.Self.GET_KEYS, Optional.empty());
+        ttls.put(Route.Self.GET_CONFIG, Optional.of(Duration.ofMinutes(5)));
+        ttls.put(Route.Users.GET_USER, Optional.of(Duration.ofMinutes(5)));
+        ttls.put(Route.Self.GET_DOMAINS, Optional.of(Duration.ofHours(1)));
+        ttls.put(Route.Self.GET_EXPERIMENTS, Optional.of(Duration.ofHours(1)));
+        ttls.put(Route.Domain.GET_DOMAINS, Optional.of(Duration.ofHours(1)));
+        ttls.put(Route.Self.GET_UPLOADS, Optional.of(Duration.ZERO));
+        ttls.put(Route.Self.GET_UPLOAD_SIZE, Optional.of(Duration.ZERO));
+        ttls.put(Route.Resources.GET_GENERATED_DOMAIN, Optional.empty());
+    }
+
+    /**
+     * Sets the TTL of a {@link Route}.
+     *
+     * @param route The {@link Route}, whose responses should be cached.
+     * @param ttl How long a response is fresh, {@link Duration#ZERO} to revalidate it before every use or null, if
+     *            the response should never get stored.
+     */
+    public void setTtl(@NotNull Route route, @Nullable Duration ttl)
+    {
+        Checks.notNull(route, "route");
+        Checks.check(route.getHTTPMethod() == HTTPMethods.GET, "Only responses of GET routes can be cached.");
+
+        if (ttl != null)
+        {
+            Checks.notNegative(ttl, "ttl");
+        }
+
+        ttls.put(route, Optional.ofNullable(ttl));
+    }
+
+    /**
+     * Sets the time, for which a response may be served after its TTL, while it gets refreshed in the background.
+     * <br>This is only used by {@link dev.blocky.library.tixte.api.enums.CachePolicy#STALE_WHILE_REVALIDATE}.
+     *
+     * @param staleWindow The time, for which a stale response may be served.
+     */
+    public void setStaleWindow(@NotNull Duration staleWindow)
+    {
+        Checks.notNegative(staleWindow, "staleWindow");
+
+        this.staleWindow = staleWindow;
+    }
+
+    /**
+     * Gets the time, for which a response may be served after its TTL, while it gets refreshed in the background.
+     *
+     * @return The stale window.
+     */
+    @NotNull
+    public Duration getStaleWindow()
+    {
+        return staleWindow;
+    }
+
+    /**
+     * Gets the TTL of a {@link Route}.
+     *
+     * @param route The {@link Route} of the response.
+     *
+     * @return The TTL or an empty {@link Optional}, if the response should never get stored.
+     */
+    @NotNull
+    public Optional<Duration> getTtl(@NotNull Route route)
+    {
+        return ttls.getOrDefault(route, DEFAULT_TTL);
+    }
+
+    /**
+     * Gets the {@link CacheControl}, which gets written into every response of a {@link Route}.
+     *
+     * @param route The {@link Route} of the response.
+     *
+     * @return The {@link CacheControl} of the response.
+     */
+    @NotNull
+    public CacheControl getCacheControl(@NotNull Route route)
+    {
+        final Optional<Duration> ttl = getTtl(route);
+
+        if (ttl.isEmpty())
+        {
+            return new CacheControl.Builder()
+                    .noStore()
+                    .build();
+        }
+
+        if (ttl.get().isZero())
+        {
+            return new CacheControl.Builder()
+                    .noCache()
+                    .build();
+        }
+
+        return new CacheControl.Builder()
+                .maxAge((int) Math.min(Integer.MAX_VALUE, ttl.get().toSeconds()), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Gets every {@link Route}, whose cached responses get invalidated by a successful mutation.
+     *
+     * @param route The {@link Route} of the mutation.
+     *
+     * @return The {@link Route routes}, whose cached responses get invalidated.
+     */
+    @NotNull
+    public List<Route> getInvalidatedRoutes(@NotNull Route route)
+    {
+        return invalidations.getOrDefault(route, List.of());
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.requests;
+
+import dev.blocky.library.tixte.internal.utils.Checks;
+import dev.blocky.library.tixte.internal.utils.logging.TixteLogger;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks whether an internet connection is available or not.
+ * <br>The state gets cached, so reading it with {@link #isOnline()} doesn't cost a thing.
+ *
+ * <p>The state gets updated by:
+ * <ul>
+ *     <li>Every real call, which got a response from the network ({@link #reportSuccess()}).</li>
+ *     <li>Every real call, which failed because no connection could be opened ({@link #reportFailure(IOException)}).
+ *     <br>Because the host of the call could also be the only unreachable host, this triggers a probe, which confirms
+ *     or corrects the state.</li>
+ *     <li>A background probe of the {@link Network}, which runs every {@link #ONLINE_PROBE_INTERVAL} while online and
+ *     every {@link #OFFLINE_PROBE_INTERVAL} while offline.
+ *     <br>The probe gets skipped, if a real call already reported the state during the last interval.</li>
+ * </ul>
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public final class ConnectivityMonitor implements AutoCloseable
+{
+    /**
+     * The interval between two probes while an internet connection is available.
+     */
+    public static final Duration ONLINE_PROBE_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * The interval between two probes while no internet connection is available.
+     */
+    public static final Duration OFFLINE_PROBE_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Logger logger = TixteLogger.getLog(ConnectivityMonitor.class);
+
+    private final ScheduledExecutorService executor;
+    private final Network network;
+
+    private volatile boolean online = true;
+    private volatile long lastReportNanos = System.nanoTime();
+
+    /**
+     * Creates a <b>new</b> {@link ConnectivityMonitor} and starts the first probe in the background.
+     * <br>Until the first probe completes, an internet connection is assumed to be available.
+     *
+     * @param network The {@link Network}, which gets probed.
+     */
+    public ConnectivityMonitor(@NotNull Network network)
+    {
+        Checks.notNull(network, "network");
+
+        this.network = network;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+        {
+            final Thread thread = new Thread(runnable, "Tixte4J-Connectivity");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        execute(this::probe);
+        schedule(ONLINE_PROBE_INTERVAL);
+    }
+
+    /**
+     * Checks if an internet connection is available or not.
+     * <br>This only reads the cached state and never blocks.
+     *
+     * @return <b>true</b> - If an internet connection is available.
+     *         <br><b>false</b> - If no internet connection is available.
+     */
+    public boolean isOnline()
+    {
+        return online;
+    }
+
+    /**
+     * Reports, that a call got a response from the network.
+     */
+    public void reportSuccess()
+    {
+        lastReportNanos = System.nanoTime();
+        update(true);
+    }
+
+    /**
+     * Reports, that a call failed.
+     * <br>Only failures, which show that no connection could be opened, mark the internet connection as unavailable.
+     *
+     * @param e The {@link IOException}, with which the call failed.
+     */
+    public void reportFailure(@NotNull IOException e)
+    {
+        if (!(e instanceof ConnectException || e instanceof NoRouteToHostException || e instanceof UnknownHostException))
+        {
+            return;
+        }
+
+        lastReportNanos = System.nanoTime();
+
+        if (update(false))
+        {
+            // The host of the call could be the only host, which is unreachable, so this has to be confirmed.
+            execute(this::probe);
+        }
+    }
+
+    /**
+     * Stops the background probe.
+     */
+    @Override
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+
+    private void tick()
+    {
+        final Duration interval = online ? ONLINE_PROBE_INTERVAL : OFFLINE_PROBE_INTERVAL;
+
+        // A real call already reported the state during the last interval, so the probe would only add traffic.
+        if (System.nanoTime() - lastReportNanos >= interval.toNanos())
+        {
+            probe();
+        }
+
+        schedule(online ? ONLINE_PROBE_INTERVAL : OFFLINE_PROBE_INTERVAL);
+    }
+
+    private void probe()
+    {
+        update(network.isInternetAvailable());
+    }
+
+    private synchronized boolean update(boolean online)
+    {
+        if (this.online == online)
+        {
+            return false;
+        }
+
+        this.online = online;
+        logger.info(online ? "Internet connection is available again." : "Internet connection is not available, using the cache.");
+        return true;
+    }
+
+    private void schedule(@NotNull Duration delay)
+    {
+        try
+        {
+            executor.schedule(this::tick, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (RejectedExecutionException ignored)
+        {
+            // The monitor was closed.
+        }
+    }
+
+    private void execute(@NotNull Runnable runnable)
+    {
+        try
+        {
+            executor.execute(runnable);
+        }
+        catch (RejectedExecutionException ignored)
+        {
+            // The monitor was closed.
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.requests;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import dev.blocky.library.tixte.api.exceptions.ParsingException;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * {@link RequestBody} with a json object as content.
+ * <br>The object gets streamed through a {@link JsonGenerator} directly into an okio {@link Buffer}, so every value
+ * gets escaped correctly and there are no intermediate {@link String strings}.
+ * <br>Writing the body to the connection only shares the segments of the buffer instead of copying them, so the body
+ * can also be written multiple times, for example if the request gets retried.
+ *
+ * <p>Example:
+ * <pre><code>
+ * final RequestBody body = JsonRequestBody.write(generator -&gt;
+ * {
+ *     generator.writeStringField("password", password);
+ *     generator.writeBooleanField("purge", true);
+ * });
+ * </code></pre>
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+public final class JsonRequestBody extends RequestBody
+{
+    private static final MediaType mediaType = MediaType.get("application/json; charset=utf-8");
+    private static final JsonFactory factory = new JsonFactory();
+
+    private final Buffer buffer;
+
+    private JsonRequestBody(@NotNull Buffer buffer)
+    {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates a <b>new</b> {@link JsonRequestBody}.
+     * <br>The enclosing json object gets started and ended by this method, so the {@link Writer} only has to write
+     * the fields of the object.
+     *
+     * @param writer The {@link Writer}, which writes the fields of the json object.
+     *
+     * @throws ParsingException If the {@link Writer} produced invalid json.
+     *
+     * @return The <b>new</b> {@link JsonRequestBody}.
+     */
+    @NotNull
+    public static JsonRequestBody write(@NotNull Writer writer)
+    {
+        final Buffer buffer = new Buffer();
+
+        try (final JsonGenerator generator = factory.createGenerator(buffer.outputStream(), JsonEncoding.UTF8))
+        {
+            generator.writeStartObject();
+            writer.write(generator);
+            generator.writeEndObject();
+        }
+        catch (IOException e)
+        {
+            throw new ParsingException(e);
+        }
+        return new JsonRequestBody(buffer);
+    }
+
+    /**
+     * Writes a string field or a json null, if the value is null.
+     *
+     * @param generator The {@link JsonGenerator} to write to.
+     * @param fieldName The name of the field.
+     * @param value The value of the field.
+     *
+     * @throws IOException If the field could not be written.
+     */
+    public static void writeNullableStringField(@NotNull JsonGenerator generator, @NotNull String fieldName, @Nullable String value) throws IOException
+    {
+        if (value == null)
+        {
+            generator.writeNullField(fieldName);
+            return;
+        }
+        generator.writeStringField(fieldName, value);
+    }
+
+    /**
+     * Writes a field with an array of strings or a json null, if the array is null.
+     *
+     * @param generator The {@link JsonGenerator} to write to.
+     * @param fieldName The name of the field.
+     * @param values The values of the array.
+     *
+     * @throws IOException If the field could not be written.
+     */
+    public static void writeNullableStringArrayField(@NotNull JsonGenerator generator, @NotNull String fieldName, @Nullable String[] values) throws IOException
+    {
+        if (values == null)
+        {
+            generator.writeNullField(fieldName);
+            return;
+        }
+
+        generator.writeFieldName(fieldName);
+        generator.writeArray(values, 0, values.length);
+    }
+
+    @NotNull
+    @Override
+    public MediaType contentType()
+    {
+        return mediaType;
+    }
+
+    @Override
+    public long contentLength()
+    {
+        return buffer.size();
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException
+    {
+        buffer.copyTo(sink.getBuffer(), 0, buffer.size());
+        sink.emitCompleteSegments();
+    }
+
+    /**
+     * Writes the fields of a json object.
+     */
+    @FunctionalInterface
+    public interface Writer
+    {
+        /**
+         * Writes the fields of the json object.
+         *
+         * @param generator The {@link JsonGenerator} to write to.
+         *
+         * @throws IOException If a field could not be written.
+         */
+        void write(@NotNull JsonGenerator generator) throws IOException;
+    }
+}
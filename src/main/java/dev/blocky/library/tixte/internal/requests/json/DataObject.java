@@ -48,7 +48,7 @@ import java.util.function.UnaryOperator;
  * @param data A {@link List} of objects.
  *
  * @author MinnDevelopment, napstr, Andre601, Mitmocc and BlockyDotJar
- * @version v1.1.2
+ * @version v1.2.0
  * @since v1.0.0-beta.3
  */
 public record DataObject(@NotNull Map<String, Object> data) implements SerializableData
@@ -797,6 +797,51 @@ public record DataObject(@NotNull Map<String, Object> data) implements Serializa
         return data;
     }
 
+    /**
+     * Creates a deep copy of this {@link DataObject}.
+     * <br>Changes to the copy or to any nested object or array of it don't affect this {@link DataObject}.
+     *
+     * @return The copy of this {@link DataObject}.
+     */
+    @NotNull
+    public DataObject copy()
+    {
+        return new DataObject(copyMap(data));
+    }
+
+    @NotNull
+    private static Map<String, Object> copyMap(@NotNull Map<String, Object> map)
+    {
+        final Map<String, Object> copy = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+
+        map.forEach((key, value) -> copy.put(key, copyValue(value)));
+        return copy;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(@Nullable Object value)
+    {
+        if (value instanceof Map<?, ?> map)
+        {
+            return copyMap((Map<String, Object>) map);
+        }
+
+        if (value instanceof List<?> list)
+        {
+            final List<Object> copy = new ArrayList<>(list.size());
+
+            for (final Object element : list)
+            {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+
+        // Every other value of a decoded response (strings, numbers and booleans) is immutable.
+        return value;
+    }
+
     @NotNull
     private ParsingException valueError(@NotNull String key, @NotNull String expectedType)
     {
@@ -22,10 +22,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
-import java.util.regex.Pattern;
 
 /**
  * This utility class can be used to access nested values within {@link DataObject DataObjects} and {@link DataArray DataArrays}.
@@ -36,7 +38,7 @@ import java.util.regex.Pattern;
  *
  * <pre>{@code
  * <name-syntax>  ::= /[^.\[\]]+/;
- * <index-syntax> ::= "[" <number> "]";
+ * <index-syntax> ::= "[" <number> "]" | "[*]";
  * <name>         ::= <name-syntax> | <name-syntax> "?";
  * <index>        ::= <index-syntax> | <index-syntax> "?";
  * <element>      ::= <name> ( <index> )*;
@@ -61,14 +63,61 @@ import java.util.regex.Pattern;
  * <pre>{@code String foo = DataPath.getString(root, "array[1]?.foo", "default")}</pre>
  * This will result in {@code foo == "default"}, since the array element 1 is marked as optional, and missing in the actual object.
  *
+ * <p>If you evaluate the same path many times, you can compile it once with {@link #compile(String)} and reuse the
+ * returned {@link CompiledPath}:
+ * <pre>{@code
+ * CompiledPath path = DataPath.compile("array[0].foo");
+ * String foo = path.get(root, DataObject::getString, DataArray::getString);
+ * }</pre>
+ * The static methods of this class compile their paths through an internal cache as well.
+ *
+ * <p>With the wildcard index {@code "[*]"}, you can extract a whole column in a single traversal:
+ * <pre>{@code List<String> names = DataPath.getStringList(root, "data.domains[*].name")}</pre>
+ *
  * @author MinnDevelopment and BlockyDotJar
- * @version v1.1.1
+ * @version v1.3.0
  * @since v1.0.0
  */
 public record DataPath()
 {
-    private static final Pattern INDEX_EXPRESSION = Pattern.compile("^\\[\\d+].*");
-    private static final Pattern NAME_EXPRESSION = Pattern.compile("^[^\\[.].*");
+    private static final int MAX_CACHED_PATHS = 1024;
+    private static final Map<String, CompiledPath> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles the given {@code path} into a reusable {@link CompiledPath}.
+     * <br>The path gets validated and split into its elements only once, so evaluating the {@link CompiledPath}
+     * doesn't have to parse the path string again.
+     * <br>Compiled paths are cached, so compiling the same path twice returns the same instance.
+     *
+     * @param path The path, in accordance with the described grammar by {@link DataPath}.
+     *
+     * @throws IllegalArgumentException If null is provided or the path is invalid.
+     * @throws IllegalStateException If the path is empty.
+     *
+     * @return The reusable and thread-safe {@link CompiledPath}.
+     */
+    @NotNull
+    public static CompiledPath compile(@NotNull String path)
+    {
+        final CompiledPath cached = cache.get(path);
+
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        Checks.notEmpty(path, "Path");
+
+        final CompiledPath compiled = new CompiledPath(path);
+
+        if (cache.size() >= MAX_CACHED_PATHS)
+        {
+            cache.clear();
+        }
+
+        cache.put(path, compiled);
+        return compiled;
+    }
 
     /**
      * Parses the given {@code path} and finds the appropriate value within this {@link DataObject}.
@@ -97,65 +146,8 @@ public record DataPath()
     public static <T> T get(@NotNull DataObject root, @NotNull String path, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
                             @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
     {
-        Checks.notEmpty(path, "Path");
-        Checks.matches(path, NAME_EXPRESSION, "Path");
-        Checks.notNull(root, "DataObject");
-        Checks.notNull(fromObject, "Object Resolver");
-        Checks.notNull(fromArray, "Array Resolver");
-        return getUnchecked(root, path, fromObject, fromArray);
-    }
-
-    @Nullable
-    @CheckReturnValue
-    private static <T> T getUnchecked(@NotNull DataObject root, @NotNull String path, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
-                                      @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
-    {
-        final String[] parts = path.split("\\.", 2);
-        final String child = parts.length > 1 ? parts[1] : null;
-
-        String current = parts[0];
-
-        if (current.indexOf('[') > -1)
-        {
-            final int arrayIndex = current.indexOf('[');
-
-            String key = current.substring(0, arrayIndex);
-            path = path.substring(arrayIndex);
-
-            if (key.endsWith("?"))
-            {
-                key = key.substring(0, key.length() - 1);
-                if (root.isNull(key))
-                {
-                    return null;
-                }
-            }
-
-            return getUnchecked(root.getDataArray(key), path, fromObject, fromArray);
-        }
-
-        boolean isOptional = current.endsWith("?");
-
-        if (isOptional)
-        {
-            current = current.substring(0, current.length() - 1);
-        }
-
-        if (child == null)
-        {
-            if (isOptional && root.isNull(current))
-            {
-                return null;
-            }
-            return fromObject.apply(root, current);
-        }
-
-        if (isOptional && root.isNull(current))
-        {
-            return null;
-        }
-
-        return getUnchecked(root.getDataObject(current), child, fromObject, fromArray);
+        Checks.notNull(path, "Path");
+        return compile(path).get(root, fromObject, fromArray);
     }
 
     /**
@@ -185,70 +177,8 @@ public record DataPath()
     public static <T> T get(@NotNull DataArray root, @NotNull String path, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
                             @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
     {
-        Checks.notNull(root, "DataArray");
-        Checks.notEmpty(path, "Path");
-        Checks.matches(path, INDEX_EXPRESSION, "Path");
-        Checks.notNull(fromObject, "Object Resolver");
-        Checks.notNull(fromArray, "Array Resolver");
-        return getUnchecked(root, path, fromObject, fromArray);
-    }
-
-    @Nullable
-    @CheckReturnValue
-    private static <T> T getUnchecked(@NotNull DataArray root, String path, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
-                                      @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
-    {
-        final byte[] chars = path.getBytes(StandardCharsets.UTF_8);
-
-        int offset = 0;
-
-        for (int i = 0; i < chars.length; i++)
-        {
-            final int end = indexOf(chars, offset + 1, ']');
-            final int index = Integer.parseInt(path.substring(offset + 1, end));
-
-            offset = Math.min(chars.length, end + 1);
-            final boolean optional = offset != chars.length && chars[offset] == '?';
-
-            final boolean isMissing = root.length() <= index || root.isNull(index);
-            if (optional)
-            {
-                offset++;
-                if (isMissing)
-                {
-                    return null;
-                }
-            }
-
-            if (offset == chars.length)
-            {
-                return fromArray.apply(root, index);
-            }
-
-            if (chars[offset] == '[')
-            {
-                root = root.getDataArray(index);
-            }
-            else
-            {
-                return getUnchecked(root.getDataObject(index), path.substring(offset + 1), fromObject, fromArray);
-            }
-        }
-
-        throw new ParsingException("Array path nesting seems to be way too deep, we went " + chars.length + " arrays deep. Path: " + path);
-    }
-
-    private static int indexOf(byte[] chars, int offset, char c)
-    {
-        final byte b = (byte) c;
-        for (int i = offset; i < chars.length; i++)
-        {
-            if (chars[i] == b)
-            {
-                return i;
-            }
-        }
-        return -1;
+        Checks.notNull(path, "Path");
+        return compile(path).get(root, fromObject, fromArray);
     }
 
     /**
@@ -1208,11 +1138,590 @@ public record DataPath()
         return get(root, path, DataObject::getDataArray, DataArray::getDataArray);
     }
 
+    /**
+     * Parses the given {@code path} and extracts a whole column within this {@link DataObject} in a single traversal.
+     *
+     * @param <T> The result type.
+     * @param root The root data object, which is the top level accessor.
+     * @param path The path of the column, in accordance with the described grammar by {@link DataPath}.
+     *             <br>This must contain a wildcard index, such as {@code "data.domains[*].name"}.
+     * @param fromObject Object relative resolver of the value, this is used for the final reference and resolves the value.
+     * @param fromArray Array relative resolver of the value, this is used for the final reference and resolves the value.
+     *
+     * @throws ParsingException If the path is invalid or resolving fails due to missing elements.
+     * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+     * @throws IllegalArgumentException If null is provided, the path is empty or doesn't contain a wildcard.
+     *
+     * @see CompiledPath#getColumn(DataObject, BiFunction, BiFunction)
+     *
+     * @return A {@link List} of every value of the column.
+     */
+    @NotNull
+    @CheckReturnValue
+    public static <T> List<T> getList(@NotNull DataObject root, @NotNull String path, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
+                                      @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
+    {
+        Checks.notNull(path, "Path");
+        return compile(path).getColumn(root, fromObject, fromArray);
+    }
+
+    /**
+     * Parses the given {@code path} and extracts a whole column of strings within this {@link DataObject} in a single traversal.
+     *
+     * @param root The root data object, which is the top level accessor.
+     * @param path The path of the column, in accordance with the described grammar by {@link DataPath}.
+     *             <br>This must contain a wildcard index, such as {@code "data.domains[*].name"}.
+     *
+     * @throws ParsingException If the path is invalid or resolving fails due to missing elements.
+     * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+     * @throws IllegalArgumentException If null is provided, the path is empty or doesn't contain a wildcard.
+     *
+     * @return A {@link List} of every string of the column.
+     */
+    @NotNull
+    @CheckReturnValue
+    public static List<String> getStringList(@NotNull DataObject root, @NotNull String path)
+    {
+        return getList(root, path, DataObject::getString, DataArray::getString);
+    }
+
+    /**
+     * Parses the given {@code path} and extracts a whole column of ints within this {@link DataObject} in a single
+     * traversal without boxing.
+     *
+     * @param root The root data object, which is the top level accessor.
+     * @param path The path of the column, in accordance with the described grammar by {@link DataPath}.
+     *             <br>This must contain a wildcard index, such as {@code "data.domains[*].uploads"}.
+     *
+     * @throws ParsingException If the path is invalid or resolving fails due to missing elements.
+     * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+     * @throws IllegalArgumentException If null is provided, the path is empty or doesn't contain a wildcard.
+     *
+     * @return Every int of the column, missing optional values are represented as 0.
+     */
+    @NotNull
+    @CheckReturnValue
+    public static int[] getIntArray(@NotNull DataObject root, @NotNull String path)
+    {
+        Checks.notNull(path, "Path");
+        return compile(path).getIntColumn(root);
+    }
+
+    /**
+     * Parses the given {@code path} and extracts a whole column of booleans within this {@link DataObject} in a single
+     * traversal without boxing.
+     *
+     * @param root The root data object, which is the top level accessor.
+     * @param path The path of the column, in accordance with the described grammar by {@link DataPath}.
+     *             <br>This must contain a wildcard index, such as {@code "data.domains[*].active"}.
+     *
+     * @throws ParsingException If the path is invalid or resolving fails due to missing elements.
+     * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+     * @throws IllegalArgumentException If null is provided, the path is empty or doesn't contain a wildcard.
+     *
+     * @return Every boolean of the column, missing optional values are represented as false.
+     */
+    @NotNull
+    @CheckReturnValue
+    public static boolean[] getBooleanArray(@NotNull DataObject root, @NotNull String path)
+    {
+        Checks.notNull(path, "Path");
+        return compile(path).getBooleanColumn(root);
+    }
+
     @NotNull
     private static ParsingException pathError(@NotNull String path, @NotNull String type)
     {
         throw new ParsingException("Could not resolve value of type " + type + " at path \"" + path + "\"");
     }
-}
 
+    /**
+     * Represents a pre-compiled path expression of a {@link DataPath}.
+     * <br>The path gets validated and split into its elements once, so it can be evaluated against any number of
+     * {@link DataObject DataObjects} or {@link DataArray DataArrays} without parsing the path string again.
+     * <br>Evaluating a {@link CompiledPath} walks the underlying maps and lists directly and only wraps the last
+     * container, which gets passed to the resolver.
+     *
+     * <p>A path may contain a single wildcard index {@code [*]}, such as {@code "data.domains[*].name"}.
+     * <br>Such a path resolves to a whole column, which can be extracted with {@link #getColumn(DataObject, BiFunction, BiFunction)}
+     * or one of the primitive variants like {@link #getIntColumn(DataObject)}, in a single traversal.
+     *
+     * <p>Instances of this class are immutable and thread-safe.
+     *
+     * @author BlockyDotJar
+     * @version v1.1.0
+     * @since v1.2.0
+     */
+    public static final class CompiledPath
+    {
+        private static final int WILDCARD = -2;
+
+        private final String path;
+        private final String[] keys;
+        private final int[] indexes;
+        private final boolean[] optional;
+        private final int wildcard;
+
+        private CompiledPath(@NotNull String path)
+        {
+            final List<String> keys = new ArrayList<>();
+            final List<Integer> indexes = new ArrayList<>();
+            final List<Boolean> optional = new ArrayList<>();
+
+            final int length = path.length();
+
+            int offset = 0, wildcard = -1;
+
+            while (offset < length)
+            {
+                final char c = path.charAt(offset);
+
+                if (c == '[')
+                {
+                    final int end = path.indexOf(']', offset);
+                    Checks.check(end > offset + 1, "Path contains an invalid index element. Provided: \"%s\"", path);
+
+                    final String index = path.substring(offset + 1, end);
+
+                    if (index.equals("*"))
+                    {
+                        Checks.check(wildcard == -1, "Path may only contain a single wildcard. Provided: \"%s\"", path);
+                        wildcard = keys.size();
+                    }
+                    else
+                    {
+                        for (int i = 0; i < index.length(); i++)
+                        {
+                            Checks.check(Character.isDigit(index.charAt(i)), "Path contains an invalid index element. Provided: \"%s\"", path);
+                        }
+                    }
+
+                    offset = end + 1;
+
+                    final boolean isOptional = offset < length && path.charAt(offset) == '?';
+
+                    if (isOptional)
+                    {
+                        offset++;
+                    }
+
+                    keys.add(null);
+                    indexes.add(index.equals("*") ? WILDCARD : Integer.parseInt(index));
+                    optional.add(isOptional);
+                }
+                else
+                {
+                    Checks.check(keys.isEmpty() || path.charAt(offset - 1) == '.', "Path contains an unexpected name element. Provided: \"%s\"", path);
+
+                    int end = offset;
+
+                    while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[' && path.charAt(end) != ']')
+                    {
+                        end++;
+                    }
+
+                    Checks.check(end > offset, "Path contains an empty name element. Provided: \"%s\"", path);
+
+                    String key = path.substring(offset, end);
+
+                    final boolean isOptional = key.endsWith("?");
+
+                    if (isOptional)
+                    {
+                        key = key.substring(0, key.length() - 1);
+                    }
+
+                    keys.add(key);
+                    indexes.add(-1);
+                    optional.add(isOptional);
+
+                    offset = end;
+                }
+
+                if (offset < length && path.charAt(offset) == '.')
+                {
+                    offset++;
+                    Checks.check(offset < length, "Path may not end with a dot. Provided: \"%s\"", path);
+                }
+                else if (offset < length)
+                {
+                    Checks.check(path.charAt(offset) == '[', "Path contains an unexpected character. Provided: \"%s\"", path);
+                }
+            }
+
+            this.path = path;
+            this.wildcard = wildcard;
+            this.keys = keys.toArray(new String[0]);
+            this.indexes = new int[indexes.size()];
+            this.optional = new boolean[optional.size()];
+
+            for (int i = 0; i < this.indexes.length; i++)
+            {
+                this.indexes[i] = indexes.get(i);
+                this.optional[i] = optional.get(i);
+            }
+        }
+
+        /**
+         * Finds the appropriate value within this {@link DataObject}.
+         *
+         * @param <T> The result type.
+         * @param root The root data object, which is the top level accessor.
+         * @param fromObject Object relative resolver of the value, this is used for the final reference and resolves the value.
+         * @param fromArray Array relative resolver of the value, this is used for the final reference and resolves the value.
+         *
+         * @throws ParsingException If resolving fails due to missing elements.
+         * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+         * @throws IllegalArgumentException If null is provided, the path doesn't start with a name element or the path contains a wildcard.
+         *
+         * @return The value at the path, using the provided resolver functions.
+         *         <br>Possibly null, if the path ends with a "?" operator, or the resolver function returns null.
+         */
+        @Nullable
+        @CheckReturnValue
+        public <T> T get(@NotNull DataObject root, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
+                         @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
+        {
+            Checks.notNull(root, "DataObject");
+            Checks.check(keys[0] != null, "Path must start with a name element. Provided: \"%s\"", path);
+            return resolve(root.data(), fromObject, fromArray);
+        }
+
+        /**
+         * Finds the appropriate value within this {@link DataArray}.
+         *
+         * @param <T> The result type.
+         * @param root The root data array, which is the top level accessor.
+         * @param fromObject Object relative resolver of the value, this is used for the final reference and resolves the value.
+         * @param fromArray Array relative resolver of the value, this is used for the final reference and resolves the value.
+         *
+         * @throws ParsingException If resolving fails due to missing elements.
+         * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+         * @throws IllegalArgumentException If null is provided, the path doesn't start with an index element or the path contains a wildcard.
+         *
+         * @return The value at the path, using the provided resolver functions.
+         *         <br>Possibly null, if the path ends with a "?" operator, or the resolver function returns null.
+         */
+        @Nullable
+        @CheckReturnValue
+        public <T> T get(@NotNull DataArray root, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
+                         @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
+        {
+            Checks.notNull(root, "DataArray");
+            Checks.check(keys[0] == null, "Path must start with an index element. Provided: \"%s\"", path);
+            return resolve(root.data(), fromObject, fromArray);
+        }
+
+        /**
+         * Extracts a whole column within this {@link DataObject} in a single traversal.
+         * <br>The path must contain a wildcard index {@code [*]}, such as {@code "data.domains[*].name"}.
+         * <br>Elements, which are missing due to a "?" operator, are represented as null.
+         *
+         * @param <T> The result type.
+         * @param root The root data object, which is the top level accessor.
+         * @param fromObject Object relative resolver of the value, this is used for the final reference and resolves the value.
+         * @param fromArray Array relative resolver of the value, this is used for the final reference and resolves the value.
+         *
+         * @throws ParsingException If resolving fails due to missing elements.
+         * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+         * @throws IllegalArgumentException If null is provided or the path doesn't contain a wildcard.
+         *
+         * @return A {@link List} of every value of the column.
+         *         <br>This is empty, if the array of the wildcard is missing and marked as optional.
+         */
+        @NotNull
+        @CheckReturnValue
+        public <T> List<T> getColumn(@NotNull DataObject root, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
+                                     @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
+        {
+            Checks.notNull(fromObject, "Object Resolver");
+            Checks.notNull(fromArray, "Array Resolver");
+
+            final List<Object> array = column(root);
+
+            if (array == null)
+            {
+                return new ArrayList<>(0);
+            }
+
+            final int last = keys.length - 1;
+            final List<T> list = new ArrayList<>(array.size());
+
+            if (wildcard == last)
+            {
+                final DataArray wrapper = new DataArray(array);
+
+                for (int i = 0; i < array.size(); i++)
+                {
+                    list.add(optional[last] && array.get(i) == null ? null : fromArray.apply(wrapper, i));
+                }
+                return list;
+            }
+
+            for (int i = 0; i < array.size(); i++)
+            {
+                final Object container = leafContainer(array, i);
+                list.add(container == null ? null : apply(container, last, fromObject, fromArray));
+            }
+            return list;
+        }
+
+        /**
+         * Extracts a whole column of ints within this {@link DataObject} in a single traversal without boxing.
+         * <br>The path must contain a wildcard index {@code [*]}, such as {@code "data.domains[*].uploads"}.
+         * <br>Elements, which are missing due to a "?" operator, are represented as 0.
+         *
+         * @param root The root data object, which is the top level accessor.
+         *
+         * @throws ParsingException If resolving fails due to missing elements or a value is not an int.
+         * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+         * @throws IllegalArgumentException If null is provided or the path doesn't contain a wildcard.
+         *
+         * @return Every int of the column.
+         */
+        @NotNull
+        @CheckReturnValue
+        public int[] getIntColumn(@NotNull DataObject root)
+        {
+            final List<Object> array = column(root);
+
+            if (array == null)
+            {
+                return new int[0];
+            }
+
+            final int[] column = new int[array.size()];
+
+            for (int i = 0; i < column.length; i++)
+            {
+                final Object value = leaf(array, i);
+
+                if (value instanceof Number number)
+                {
+                    column[i] = number.intValue();
+                }
+                else if (value != null)
+                {
+                    column[i] = Integer.parseInt(leafString(value, "int"));
+                }
+            }
+            return column;
+        }
+
+        /**
+         * Extracts a whole column of booleans within this {@link DataObject} in a single traversal without boxing.
+         * <br>The path must contain a wildcard index {@code [*]}, such as {@code "data.domains[*].active"}.
+         * <br>Elements, which are missing due to a "?" operator, are represented as false.
+         *
+         * @param root The root data object, which is the top level accessor.
+         *
+         * @throws ParsingException If resolving fails due to missing elements or a value is not a boolean.
+         * @throws IndexOutOfBoundsException If any of the elements in the path refer to an array index that is out of bounds.
+         * @throws IllegalArgumentException If null is provided or the path doesn't contain a wildcard.
+         *
+         * @return Every boolean of the column.
+         */
+        @NotNull
+        @CheckReturnValue
+        public boolean[] getBooleanColumn(@NotNull DataObject root)
+        {
+            final List<Object> array = column(root);
+
+            if (array == null)
+            {
+                return new boolean[0];
+            }
+
+            final boolean[] column = new boolean[array.size()];
+
+            for (int i = 0; i < column.length; i++)
+            {
+                final Object value = leaf(array, i);
+
+                if (value instanceof Boolean bool)
+                {
+                    column[i] = bool;
+                }
+                else if (value != null)
+                {
+                    column[i] = Boolean.parseBoolean(leafString(value, "boolean"));
+                }
+            }
+            return column;
+        }
+
+        /**
+         * Whether this path contains a wildcard index {@code [*]} and therefore resolves to a whole column.
+         *
+         * @return <b>true</b> - If this path contains a wildcard.
+         *         <br><b>false</b> - If this path resolves to a single value.
+         */
+        public boolean isWildcard()
+        {
+            return wildcard != -1;
+        }
+
+        /**
+         * The path string this {@link CompiledPath} got compiled from.
+         *
+         * @return The path string.
+         */
+        @NotNull
+        public String getPath()
+        {
+            return path;
+        }
+
+        @Nullable
+        private <T> T resolve(@NotNull Object root, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
+                              @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
+        {
+            Checks.notNull(fromObject, "Object Resolver");
+            Checks.notNull(fromArray, "Array Resolver");
+            Checks.check(wildcard == -1, "Path contains a wildcard, use getColumn instead. Provided: \"%s\"", path);
+
+            final int last = keys.length - 1;
+            final Object container = walk(root, 0, last);
+
+            if (container == null || (optional[last] && value(container, last) == null))
+            {
+                return null;
+            }
+            return apply(container, last, fromObject, fromArray);
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private List<Object> column(@NotNull DataObject root)
+        {
+            Checks.notNull(root, "DataObject");
+            Checks.check(keys[0] != null, "Path must start with a name element. Provided: \"%s\"", path);
+            Checks.check(wildcard != -1, "Path doesn't contain a wildcard. Provided: \"%s\"", path);
 
+            return (List<Object>) walk(root.data(), 0, wildcard);
+        }
+
+        @Nullable
+        private Object leafContainer(@NotNull List<Object> array, int index)
+        {
+            final int last = keys.length - 1;
+
+            if (wildcard == last)
+            {
+                return optional[last] && array.get(index) == null ? null : array;
+            }
+
+            final Object element = array.get(index);
+
+            if (element == null && optional[wildcard])
+            {
+                return null;
+            }
+
+            final Object container = walk(child(element, keys[wildcard + 1] == null, index), wildcard + 1, last);
+
+            if (container == null || (optional[last] && value(container, last) == null))
+            {
+                return null;
+            }
+            return container;
+        }
+
+        @Nullable
+        private Object leaf(@NotNull List<Object> array, int index)
+        {
+            final int last = keys.length - 1;
+            final Object container = leafContainer(array, index);
+
+            if (container == null)
+            {
+                return null;
+            }
+
+            final Object value = wildcard == last ? array.get(index) : value(container, last);
+
+            if (value == null)
+            {
+                throw pathError(path, "value");
+            }
+            return value;
+        }
+
+        @NotNull
+        private String leafString(@NotNull Object value, @NotNull String type)
+        {
+            if (value instanceof String string)
+            {
+                return string;
+            }
+            throw new ParsingException("Cannot parse value at path \"" + path + "\" into type " + type + ": " + value + " instance of " + value.getClass().getSimpleName());
+        }
+
+        @Nullable
+        private Object walk(@NotNull Object current, int from, int to)
+        {
+            for (int i = from; i < to; i++)
+            {
+                final Object value = value(current, i);
+
+                if (value == null && optional[i])
+                {
+                    return null;
+                }
+
+                current = child(value, keys[i + 1] == null, keys[i] != null ? keys[i] : indexes[i]);
+            }
+            return current;
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private Object value(@NotNull Object container, int i)
+        {
+            if (keys[i] != null)
+            {
+                return ((Map<String, Object>) container).get(keys[i]);
+            }
+
+            final List<Object> array = (List<Object>) container;
+            final int index = indexes[i];
+
+            if (optional[i] && array.size() <= index)
+            {
+                return null;
+            }
+            return array.get(index);
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private <T> T apply(@NotNull Object container, int i, @NotNull BiFunction<DataObject, String, ? extends T> fromObject,
+                            @NotNull BiFunction<DataArray, Integer, ? extends T> fromArray)
+        {
+            if (keys[i] != null)
+            {
+                return fromObject.apply(new DataObject((Map<String, Object>) container), keys[i]);
+            }
+            return fromArray.apply(new DataArray((List<Object>) container), indexes[i]);
+        }
+
+        @NotNull
+        private static Object child(@Nullable Object value, boolean expectArray, @NotNull Object keyOrIndex)
+        {
+            if (expectArray ? value instanceof List : value instanceof Map)
+            {
+                return value;
+            }
+
+            final String type = expectArray ? "DataArray" : "DataObject";
+            throw new ParsingException("Unable to resolve value with key " + keyOrIndex + " to type " + type + ": " + value);
+        }
+
+        @NotNull
+        @Override
+        public String toString()
+        {
+            return path;
+        }
+    }
+}
@@ -3,9 +3,18 @@
  * <br>From here you can navigate to all requests.
  *
  * <ul>
+ * <li>{@link dev.blocky.library.tixte.internal.requests.CacheRules}
+ * <br>Decides per {@link dev.blocky.library.tixte.internal.requests.Route Route} how long a response may be served from the cache.</li>
+ *
+ * <li>{@link dev.blocky.library.tixte.internal.requests.ConnectivityMonitor}
+ * <br>Tracks whether an internet connection is available or not.</li>
+ *
  * <li>{@link dev.blocky.library.tixte.internal.requests.HTTPMethods}
  * <br>Represents HTTP-methods.</li>
  *
+ * <li>{@link dev.blocky.library.tixte.internal.requests.JsonRequestBody}
+ * <br>{@link okhttp3.RequestBody} with a json object as content.</li>
+ *
  * <li>{@link dev.blocky.library.tixte.internal.requests.Network}
  * <br>Utility class for handling network connectivity.</li>
  *
@@ -20,13 +20,14 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.regex.Pattern;
 
 /**
  * Utility class for handling errors.
  *
  * @author MinnDevelopment and BlockyDotJar
- * @version v1.2.1
+ * @version v1.3.0
  * @since v1.0.0-beta.1
  */
 public class Checks
@@ -138,6 +139,38 @@ public class Checks
         }
     }
 
+    /**
+     * If the given duration is null, there will be thrown an {@link IllegalArgumentException} and if the given
+     * duration is below 0, there will be thrown an {@link IllegalStateException}.
+     *
+     * @param duration The duration, which should be checked.
+     * @param name The name of the object.
+     */
+    @Contract("null, _ -> fail")
+    public static void notNegative(@Nullable Duration duration, @NotNull String name)
+    {
+        notNull(duration, name);
+
+        if (duration.isNegative())
+        {
+            throw new IllegalStateException("\"" + name + "\" may not be negative.");
+        }
+    }
+
+    /**
+     * If the given integer is below 1, there will be thrown an {@link IllegalStateException}.
+     *
+     * @param number The number, which should be checked.
+     * @param name The name of the object.
+     */
+    public static void positive(int number, @NotNull String name)
+    {
+        if (number < 1)
+        {
+            throw new IllegalStateException("\"" + name + "\" must be positive.");
+        }
+    }
+
     /**
      * Checks if the following input contains matches.
      *
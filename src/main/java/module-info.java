@@ -12,6 +12,7 @@ module tixte4j {
     requires com.fasterxml.jackson.databind;
 
     requires okhttp3;
+    requires okio;
     requires org.slf4j;
     requires org.apache.commons.collections4;
 
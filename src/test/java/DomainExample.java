@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 
+import dev.blocky.library.tixte.api.DeleteResult;
 import dev.blocky.library.tixte.api.Domains;
 import org.jetbrains.annotations.NotNull;
 
@@ -75,7 +76,7 @@ public class DomainExample
      * @return Deletes a domain of your domain collection.
      */
     @NotNull
-    public static Domains deleteDomain() throws InterruptedException, IOException
+    public static DeleteResult deleteDomain() throws InterruptedException, IOException
     {
         final Domains domains = new Domains();
 
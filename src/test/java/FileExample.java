@@ -14,7 +14,9 @@
  * limitations under the License.
  */
 
+import dev.blocky.library.tixte.api.DeleteResult;
 import dev.blocky.library.tixte.api.MyFiles;
+import dev.blocky.library.tixte.api.UploadResult;
 import org.apache.commons.io.FileUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -40,7 +42,7 @@ public class FileExample
      * @return Upload a file to Tixte by initializing a <b>new</b> {@link File}.
      */
     @NotNull
-    public static MyFiles uploadFile() throws InterruptedException, IOException
+    public static UploadResult uploadFile() throws InterruptedException, IOException
     {
         final MyFiles myFiles = new MyFiles();
 
@@ -65,7 +67,7 @@ public class FileExample
      * @return Upload a file from a specific {@link URL} to Tixte by initializing a <b>new</b> {@link File}.
      */
     @NotNull
-    public static MyFiles uploadFileFromURL() throws InterruptedException, IOException
+    public static UploadResult uploadFileFromURL() throws InterruptedException, IOException
     {
         final MyFiles myFiles = new MyFiles();
 
@@ -96,7 +98,7 @@ public class FileExample
      * @return Delete any kind of file from your Tixte dashboard.
      */
     @NotNull
-    public static MyFiles deleteFile() throws InterruptedException, IOException
+    public static DeleteResult deleteFile() throws InterruptedException, IOException
     {
         final MyFiles myFiles = new MyFiles();
 
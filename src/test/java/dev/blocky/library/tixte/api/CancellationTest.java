@@ -0,0 +1,111 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.api.enums.RequestPriority;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import okhttp3.Dispatcher;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests, that cancelling a returned {@link CompletableFuture} cancels the request behind it.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class CancellationTest
+{
+    @TempDir
+    File cacheDirectory;
+
+    private MockTixte tixte;
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        TixteClientBuilder.maxRequests = 64;
+        TixteClientBuilder.maxRequestsPerHost = 25;
+        TixteClientBuilder.adaptiveConcurrency = true;
+
+        tixte.close();
+    }
+
+    @Test
+    void cancellingAsyncUploadCancelsTheCall() throws Exception
+    {
+        tixte = new MockTixte(CachePolicy.NONE, cacheDirectory);
+        tixte.enqueue(200, "{}").setHeadersDelay(10, TimeUnit.SECONDS);
+
+        final byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        final CompletableFuture<UploadResult> upload = new MyFiles().uploadFileAsync(UploadSource.of(content, "file.txt"), "example.tixte.co", false);
+
+        assertNotNull(tixte.server.takeRequest(5, TimeUnit.SECONDS));
+
+        upload.cancel(true);
+
+        awaitIdle(TixteClientBuilder.uploadClient.dispatcher());
+    }
+
+    @Test
+    void cancelledRequestIsNotSentAfterItLeftTheQueue() throws Exception
+    {
+        tixte = new MockTixte(new TixteClientBuilder()
+                .create(MockTixte.API_KEY, CachePolicy.NONE)
+                .setCache(cacheDirectory, 1024 * 1024)
+                .setAdaptiveConcurrency(false)
+                .setMaxRequests(1)
+                .setMaxRequestsPerHost(1));
+
+        tixte.enqueue(200, "{\"success\":true,\"data\":{}}").setHeadersDelay(300, TimeUnit.MILLISECONDS);
+        tixte.enqueue(200, "{\"success\":true,\"data\":{}}");
+
+        final CompletableFuture<DataObject> first = RawResponseData.getUserInfoJsonAsync();
+        final CompletableFuture<DataObject> second = RawResponseData.getUserInfoJsonAsync();
+
+        assertEquals(1, TixteClientBuilder.scheduler.queuedCount(RequestPriority.INTERACTIVE));
+
+        second.cancel(true);
+
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        awaitIdle(TixteClientBuilder.client.dispatcher());
+
+        assertTrue(second.isCancelled());
+        assertEquals(1, tixte.server.getRequestCount());
+    }
+
+    private static void awaitIdle(@NotNull Dispatcher dispatcher) throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+
+        while (dispatcher.runningCallsCount() > 0 && System.nanoTime() < deadline)
+        {
+            Thread.sleep(10);
+        }
+        assertEquals(0, dispatcher.runningCallsCount());
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests, that the HTTP disk cache neither stores credentials nor shares responses between accounts.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class DiskCacheTest
+{
+    private static final String OTHER_API_KEY = "87654321-dcba-dcba-dcba-cba987654321";
+    private static final String DOMAINS = "{\"success\":true,\"data\":{\"total\":1,\"domains\":[{\"uploads\":1,\"name\":\"example.tixte.co\"}]}}";
+
+    @TempDir
+    File cacheDirectory;
+
+    private MockTixte tixte;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        tixte = new MockTixte(CachePolicy.ONLY_NETWORK_CACHE, cacheDirectory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        tixte.close();
+    }
+
+    @Test
+    void apiKeysAreNeverStored() throws Exception
+    {
+        final String keys = "{\"success\":true,\"data\":{\"keys\":[{\"key\":\"" + MockTixte.API_KEY + "\"}]}}";
+
+        tixte.enqueue(200, keys);
+        tixte.enqueue(200, keys);
+
+        RawResponseData.getAPIKeyBySessionTokenRaw().resultNow();
+        RawResponseData.getAPIKeyBySessionTokenRaw().resultNow();
+
+        assertEquals(2, tixte.server.getRequestCount());
+    }
+
+    @Test
+    void ownUserIsNeverStored() throws Exception
+    {
+        final String self = "{\"success\":true,\"data\":{\"id\":\"1\",\"username\":\"user\",\"email\":\"user@example.com\",\"phone\":\"+1\"}}";
+
+        tixte.enqueue(200, self);
+        tixte.enqueue(200, self);
+
+        RawResponseData.getUserInfoRaw().resultNow();
+        RawResponseData.getUserInfoRaw().resultNow();
+
+        assertEquals(2, tixte.server.getRequestCount());
+    }
+
+    @Test
+    void responsesAreStoredPerAccount() throws Exception
+    {
+        tixte.enqueue(200, DOMAINS);
+
+        RawResponseData.getUsableDomainsRaw().resultNow();
+        RawResponseData.getUsableDomainsRaw().resultNow();
+
+        assertEquals(1, tixte.server.getRequestCount());
+
+        tixte.rebuild(new TixteClientBuilder().create(OTHER_API_KEY, CachePolicy.ONLY_NETWORK_CACHE).setCache(cacheDirectory, 1024 * 1024));
+        tixte.enqueue(200, DOMAINS);
+
+        RawResponseData.getUsableDomainsRaw().resultNow();
+
+        assertEquals(2, tixte.server.getRequestCount());
+    }
+
+    @Test
+    void cacheDirectoryIsOnlyAccessibleByTheOwner() throws Exception
+    {
+        final File[] directories = cacheDirectory.listFiles(File::isDirectory);
+
+        assertNotNull(directories);
+        assertEquals(1, directories.length);
+
+        // The directory must not contain the credentials.
+        assertFalse(directories[0].getName().contains(MockTixte.API_KEY));
+
+        final PosixFileAttributeView view = Files.getFileAttributeView(directories[0].toPath(), PosixFileAttributeView.class);
+        assumeTrue(view != null);
+
+        assertEquals(PosixFilePermissions.fromString("rwx------"), view.readAttributes().permissions());
+    }
+}
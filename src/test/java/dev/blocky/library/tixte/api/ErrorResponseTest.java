@@ -0,0 +1,96 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.api.exceptions.NotFound;
+import dev.blocky.library.tixte.api.exceptions.Unauthorized;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests, how error-responses reach the caller.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class ErrorResponseTest
+{
+    private final List<Throwable> uncaught = new CopyOnWriteArrayList<>();
+    private Thread.UncaughtExceptionHandler previousHandler;
+    private MockTixte tixte;
+
+    @BeforeEach
+    void setUp(@TempDir File cacheDirectory) throws Exception
+    {
+        previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, throwable) -> uncaught.add(throwable));
+
+        tixte = new MockTixte(CachePolicy.NONE, cacheDirectory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        tixte.close();
+        Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+    }
+
+    @Test
+    void asyncErrorCompletesWithTypedException()
+    {
+        tixte.enqueue(404, MockTixte.error("not_found", "Unknown file"));
+
+        final CompletionException e = assertThrows(CompletionException.class, () -> RawResponseData.getUserInfoJsonAsync().join());
+
+        assertInstanceOf(NotFound.class, e.getCause());
+        assertEquals("Unknown file", e.getCause().getMessage());
+    }
+
+    @Test
+    void asyncErrorIsNotRethrownOnTheDispatcherThread() throws Exception
+    {
+        tixte.enqueue(401, MockTixte.error("unauthorized", "Invalid key"));
+
+        assertThrows(CompletionException.class, () -> RawResponseData.getUserInfoJsonAsync().join());
+
+        // The dispatcher thread finishes the call after the callback.
+        TixteClientBuilder.dispatcher.executorService().shutdown();
+        assertTrue(TixteClientBuilder.dispatcher.executorService().awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of(), uncaught);
+    }
+
+    @Test
+    void blockingErrorThrowsTypedException()
+    {
+        tixte.enqueue(401, MockTixte.error("unauthorized", "Invalid key"));
+
+        final Unauthorized e = assertThrows(Unauthorized.class, RawResponseData::getUserInfoJson);
+        assertEquals("Invalid key", e.getMessage());
+    }
+}
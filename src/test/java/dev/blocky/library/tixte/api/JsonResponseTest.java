@@ -0,0 +1,83 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests, how json responses get decoded from the response body stream.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class JsonResponseTest
+{
+    private static final int UPLOAD_COUNT = 20_000;
+
+    private MockTixte tixte;
+
+    @BeforeEach
+    void setUp(@TempDir File cacheDirectory) throws Exception
+    {
+        tixte = new MockTixte(CachePolicy.NONE, cacheDirectory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        tixte.close();
+    }
+
+    @Test
+    void blockingRequestDecodesResponsesLargerThanOneMegabyte() throws Exception
+    {
+        tixte.enqueue(200, StreamUploadsTest.uploadsBody(UPLOAD_COUNT));
+
+        final DataObject json = RawResponseData.getUploadsJson().resultNow();
+        assertEquals(UPLOAD_COUNT, json.getDataObject("data").getDataArray("uploads").length());
+    }
+
+    @Test
+    void asyncRequestDecodesResponsesLargerThanOneMegabyte()
+    {
+        tixte.enqueue(200, StreamUploadsTest.uploadsBody(UPLOAD_COUNT));
+
+        final DataObject json = RawResponseData.getUploadsJsonAsync().join();
+        assertEquals(UPLOAD_COUNT, json.getDataObject("data").getDataArray("uploads").length());
+    }
+
+    @Test
+    void snapshotDecodesEveryUpload() throws Exception
+    {
+        tixte.enqueue(200, StreamUploadsTest.uploadsBody(3));
+
+        final UploadsSnapshot snapshot = new MyFiles().getUploadsSnapshot();
+
+        assertEquals(3, snapshot.uploads().size());
+        assertEquals(3, snapshot.totalUploadCount());
+        assertEquals("asset2", snapshot.uploads().get(2).assetId());
+    }
+}
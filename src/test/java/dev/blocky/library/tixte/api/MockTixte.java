@@ -0,0 +1,131 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Builds a {@link TixteClient}, of which every request gets answered by a {@link MockWebServer}.
+ * <br>The requests keep their path and headers, only the scheme, host and port get replaced.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+final class MockTixte implements AutoCloseable
+{
+    static final String API_KEY = "12345678-abcd-abcd-abcd-123456789abc";
+    static final String SESSION_TOKEN = "tx.abcdefghijklmnop.abcdefghijklmnop.abcdefghijklmnop.abcd";
+
+    final MockWebServer server = new MockWebServer();
+
+    MockTixte(@Nullable CachePolicy policy, @NotNull File cacheDirectory) throws IOException
+    {
+        this(new TixteClientBuilder().create(API_KEY, policy).setSessionToken(SESSION_TOKEN).setCache(cacheDirectory, 1024 * 1024));
+    }
+
+    MockTixte(@NotNull TixteClientBuilder builder) throws IOException
+    {
+        server.start();
+        rebuild(builder);
+    }
+
+    /**
+     * Builds the client again, while its requests still get answered by the same {@link MockWebServer}.
+     *
+     * @param builder The {@link TixteClientBuilder}, which builds the client.
+     */
+    void rebuild(@NotNull TixteClientBuilder builder)
+    {
+        builder.build();
+
+        TixteClientBuilder.client = redirect(TixteClientBuilder.client);
+        TixteClientBuilder.uploadClient = redirect(TixteClientBuilder.uploadClient);
+        TixteClientBuilder.scheduler = new PriorityScheduler(TixteClientBuilder.client, TixteClientBuilder.concurrencyLimiter, TixteClientBuilder.rateLimiter);
+        TixteClientBuilder.uploadScheduler = new PriorityScheduler(TixteClientBuilder.uploadClient, TixteClientBuilder.uploadConcurrencyLimiter,
+                TixteClientBuilder.rateLimiter);
+    }
+
+    /**
+     * Enqueues a response with the specified code and body.
+     *
+     * @param code The response code.
+     * @param body The body of the response.
+     *
+     * @return The enqueued {@link MockResponse}, which can still be modified.
+     */
+    @NotNull
+    MockResponse enqueue(int code, @NotNull String body)
+    {
+        final MockResponse response = new MockResponse()
+                .setResponseCode(code)
+                .setHeader("Content-Type", "application/json")
+                .setBody(body);
+
+        server.enqueue(response);
+        return response;
+    }
+
+    /**
+     * Creates the body of an error-response, like Tixte sends it.
+     *
+     * @param code The error code.
+     * @param message The error message.
+     *
+     * @return The body of the error-response.
+     */
+    @NotNull
+    static String error(@NotNull String code, @NotNull String message)
+    {
+        return "{\"success\":false,\"error\":{\"code\":\"" + code + "\",\"message\":\"" + message + "\"}}";
+    }
+
+    @NotNull
+    private OkHttpClient redirect(@NotNull OkHttpClient client)
+    {
+        final Interceptor redirect = chain ->
+        {
+            final Request request = chain.request();
+            final HttpUrl url = request.url().newBuilder()
+                    .scheme("http")
+                    .host(server.getHostName())
+                    .port(server.getPort())
+                    .build();
+            return chain.proceed(request.newBuilder().url(url).build());
+        };
+
+        final OkHttpClient.Builder builder = client.newBuilder();
+        builder.interceptors().add(0, redirect);
+        return builder.build();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        server.shutdown();
+    }
+}
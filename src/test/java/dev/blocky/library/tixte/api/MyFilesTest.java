@@ -0,0 +1,106 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the storage sizes and the deprecated getters of {@link MyFiles} and {@link Domains}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+@SuppressWarnings("deprecation")
+class MyFilesTest
+{
+    private static final String SIZE = "{\"success\":true,\"data\":{\"used\":3000000000,\"premium\":1,\"limit\":200000000000}}";
+
+    private MockTixte tixte;
+
+    @BeforeEach
+    void setUp(@TempDir File cacheDirectory) throws Exception
+    {
+        tixte = new MockTixte(CachePolicy.NONE, cacheDirectory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        tixte.close();
+    }
+
+    @Test
+    void sizesAboveTwoGigabytes() throws Exception
+    {
+        final MyFiles myFiles = new MyFiles();
+
+        tixte.enqueue(200, SIZE);
+        assertEquals(3_000_000_000L, myFiles.getUsedSize());
+
+        tixte.enqueue(200, SIZE);
+        assertEquals(200_000_000_000L, myFiles.getLimitAsync().join());
+
+        tixte.enqueue(200, SIZE);
+        assertEquals(197_000_000_000L, myFiles.getRemainingSizeAsync().join());
+    }
+
+    @Test
+    void deprecatedGettersDelegateToTheLastUpload() throws Exception
+    {
+        final MyFiles myFiles = new MyFiles();
+        final byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+
+        tixte.enqueue(200, upload("first"));
+        myFiles.uploadFile(UploadSource.of(content, "first.txt"), "example.tixte.co", false);
+
+        assertEquals(Optional.of("https://example.tixte.co/first.txt"), myFiles.getURL());
+
+        tixte.enqueue(200, upload("second"));
+        final UploadResult result = myFiles.uploadFileAsync(UploadSource.of(content, "second.txt"), "example.tixte.co", false).join();
+
+        assertEquals(Optional.of(result.url()), myFiles.getURL());
+        assertEquals(Optional.of(result.directURL()), myFiles.getDirectURL());
+        assertEquals(Optional.of(result.deletionURL()), myFiles.getDeletionURL());
+    }
+
+    @Test
+    void deprecatedGetterDelegatesToTheLastDeletedDomain()
+    {
+        final Domains domains = new Domains();
+
+        tixte.enqueue(200, "{\"success\":true,\"data\":{\"message\":\"Deleted\",\"domain\":\"example.tixte.co\"}}");
+        domains.deleteDomainAsync("example.tixte.co").join();
+
+        assertEquals(Optional.of("example.tixte.co"), domains.getLastDeletedDomain());
+    }
+
+    private static String upload(String name)
+    {
+        return "{\"success\":true,\"data\":{\"id\":\"" + name + "\",\"url\":\"https://example.tixte.co/" + name + ".txt\"," +
+                "\"direct_url\":\"https://example.tixte.co/r/" + name + ".txt\",\"deletion_url\":\"https://api.tixte.com/v1/upload/" + name + "/delete\"}}";
+    }
+}
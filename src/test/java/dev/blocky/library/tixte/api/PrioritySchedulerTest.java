@@ -0,0 +1,305 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.RequestPriority;
+import dev.blocky.library.tixte.internal.interceptor.ConcurrencyLimitInterceptor;
+import dev.blocky.library.tixte.internal.interceptor.RateLimitInterceptor;
+import okhttp3.*;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests, that the {@link PriorityScheduler} enforces the adaptive limit and the priorities.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class PrioritySchedulerTest
+{
+    private final MockWebServer server = new MockWebServer();
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final AtomicInteger current = new AtomicInteger(), max = new AtomicInteger();
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        // Requests to '/block' are held until the gate opens, requests to '/limited' empty their bucket for 300 ms.
+        server.setDispatcher(new okhttp3.mockwebserver.Dispatcher()
+        {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException
+            {
+                max.accumulateAndGet(current.incrementAndGet(), Math::max);
+
+                try
+                {
+                    if (request.getPath().startsWith("/block"))
+                    {
+                        gate.await(5, TimeUnit.SECONDS);
+                    }
+
+                    if (request.getPath().startsWith("/limited"))
+                    {
+                        return new MockResponse()
+                                .setHeader("X-RateLimit-Limit", "1")
+                                .setHeader("X-RateLimit-Remaining", "0")
+                                .setHeader("X-RateLimit-Reset-After", "0.3")
+                                .setBody("{}");
+                    }
+                    return new MockResponse().setBody("{}");
+                }
+                finally
+                {
+                    current.decrementAndGet();
+                }
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException
+    {
+        gate.countDown();
+        server.shutdown();
+
+        if (client != null)
+        {
+            client.dispatcher().executorService().shutdown();
+        }
+    }
+
+    @Test
+    void callsAboveTheLimitWaitInTheScheduler() throws Exception
+    {
+        final PriorityScheduler scheduler = newScheduler(2);
+        final CountDownLatch completed = new CountDownLatch(5);
+
+        for (int i = 0; i < 5; i++)
+        {
+            scheduler.enqueue(request("/block", RequestPriority.INTERACTIVE), countDown(completed));
+        }
+
+        awaitRequests(2);
+
+        // The waiting calls neither hold a thread of the dispatcher nor a connection.
+        assertEquals(3, scheduler.queuedCount(RequestPriority.INTERACTIVE));
+        assertEquals(2, client.dispatcher().runningCallsCount());
+
+        gate.countDown();
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, max.get());
+    }
+
+    @Test
+    void blockingCallWaitsForAFreeSlot() throws Exception
+    {
+        final PriorityScheduler scheduler = newScheduler(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        scheduler.enqueue(request("/block", RequestPriority.INTERACTIVE), countDown(completed));
+        awaitRequests(1);
+
+        final CompletableFuture<String> blocking = CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                final Call call = scheduler.acquire(request("/", RequestPriority.INTERACTIVE));
+
+                try (final Response response = call.execute())
+                {
+                    return response.body().string();
+                }
+                finally
+                {
+                    scheduler.release();
+                }
+            }
+            catch (IOException e)
+            {
+                throw new CompletionException(e);
+            }
+        });
+
+        Thread.sleep(200);
+
+        assertFalse(blocking.isDone());
+        assertEquals(1, scheduler.queuedCount(RequestPriority.INTERACTIVE));
+
+        gate.countDown();
+
+        assertEquals("{}", blocking.get(5, TimeUnit.SECONDS));
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, max.get());
+    }
+
+    @Test
+    void interactiveCallsOvertakeBackgroundCalls() throws Exception
+    {
+        final PriorityScheduler scheduler = newScheduler(1);
+        final CountDownLatch completed = new CountDownLatch(3);
+
+        scheduler.enqueue(request("/block", RequestPriority.INTERACTIVE), countDown(completed));
+        awaitRequests(1);
+
+        scheduler.enqueue(request("/background", RequestPriority.BACKGROUND), countDown(completed));
+        scheduler.enqueue(request("/interactive", RequestPriority.INTERACTIVE), countDown(completed));
+
+        gate.countDown();
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals("/block", server.takeRequest().getPath());
+        assertEquals("/interactive", server.takeRequest().getPath());
+        assertEquals("/background", server.takeRequest().getPath());
+    }
+
+    @Test
+    void cancelAllWakesUpBlockingCalls() throws Exception
+    {
+        final PriorityScheduler scheduler = newScheduler(1);
+
+        scheduler.enqueue(request("/block", RequestPriority.INTERACTIVE), countDown(new CountDownLatch(1)));
+        awaitRequests(1);
+
+        final CompletableFuture<Call> blocking = CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                return scheduler.acquire(request("/", RequestPriority.INTERACTIVE));
+            }
+            catch (IOException e)
+            {
+                throw new CompletionException(e);
+            }
+        });
+
+        Thread.sleep(200);
+        scheduler.cancelAll();
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> blocking.get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IOException.class, e.getCause());
+        assertEquals(0, scheduler.queuedCount(RequestPriority.INTERACTIVE));
+    }
+
+    @Test
+    void rateLimitedCallsWaitInTheScheduler() throws Exception
+    {
+        final RateLimitInterceptor rateLimiter = new RateLimitInterceptor();
+        final PriorityScheduler scheduler = newScheduler(4, rateLimiter);
+        final CountDownLatch first = new CountDownLatch(1), other = new CountDownLatch(1), limited = new CountDownLatch(1);
+
+        scheduler.enqueue(request("/limited", RequestPriority.INTERACTIVE), countDown(first));
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        final long startNanos = System.nanoTime();
+
+        scheduler.enqueue(request("/limited", RequestPriority.INTERACTIVE), countDown(limited));
+        scheduler.enqueue(request("/other", RequestPriority.BACKGROUND), countDown(other));
+
+        // The rate-limited call neither holds back the call of the other bucket nor gets handed to the dispatcher.
+        assertTrue(other.await(5, TimeUnit.SECONDS));
+        assertEquals(1, scheduler.queuedCount(RequestPriority.INTERACTIVE));
+        assertTrue(client.dispatcher().runningCalls().stream().noneMatch(call -> call.request().url().encodedPath().equals("/limited")));
+
+        assertTrue(limited.await(5, TimeUnit.SECONDS));
+        assertEquals("/limited", server.takeRequest().getPath());
+        assertEquals("/other", server.takeRequest().getPath());
+        assertEquals("/limited", server.takeRequest().getPath());
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @NotNull
+    private PriorityScheduler newScheduler(int limit)
+    {
+        return newScheduler(limit, null);
+    }
+
+    @NotNull
+    private PriorityScheduler newScheduler(int limit, @Nullable RateLimitInterceptor rateLimiter)
+    {
+        final ConcurrencyLimitInterceptor limiter = new ConcurrencyLimitInterceptor(limit, limit);
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+
+        if (rateLimiter != null)
+        {
+            builder.addInterceptor(rateLimiter).addNetworkInterceptor(rateLimiter.getBucketInterceptor());
+        }
+
+        client = builder.addNetworkInterceptor(limiter).build();
+        return new PriorityScheduler(client, limiter, rateLimiter);
+    }
+
+    @NotNull
+    private Request request(@NotNull String path, @NotNull RequestPriority priority)
+    {
+        return new Request.Builder()
+                .url(server.url(path))
+                .tag(RequestPriority.class, priority)
+                .build();
+    }
+
+    private void awaitRequests(int count) throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (server.getRequestCount() < count && System.nanoTime() < deadline)
+        {
+            Thread.sleep(10);
+        }
+        assertEquals(count, server.getRequestCount());
+    }
+
+    @NotNull
+    private static Callback countDown(@NotNull CountDownLatch latch)
+    {
+        return new Callback()
+        {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e)
+            {
+                latch.countDown();
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException
+            {
+                try (response)
+                {
+                    response.body().string();
+                }
+                latch.countDown();
+            }
+        };
+    }
+}
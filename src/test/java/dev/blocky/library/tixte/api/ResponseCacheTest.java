@@ -0,0 +1,245 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.internal.requests.Route;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the W-TinyLFU eviction, the stale window and the invalidation generation of the {@link ResponseCache}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class ResponseCacheTest
+{
+    private static final Duration FRESH = Duration.ofMinutes(1);
+    private static final Duration STALE_WINDOW = Duration.ofMinutes(1);
+
+    @Test
+    void freshResponseGetsServedWithoutRefresh()
+    {
+        final ResponseCache cache = new ResponseCache(100);
+        final ResponseCache.Key key = key(0);
+
+        cache.put(key, value(1), FRESH, Duration.ZERO, cache.generation());
+
+        final ResponseCache.Lookup lookup = cache.get(key);
+
+        assertNotNull(lookup);
+        assertEquals(1, lookup.value().getInt("value"));
+        assertFalse(lookup.refresh());
+    }
+
+    @Test
+    void staleResponseGetsRefreshedByTheFirstCallerOnly() throws Exception
+    {
+        final ResponseCache cache = new ResponseCache(100);
+        final ResponseCache.Key key = key(0);
+        final long generation = cache.generation();
+
+        cache.put(key, value(1), Duration.ofMillis(1), STALE_WINDOW, generation);
+        Thread.sleep(5);
+
+        assertTrue(cache.get(key).refresh());
+        assertFalse(cache.get(key).refresh());
+        assertEquals(1, cache.get(key).value().getInt("value"));
+
+        cache.refreshed(key, value(2), FRESH, STALE_WINDOW, generation);
+
+        final ResponseCache.Lookup lookup = cache.get(key);
+
+        assertEquals(2, lookup.value().getInt("value"));
+        assertFalse(lookup.refresh());
+    }
+
+    @Test
+    void failedRefreshCanBeRetried() throws Exception
+    {
+        final ResponseCache cache = new ResponseCache(100);
+        final ResponseCache.Key key = key(0);
+
+        cache.put(key, value(1), Duration.ofMillis(1), STALE_WINDOW, cache.generation());
+        Thread.sleep(5);
+
+        assertTrue(cache.get(key).refresh());
+
+        cache.refreshed(key, null, Duration.ZERO, Duration.ZERO, cache.generation());
+
+        assertTrue(cache.get(key).refresh());
+    }
+
+    @Test
+    void responseAfterTheStaleWindowIsNotServed() throws Exception
+    {
+        final ResponseCache cache = new ResponseCache(100);
+        final ResponseCache.Key key = key(0);
+
+        cache.put(key, value(1), Duration.ofMillis(1), Duration.ofMillis(1), cache.generation());
+        Thread.sleep(5);
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void responseSentBeforeAnInvalidationIsNotStored()
+    {
+        final ResponseCache cache = new ResponseCache(100);
+        final ResponseCache.Key key = key(0);
+        final long generation = cache.generation();
+
+        cache.invalidate(List.of(key.route()));
+        cache.put(key, value(1), FRESH, Duration.ZERO, generation);
+
+        assertNull(cache.get(key));
+
+        // Other routes are not affected.
+        final ResponseCache.Key other = new ResponseCache.Key(Route.Self.GET_CONFIG, "users/@me/config", MockTixte.API_KEY);
+
+        cache.put(other, value(1), FRESH, Duration.ZERO, generation);
+
+        assertNotNull(cache.get(other));
+    }
+
+    @Test
+    void refreshSentBeforeAnInvalidationIsNotStored() throws Exception
+    {
+        final ResponseCache cache = new ResponseCache(100);
+        final ResponseCache.Key key = key(0);
+
+        cache.put(key, value(1), Duration.ofMillis(1), STALE_WINDOW, cache.generation());
+        Thread.sleep(5);
+
+        final long refreshGeneration = cache.generation();
+
+        assertTrue(cache.get(key).refresh());
+
+        // The route gets invalidated and requested again, while the first refresh is still in flight.
+        cache.invalidate(List.of(key.route()));
+        cache.put(key, value(2), Duration.ofMillis(1), STALE_WINDOW, cache.generation());
+        Thread.sleep(5);
+
+        assertTrue(cache.get(key).refresh());
+
+        cache.refreshed(key, value(3), FRESH, STALE_WINDOW, refreshGeneration);
+
+        assertEquals(2, cache.get(key).value().getInt("value"));
+    }
+
+    @Test
+    void refreshSentBeforeClearIsNotStored() throws Exception
+    {
+        final ResponseCache cache = new ResponseCache(100);
+        final ResponseCache.Key key = key(0);
+
+        cache.put(key, value(1), Duration.ofMillis(1), STALE_WINDOW, cache.generation());
+        Thread.sleep(5);
+
+        final long refreshGeneration = cache.generation();
+
+        assertTrue(cache.get(key).refresh());
+
+        cache.clear();
+        cache.put(key, value(2), Duration.ofMillis(1), STALE_WINDOW, cache.generation());
+        Thread.sleep(5);
+
+        assertTrue(cache.get(key).refresh());
+
+        cache.refreshed(key, value(3), FRESH, STALE_WINDOW, refreshGeneration);
+
+        assertEquals(2, cache.get(key).value().getInt("value"));
+    }
+
+    @Test
+    void burstOfOneHitResponsesDoesNotEvictPopularResponses()
+    {
+        final ResponseCache cache = new ResponseCache(100);
+
+        for (int i = 0; i < 99; i++)
+        {
+            cache.put(key(i), value(i), FRESH, Duration.ZERO, cache.generation());
+        }
+
+        for (int hit = 0; hit < 3; hit++)
+        {
+            for (int i = 0; i < 99; i++)
+            {
+                assertNotNull(cache.get(key(i)));
+            }
+        }
+
+        for (int i = 1000; i < 1200; i++)
+        {
+            cache.put(key(i), value(i), FRESH, Duration.ZERO, cache.generation());
+        }
+
+        for (int i = 0; i < 99; i++)
+        {
+            assertNotNull(cache.get(key(i)), "popular response " + i + " got evicted");
+        }
+
+        final ResponseCacheStats stats = cache.stats();
+
+        assertTrue(stats.rejectionCount() >= 199);
+        assertTrue(stats.size() <= 100);
+    }
+
+    @Test
+    void frequentlyRequestedResponseGetsAdmitted()
+    {
+        final ResponseCache cache = new ResponseCache(100);
+
+        for (int i = 0; i < 99; i++)
+        {
+            cache.put(key(i), value(i), FRESH, Duration.ZERO, cache.generation());
+        }
+
+        // The misses count as requests, so the response is more popular than every cached response.
+        for (int miss = 0; miss < 5; miss++)
+        {
+            assertNull(cache.get(key(1000)));
+        }
+
+        cache.put(key(1000), value(1000), FRESH, Duration.ZERO, cache.generation());
+
+        // The next response pushes the popular response out of the window into the main cache.
+        cache.put(key(1001), value(1001), FRESH, Duration.ZERO, cache.generation());
+
+        assertNotNull(cache.get(key(1000)));
+        assertEquals(1, cache.stats().evictionCount());
+        assertEquals(0, cache.stats().rejectionCount());
+    }
+
+    @NotNull
+    private static ResponseCache.Key key(int page)
+    {
+        return new ResponseCache.Key(Route.Self.GET_UPLOADS, "users/@me/uploads?page=" + page, MockTixte.API_KEY);
+    }
+
+    @NotNull
+    private static DataObject value(int value)
+    {
+        return DataObject.fromJson("{\"value\":" + value + "}");
+    }
+}
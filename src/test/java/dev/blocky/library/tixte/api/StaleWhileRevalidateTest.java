@@ -0,0 +1,132 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.internal.requests.Route;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import dev.blocky.library.tixte.internal.requests.json.DataPath;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests, how {@link CachePolicy#STALE_WHILE_REVALIDATE} serves and refreshes stale responses.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class StaleWhileRevalidateTest
+{
+    private MockTixte tixte;
+
+    @BeforeEach
+    void setUp(@TempDir File cacheDirectory) throws Exception
+    {
+        tixte = new MockTixte(new TixteClientBuilder()
+                .create(MockTixte.API_KEY, CachePolicy.STALE_WHILE_REVALIDATE)
+                .setSessionToken(MockTixte.SESSION_TOKEN)
+                .setCache(cacheDirectory, 1024 * 1024)
+                .setCacheTtl(Route.Self.GET_DOMAINS, Duration.ofMillis(1)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        TixteClientBuilder.cacheRules.setTtl(Route.Self.GET_DOMAINS, Duration.ofHours(1));
+        tixte.close();
+    }
+
+    @Test
+    void staleResponseIsServedWhileOneRefreshUpdatesIt() throws Exception
+    {
+        tixte.enqueue(200, domains("first"));
+        assertEquals("first", name(RawResponseData.getUserDomainsJsonAsync().join()));
+        Thread.sleep(5);
+
+        tixte.enqueue(200, domains("second")).setHeadersDelay(200, TimeUnit.MILLISECONDS);
+
+        // Both callers get the stale response immediately, but only the first one starts a refresh.
+        assertEquals("first", name(RawResponseData.getUserDomainsJsonAsync().get(100, TimeUnit.MILLISECONDS)));
+        assertEquals("first", name(RawResponseData.getUserDomainsJsonAsync().get(100, TimeUnit.MILLISECONDS)));
+
+        // The refreshed response stays fresh, so it doesn't get refreshed again.
+        TixteClientBuilder.cacheRules.setTtl(Route.Self.GET_DOMAINS, Duration.ofHours(1));
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String name = "first";
+
+        while ("first".equals(name) && System.nanoTime() < deadline)
+        {
+            Thread.sleep(10);
+            name = name(RawResponseData.getUserDomainsJsonAsync().join());
+        }
+
+        assertEquals("second", name);
+        assertEquals(2, tixte.server.getRequestCount());
+    }
+
+    @Test
+    void failedRefreshCanBeRetried() throws Exception
+    {
+        tixte.enqueue(200, domains("first"));
+        RawResponseData.getUserDomainsJsonAsync().join();
+        Thread.sleep(5);
+
+        final PriorityScheduler scheduler = TixteClientBuilder.scheduler;
+
+        // The refresh can't be enqueued.
+        TixteClientBuilder.scheduler = null;
+
+        try
+        {
+            assertThrows(NullPointerException.class, RawResponseData::getUserDomainsJsonAsync);
+        }
+        finally
+        {
+            TixteClientBuilder.scheduler = scheduler;
+        }
+
+        tixte.enqueue(200, domains("second"));
+
+        // The stale response is still served, while the next refresh gets sent.
+        assertEquals("first", name(RawResponseData.getUserDomainsJsonAsync().join()));
+
+        tixte.server.takeRequest();
+        assertNotNull(tixte.server.takeRequest(5, TimeUnit.SECONDS));
+    }
+
+    @NotNull
+    private static String domains(@NotNull String name)
+    {
+        return "{\"success\":true,\"data\":{\"total\":1,\"domains\":[{\"uploads\":1,\"name\":\"" + name + ".tixte.co\"}]}}";
+    }
+
+    @NotNull
+    private static String name(@NotNull DataObject json)
+    {
+        return DataPath.getString(json, "data.domains[0].name").replace(".tixte.co", "");
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.api.exceptions.Forbidden;
+import dev.blocky.library.tixte.api.exceptions.HTTPException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link MyFiles#streamUploads()}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class StreamUploadsTest
+{
+    private MockTixte tixte;
+
+    @BeforeEach
+    void setUp(@TempDir File cacheDirectory) throws Exception
+    {
+        tixte = new MockTixte(CachePolicy.NONE, cacheDirectory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        tixte.close();
+    }
+
+    @Test
+    void streamsResponsesLargerThanOneMegabyte() throws Exception
+    {
+        final int count = 20_000;
+        final String body = uploadsBody(count);
+
+        assertTrue(body.length() > 2_000_000);
+        tixte.enqueue(200, body);
+
+        try (final Stream<Upload> uploads = new MyFiles().streamUploads())
+        {
+            assertEquals(count, uploads.count());
+        }
+    }
+
+    @Test
+    void errorResponseThrowsTypedException()
+    {
+        tixte.enqueue(403, MockTixte.error("forbidden", "Missing permission"));
+
+        final Forbidden e = assertThrows(Forbidden.class, () -> new MyFiles().streamUploads());
+        assertEquals("Missing permission", e.getMessage());
+    }
+
+    @Test
+    void errorResponseWithoutJsonStillThrowsHTTPException()
+    {
+        tixte.enqueue(502, "<html>Bad Gateway</html>");
+
+        final HTTPException e = assertThrows(HTTPException.class, () -> new MyFiles().streamUploads());
+        assertTrue(e.getMessage().startsWith("502"));
+    }
+
+    /**
+     * Creates the body of an uploads response with the specified count of uploads.
+     *
+     * @param count The count of uploads.
+     *
+     * @return The body of the response.
+     */
+    static String uploadsBody(int count)
+    {
+        final StringBuilder builder = new StringBuilder("{\"success\":true,\"size\":" + count + ",\"data\":{\"total\":" + count
+                + ",\"results\":" + count + ",\"uploads\":[");
+
+        for (int i = 0; i < count; i++)
+        {
+            if (i > 0)
+            {
+                builder.append(',');
+            }
+
+            builder.append("{\"asset_id\":\"asset").append(i)
+                    .append("\",\"name\":\"file").append(i)
+                    .append("\",\"extension\":\"png\",\"domain\":\"example.tixte.co\",\"mimetype\":\"image/png\"")
+                    .append(",\"size\":").append(1000 + i)
+                    .append(",\"type\":1,\"permission_level\":3,\"uploaded_at\":\"2022-12-01T10:00:00.000Z\",\"expiration\":null}");
+        }
+        return builder.append("]}}").toString();
+    }
+}
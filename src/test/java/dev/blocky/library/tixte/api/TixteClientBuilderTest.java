@@ -0,0 +1,82 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.api;
+
+import dev.blocky.library.tixte.api.enums.CachePolicy;
+import dev.blocky.library.tixte.internal.requests.json.DataObject;
+import okhttp3.Dispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the clients, which get built by the {@link TixteClientBuilder}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class TixteClientBuilderTest
+{
+    @TempDir
+    File cacheDirectory;
+
+    @AfterEach
+    void tearDown()
+    {
+        TixteClientBuilder.virtualThreads = false;
+    }
+
+    @Test
+    void virtualThreadsRunRequestsOrFallBackToPlatformThreads() throws Exception
+    {
+        final TixteClientBuilder builder = new TixteClientBuilder()
+                .create(MockTixte.API_KEY, CachePolicy.NONE)
+                .setVirtualThreads(true);
+
+        try (final MockTixte tixte = new MockTixte(builder))
+        {
+            tixte.enqueue(200, "{\"data\":{\"id\":\"blocking\"}}");
+            tixte.enqueue(200, "{\"data\":{\"id\":\"async\"}}");
+
+            final DataObject blocking = RawResponseData.getUserInfoJson().resultNow();
+            final DataObject async = RawResponseData.getUserInfoJsonAsync().join();
+
+            assertEquals("blocking", blocking.getDataObject("data").getString("id"));
+            assertEquals("async", async.getDataObject("data").getString("id"));
+        }
+    }
+
+    @Test
+    void rebuildShutsDownThePreviousDispatchers() throws Exception
+    {
+        try (final MockTixte ignored = new MockTixte(CachePolicy.NONE, cacheDirectory))
+        {
+            final Dispatcher previous = TixteClientBuilder.dispatcher;
+            final Dispatcher previousUploads = TixteClientBuilder.uploadDispatcher;
+
+            new TixteClientBuilder().build();
+
+            assertTrue(previous.executorService().isShutdown());
+            assertTrue(previousUploads.executorService().isShutdown());
+            assertFalse(TixteClientBuilder.dispatcher.executorService().isShutdown());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.interceptor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the AIMD algorithm of the {@link ConcurrencyLimitInterceptor}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class ConcurrencyLimitInterceptorTest
+{
+    private final MockWebServer server = new MockWebServer();
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException
+    {
+        server.shutdown();
+    }
+
+    @Test
+    void successIncreasesTheLimitByAboutOnePerRoundTrip() throws IOException
+    {
+        final ConcurrencyLimitInterceptor limiter = new ConcurrencyLimitInterceptor(1, 4);
+        final OkHttpClient client = newClient(limiter);
+
+        server.enqueue(new MockResponse().setBody("{}"));
+        execute(client);
+
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void limitNeverExceedsTheMaximum() throws IOException
+    {
+        final ConcurrencyLimitInterceptor limiter = new ConcurrencyLimitInterceptor(1, 2);
+        final OkHttpClient client = newClient(limiter);
+
+        for (int i = 0; i < 5; i++)
+        {
+            server.enqueue(new MockResponse().setBody("{}"));
+            execute(client);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void droppedResponseDecreasesTheLimit() throws IOException
+    {
+        final ConcurrencyLimitInterceptor limiter = new ConcurrencyLimitInterceptor(10, 10);
+        final OkHttpClient client = newClient(limiter);
+
+        server.enqueue(new MockResponse().setResponseCode(503));
+        execute(client);
+
+        assertEquals(9, limiter.getLimit());
+
+        server.enqueue(new MockResponse().setResponseCode(429));
+        execute(client);
+
+        assertEquals((int) (10 * ConcurrencyLimitInterceptor.BACKOFF_RATIO * ConcurrencyLimitInterceptor.BACKOFF_RATIO), limiter.getLimit());
+    }
+
+    @Test
+    void burstOfFailuresOnlyDecreasesTheLimitOnce() throws Exception
+    {
+        final ConcurrencyLimitInterceptor limiter = new ConcurrencyLimitInterceptor(10, 10);
+        final OkHttpClient client = newClient(limiter);
+        final CountDownLatch arrived = new CountDownLatch(2);
+
+        // Both requests are in flight, before the first one fails.
+        server.setDispatcher(new Dispatcher()
+        {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException
+            {
+                arrived.countDown();
+                arrived.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setResponseCode(503);
+            }
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try
+        {
+            final Future<?> first = executor.submit(() -> execute(client));
+            final Future<?> second = executor.submit(() -> execute(client));
+
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @NotNull
+    private OkHttpClient newClient(@NotNull ConcurrencyLimitInterceptor limiter)
+    {
+        return new OkHttpClient.Builder()
+                .addNetworkInterceptor(limiter)
+                .build();
+    }
+
+    private Void execute(@NotNull OkHttpClient client) throws IOException
+    {
+        final Request request = new Request.Builder()
+                .url(server.url("/"))
+                .build();
+
+        try (final Response response = client.newCall(request).execute())
+        {
+            response.body().string();
+        }
+        return null;
+    }
+}
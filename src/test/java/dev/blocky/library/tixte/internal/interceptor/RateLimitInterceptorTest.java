@@ -0,0 +1,246 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.interceptor;
+
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the token buckets and the retries of the {@link RateLimitInterceptor}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class RateLimitInterceptorTest
+{
+    private final MockWebServer server = new MockWebServer();
+    private final RateLimitInterceptor rateLimiter = new RateLimitInterceptor();
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException
+    {
+        server.shutdown();
+    }
+
+    @Test
+    void unknownBucketDoesNotDelay()
+    {
+        assertEquals(0, rateLimiter.reserve(request("/")));
+        assertEquals(0, rateLimiter.reserve(request("/")));
+    }
+
+    @Test
+    void emptyBucketDelaysUntilResetAfter() throws Exception
+    {
+        final OkHttpClient client = newClient(null);
+
+        server.enqueue(new MockResponse()
+                .setHeader("X-RateLimit-Limit", "2")
+                .setHeader("X-RateLimit-Remaining", "0")
+                .setHeader("X-RateLimit-Reset-After", "0.3"));
+        execute(client, "/");
+
+        final long delayNanos = rateLimiter.reserve(request("/"));
+
+        assertTrue(delayNanos > 0 && delayNanos <= TimeUnit.MILLISECONDS.toNanos(300), "delay: " + delayNanos);
+
+        // Other buckets are not affected.
+        assertEquals(0, rateLimiter.reserve(request("/other")));
+
+        TimeUnit.NANOSECONDS.sleep(delayNanos);
+
+        // The bucket gets refilled to its limit.
+        assertEquals(0, rateLimiter.reserve(request("/")));
+        assertEquals(0, rateLimiter.reserve(request("/")));
+        assertTrue(rateLimiter.reserve(request("/")) > 0);
+    }
+
+    @Test
+    void remainingTokensGetTaken() throws Exception
+    {
+        final OkHttpClient client = newClient(null);
+
+        server.enqueue(new MockResponse()
+                .setHeader("X-RateLimit-Limit", "5")
+                .setHeader("X-RateLimit-Remaining", "2")
+                .setHeader("X-RateLimit-Reset-After", "60"));
+        execute(client, "/");
+
+        assertEquals(0, rateLimiter.reserve(request("/")));
+        assertEquals(0, rateLimiter.reserve(request("/")));
+
+        final long delayNanos = rateLimiter.reserve(request("/"));
+
+        assertTrue(delayNanos > TimeUnit.SECONDS.toNanos(50), "delay: " + delayNanos);
+    }
+
+    @Test
+    void resetAsUnixTimestamp() throws Exception
+    {
+        final OkHttpClient client = newClient(null);
+
+        server.enqueue(new MockResponse()
+                .setHeader("X-RateLimit-Remaining", "0")
+                .setHeader("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() / 1000 + 10)));
+        execute(client, "/");
+
+        final long delayNanos = rateLimiter.reserve(request("/"));
+
+        assertTrue(delayNanos > TimeUnit.SECONDS.toNanos(8) && delayNanos <= TimeUnit.SECONDS.toNanos(10), "delay: " + delayNanos);
+    }
+
+    @Test
+    void retryAfterAsHttpDate() throws Exception
+    {
+        final String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+        server.enqueue(new MockResponse()
+                .setResponseCode(429)
+                .setHeader("Retry-After", date));
+
+        // Without the application interceptor the request doesn't get retried.
+        final OkHttpClient client = new OkHttpClient.Builder()
+                .addNetworkInterceptor(rateLimiter.getBucketInterceptor())
+                .build();
+        execute(client, "/");
+
+        final long delayNanos = rateLimiter.reserve(request("/"));
+
+        assertTrue(delayNanos > TimeUnit.SECONDS.toNanos(25), "delay: " + delayNanos);
+    }
+
+    @Test
+    void rateLimitedRequestGetsRetriedAfterRetryAfter() throws Exception
+    {
+        final OkHttpClient client = newClient(null);
+
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0.2"));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        final long startNanos = System.nanoTime();
+
+        assertEquals("ok", execute(client, "/"));
+        assertEquals(2, server.getRequestCount());
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void retriesAreLimited() throws Exception
+    {
+        final OkHttpClient client = newClient(null);
+
+        for (int i = 0; i <= RateLimitInterceptor.MAX_RETRIES; i++)
+        {
+            server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0.01"));
+        }
+
+        try (final Response response = client.newCall(request("/")).execute())
+        {
+            assertEquals(429, response.code());
+        }
+        assertEquals(RateLimitInterceptor.MAX_RETRIES + 1, server.getRequestCount());
+    }
+
+    @Test
+    void globalRateLimitDelaysEveryBucket() throws Exception
+    {
+        final OkHttpClient client = new OkHttpClient.Builder()
+                .addNetworkInterceptor(rateLimiter.getBucketInterceptor())
+                .build();
+
+        server.enqueue(new MockResponse()
+                .setResponseCode(429)
+                .setHeader("X-RateLimit-Global", "true")
+                .setHeader("Retry-After", "30"));
+        execute(client, "/");
+
+        assertTrue(rateLimiter.reserve(request("/other")) > 0);
+    }
+
+    @Test
+    void cachedResponseGivesTheTokenBack(@TempDir File cacheDirectory) throws Exception
+    {
+        final OkHttpClient client = newClient(new Cache(cacheDirectory, 1024 * 1024));
+
+        server.enqueue(new MockResponse()
+                .setHeader("Cache-Control", "max-age=60")
+                .setHeader("X-RateLimit-Limit", "1")
+                .setHeader("X-RateLimit-Remaining", "1")
+                .setBody("cached"));
+
+        assertEquals(0, rateLimiter.reserve(request("/")));
+        assertEquals("cached", execute(client, "/"));
+
+        assertEquals(0, rateLimiter.reserve(request("/")));
+        assertEquals("cached", execute(client, "/"));
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(0, rateLimiter.reserve(request("/")));
+    }
+
+    @NotNull
+    private OkHttpClient newClient(@Nullable Cache cache)
+    {
+        return new OkHttpClient.Builder()
+                .cache(cache)
+                .addInterceptor(rateLimiter)
+                .addNetworkInterceptor(rateLimiter.getBucketInterceptor())
+                .build();
+    }
+
+    @NotNull
+    private Request request(@NotNull String path)
+    {
+        return new Request.Builder()
+                .url(server.url(path))
+                .build();
+    }
+
+    @NotNull
+    private String execute(@NotNull OkHttpClient client, @NotNull String path) throws IOException
+    {
+        try (final Response response = client.newCall(request(path)).execute())
+        {
+            return response.body().string();
+        }
+    }
+}
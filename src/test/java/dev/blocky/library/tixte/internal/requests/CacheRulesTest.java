@@ -0,0 +1,58 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.requests;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the invalidations of the {@link CacheRules}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class CacheRulesTest
+{
+    private final CacheRules rules = new CacheRules();
+
+    @Test
+    void addingDomainInvalidatesEveryListOfDomains()
+    {
+        final List<Route> routes = rules.getInvalidatedRoutes(Route.Self.ADD_DOMAIN);
+
+        assertTrue(routes.contains(Route.Self.GET_DOMAINS));
+        assertTrue(routes.contains(Route.Domain.GET_DOMAINS));
+    }
+
+    @Test
+    void deletingDomainInvalidatesEveryListOfDomains()
+    {
+        final List<Route> routes = rules.getInvalidatedRoutes(Route.Self.DELETE_DOMAIN);
+
+        assertTrue(routes.contains(Route.Self.GET_DOMAINS));
+        assertTrue(routes.contains(Route.Domain.GET_DOMAINS));
+    }
+
+    @Test
+    void queriesInvalidateNothing()
+    {
+        assertEquals(List.of(), rules.getInvalidatedRoutes(Route.Domain.GET_DOMAINS));
+    }
+}
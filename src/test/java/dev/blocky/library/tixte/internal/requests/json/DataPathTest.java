@@ -0,0 +1,103 @@
+/**
+ * Copyright 2022 Dominic R. (aka. BlockyDotJar)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.blocky.library.tixte.internal.requests.json;
+
+import dev.blocky.library.tixte.api.exceptions.ParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the path expressions of {@link DataPath}.
+ *
+ * @author BlockyDotJar
+ * @version v1.0.0
+ * @since v1.2.0
+ */
+class DataPathTest
+{
+    private static final DataObject DOMAINS = DataObject.fromJson("""
+            {
+                "data": {
+                    "domains": [
+                        { "name": "a.tixte.co", "uploads": 3, "active": true, "owner": { "id": "1" } },
+                        { "name": "b.tixte.co", "uploads": 0, "active": false, "owner": { "id": "2" } },
+                        null,
+                        { "name": "c.tixte.co", "uploads": "7", "active": "true", "owner": { "id": "3" } }
+                    ],
+                    "names": ["x", "y"]
+                }
+            }
+            """);
+
+    @Test
+    void compiledPathsGetCached()
+    {
+        assertSame(DataPath.compile("data.domains[0].name"), DataPath.compile("data.domains[0].name"));
+    }
+
+    @Test
+    void resolvesNamesIndexesAndOptionalElements()
+    {
+        assertEquals("b.tixte.co", DataPath.getString(DOMAINS, "data.domains[1].name"));
+        assertEquals("fallback", DataPath.getString(DOMAINS, "data.domains[9]?.name", "fallback"));
+        assertThrows(ParsingException.class, () -> DataPath.getString(DOMAINS, "data.missing.name"));
+    }
+
+    @Test
+    void wildcardExtractsEveryElementOfAColumn()
+    {
+        assertEquals(Arrays.asList("a.tixte.co", "b.tixte.co", null, "c.tixte.co"), DataPath.getStringList(DOMAINS, "data.domains[*]?.name"));
+        assertEquals(Arrays.asList("1", "2", null, "3"), DataPath.getStringList(DOMAINS, "data.domains[*]?.owner.id"));
+    }
+
+    @Test
+    void wildcardAsLastElementExtractsTheArrayItself()
+    {
+        assertEquals(List.of("x", "y"), DataPath.getStringList(DOMAINS, "data.names[*]"));
+    }
+
+    @Test
+    void primitiveColumnsParseStringsAndDefaultMissingValues()
+    {
+        assertArrayEquals(new int[] { 3, 0, 0, 7 }, DataPath.getIntArray(DOMAINS, "data.domains[*]?.uploads"));
+        assertArrayEquals(new boolean[] { true, false, false, true }, DataPath.getBooleanArray(DOMAINS, "data.domains[*]?.active"));
+    }
+
+    @Test
+    void missingOptionalArrayResultsInAnEmptyColumn()
+    {
+        assertEquals(List.of(), DataPath.getStringList(DOMAINS, "data.missing?[*].name"));
+        assertArrayEquals(new int[0], DataPath.getIntArray(DOMAINS, "data.missing?[*].uploads"));
+    }
+
+    @Test
+    void missingRequiredElementOfAColumnFails()
+    {
+        assertThrows(ParsingException.class, () -> DataPath.getStringList(DOMAINS, "data.domains[*].name"));
+    }
+
+    @Test
+    void invalidWildcardUsageIsRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> DataPath.compile("data[*].domains[*].name"));
+        assertThrows(IllegalArgumentException.class, () -> DataPath.getString(DOMAINS, "data.domains[*].name"));
+        assertThrows(IllegalArgumentException.class, () -> DataPath.getStringList(DOMAINS, "data.domains[0].name"));
+    }
+}